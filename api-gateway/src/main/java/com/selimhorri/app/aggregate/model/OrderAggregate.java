@@ -0,0 +1,21 @@
+package com.selimhorri.app.aggregate.model;
+
+import java.util.List;
+
+import com.fasterxml.jackson.databind.JsonNode;
+
+import lombok.Value;
+
+/**
+ * An order with its items and payments, as returned by the services that own them. A part
+ * whose service failed or did not answer in time is null and named in {@code unavailable}.
+ */
+@Value
+public class OrderAggregate {
+	
+	JsonNode order;
+	JsonNode orderItems;
+	JsonNode payments;
+	List<String> unavailable;
+	
+}
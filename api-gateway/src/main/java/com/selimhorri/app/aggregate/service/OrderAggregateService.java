@@ -0,0 +1,11 @@
+package com.selimhorri.app.aggregate.service;
+
+import com.selimhorri.app.aggregate.model.OrderAggregate;
+
+import reactor.core.publisher.Mono;
+
+public interface OrderAggregateService {
+	
+	Mono<OrderAggregate> findByOrderId(final Integer orderId, final String authorization);
+	
+}
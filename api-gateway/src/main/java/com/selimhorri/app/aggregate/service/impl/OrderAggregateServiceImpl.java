@@ -0,0 +1,115 @@
+package com.selimhorri.app.aggregate.service.impl;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.springframework.http.HttpHeaders;
+import org.springframework.stereotype.Service;
+import org.springframework.web.reactive.function.client.WebClient;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.node.MissingNode;
+import com.selimhorri.app.aggregate.model.OrderAggregate;
+import com.selimhorri.app.aggregate.service.OrderAggregateService;
+import com.selimhorri.app.config.aggregate.AggregateProperties;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import reactor.core.publisher.Mono;
+
+/**
+ * Fetches an order, its items and its payments from their services at the same time and
+ * merges them. Each call has its own timeout: a part that fails or is late is left out of the
+ * document, so a slow payment-service costs the page its payments, not the whole page. A 4xx
+ * from order-service is the only failure passed on, since without the order there is no
+ * document to return.
+ */
+@Service
+@Slf4j
+public class OrderAggregateServiceImpl implements OrderAggregateService {
+	
+	private static final String ORDER = "order";
+	private static final String ORDER_ITEMS = "orderItems";
+	private static final String PAYMENTS = "payments";
+	
+	private final WebClient aggregateWebClient;
+	private final AggregateProperties aggregateProperties;
+	private final MeterRegistry meterRegistry;
+	
+	public OrderAggregateServiceImpl(final WebClient aggregateWebClient, final AggregateProperties aggregateProperties,
+			final MeterRegistry meterRegistry) {
+		this.aggregateWebClient = aggregateWebClient;
+		this.aggregateProperties = aggregateProperties;
+		this.meterRegistry = meterRegistry;
+	}
+	
+	/**
+	 * @throws WebClientResponseException through the returned {@link Mono} when order-service
+	 * answers with a client error, such as an unknown order
+	 */
+	@Override
+	public Mono<OrderAggregate> findByOrderId(final Integer orderId, final String authorization) {
+		final Mono<JsonNode> order = this.part(ORDER, this.get(authorization,
+				this.aggregateProperties.getOrderServiceUrl() + "/api/orders/{orderId}", orderId));
+		final Mono<JsonNode> orderItems = this.part(ORDER_ITEMS, this.get(authorization,
+				this.aggregateProperties.getShippingServiceUrl() + "/api/shippings?orderId={orderId}", orderId)
+				.map(body -> body.path("collection")));
+		final Mono<JsonNode> payments = this.part(PAYMENTS, this.get(authorization,
+				this.aggregateProperties.getPaymentServiceUrl() + "/api/payments?orderId={orderId}", orderId)
+				.map(body -> body.path("collection")));
+		
+		return Mono.zip(order, orderItems, payments)
+				.map(parts -> {
+					final List<String> unavailable = new ArrayList<>(3);
+					return new OrderAggregate(
+							available(ORDER, parts.getT1(), unavailable),
+							available(ORDER_ITEMS, parts.getT2(), unavailable),
+							available(PAYMENTS, parts.getT3(), unavailable),
+							unavailable);
+				});
+	}
+	
+	private Mono<JsonNode> get(final String authorization, final String uri, final Object... uriVariables) {
+		return this.aggregateWebClient.get()
+				.uri(uri, uriVariables)
+				.headers(headers -> {
+					if (authorization != null) {
+						headers.set(HttpHeaders.AUTHORIZATION, authorization);
+					}
+				})
+				.retrieve()
+				.bodyToMono(JsonNode.class);
+	}
+	
+	/**
+	 * Bounds one call by the timeout and turns its failure into a missing part, except for a
+	 * client error on the order itself.
+	 */
+	private Mono<JsonNode> part(final String name, final Mono<JsonNode> call) {
+		return call.timeout(this.aggregateProperties.getTimeout())
+				.defaultIfEmpty(MissingNode.getInstance())
+				.onErrorResume(e -> !(ORDER.equals(name) && e instanceof WebClientResponseException
+						&& ((WebClientResponseException) e).getStatusCode().is4xxClientError()), e -> {
+					log.warn("** Aggregate part {} unavailable: {}*\n", name, e.toString());
+					Counter.builder("gateway.aggregate.parts.unavailable")
+							.description("Parts left out of aggregated documents after a failure or timeout")
+							.tag("part", name)
+							.register(this.meterRegistry)
+							.increment();
+					return Mono.just(MissingNode.getInstance());
+				});
+	}
+	
+	private static JsonNode available(final String name, final JsonNode part, final List<String> unavailable) {
+		if (part.isMissingNode()) {
+			unavailable.add(name);
+			return null;
+		}
+		return part;
+	}
+	
+	
+	
+}
@@ -0,0 +1,14 @@
+package com.selimhorri.app.cache.model;
+
+import org.springframework.http.HttpHeaders;
+
+import lombok.Value;
+
+@Value
+public class CachedResponse {
+	
+	String etag;
+	HttpHeaders headers;
+	byte[] body;
+	
+}
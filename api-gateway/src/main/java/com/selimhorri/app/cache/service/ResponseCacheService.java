@@ -0,0 +1,13 @@
+package com.selimhorri.app.cache.service;
+
+import com.selimhorri.app.cache.model.CachedResponse;
+
+public interface ResponseCacheService {
+	
+	String findRoute(final String path);
+	CachedResponse get(final String route, final String key);
+	long generation(final String route);
+	void put(final String route, final String key, final long generation, final CachedResponse cachedResponse);
+	void invalidate(final String route);
+	
+}
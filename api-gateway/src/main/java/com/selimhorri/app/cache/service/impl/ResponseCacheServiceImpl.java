@@ -0,0 +1,113 @@
+package com.selimhorri.app.cache.service.impl;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.springframework.stereotype.Service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.selimhorri.app.cache.model.CachedResponse;
+import com.selimhorri.app.cache.service.ResponseCacheService;
+import com.selimhorri.app.config.cache.ResponseCacheProperties;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Bounded store of GET responses, weighed by body size. Every route carries a generation that
+ * is bumped on invalidation and is part of the key of its responses, so a response fetched while a
+ * write was in flight is tagged with the older generation and cannot outlive the write. The keys
+ * are also indexed per route, so an invalidation only removes the entries of its own route
+ * instead of scanning the whole cache.
+ */
+@Service
+@Slf4j
+public class ResponseCacheServiceImpl implements ResponseCacheService {
+	
+	private final Cache<String, CachedResponse> responses;
+	private final List<Map.Entry<String, String>> prefixes = new ArrayList<>();
+	private final Map<String, AtomicLong> generations = new ConcurrentHashMap<>();
+	private final Map<String, Set<String>> routeKeys = new ConcurrentHashMap<>();
+	
+	public ResponseCacheServiceImpl(final ResponseCacheProperties responseCacheProperties, final MeterRegistry meterRegistry) {
+		this.responses = CaffeineCacheMetrics.monitor(meterRegistry, Caffeine.newBuilder()
+				.maximumWeight(responseCacheProperties.getMaximumSize().toBytes())
+				.<String, CachedResponse>weigher((key, cachedResponse) -> key.length() + cachedResponse.getBody().length)
+				.expireAfterWrite(responseCacheProperties.getTimeToLive())
+				.<String, CachedResponse>evictionListener((cacheKey, cachedResponse, cause) -> this.unindex(cacheKey))
+				.recordStats()
+				.build(), "gatewayResponses");
+		responseCacheProperties.getRoutes().forEach((route, routePrefixes) -> {
+			this.generations.put(route, new AtomicLong());
+			this.routeKeys.put(route, ConcurrentHashMap.newKeySet());
+			routePrefixes.forEach(prefix -> this.prefixes.add(Map.entry(prefix, route)));
+		});
+	}
+	
+	@Override
+	public String findRoute(final String path) {
+		for (final Map.Entry<String, String> prefix : this.prefixes) {
+			final String value = prefix.getKey();
+			if (path.startsWith(value) && (path.length() == value.length() || path.charAt(value.length()) == '/')) {
+				return prefix.getValue();
+			}
+		}
+		return null;
+	}
+	
+	@Override
+	public CachedResponse get(final String route, final String key) {
+		return this.responses.getIfPresent(cacheKey(route, this.generation(route), key));
+	}
+	
+	@Override
+	public long generation(final String route) {
+		return this.generations.get(route).get();
+	}
+	
+	@Override
+	public void put(final String route, final String key, final long generation, final CachedResponse cachedResponse) {
+		if (this.generation(route) != generation) {
+			return;
+		}
+		final String cacheKey = cacheKey(route, generation, key);
+		this.routeKeys.get(route).add(cacheKey);
+		this.responses.put(cacheKey, cachedResponse);
+		// an invalidation may have run between the check and the put, the entry is unreachable then
+		if (this.generation(route) != generation) {
+			this.responses.invalidate(cacheKey);
+		}
+	}
+	
+	@Override
+	public void invalidate(final String route) {
+		log.debug("** Void, response cache service; invalidate route: {}*\n", route);
+		this.generations.get(route).incrementAndGet();
+		final Set<String> cacheKeys = this.routeKeys.get(route);
+		for (final Iterator<String> iterator = cacheKeys.iterator(); iterator.hasNext();) {
+			this.responses.invalidate(iterator.next());
+			iterator.remove();
+		}
+	}
+	
+	private void unindex(final String cacheKey) {
+		final Set<String> cacheKeys = this.routeKeys.get(cacheKey.substring(0, cacheKey.indexOf(' ')));
+		if (cacheKeys != null) {
+			cacheKeys.remove(cacheKey);
+		}
+	}
+	
+	private static String cacheKey(final String route, final long generation, final String key) {
+		return route + ' ' + generation + ' ' + key;
+	}
+	
+	
+	
+}
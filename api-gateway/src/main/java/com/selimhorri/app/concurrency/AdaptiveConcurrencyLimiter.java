@@ -0,0 +1,128 @@
+package com.selimhorri.app.concurrency;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+
+import com.selimhorri.app.config.concurrency.ConcurrencyLimiterProperties;
+
+/**
+ * Concurrency limit of one route, adjusted from the latency of its responses with a gradient
+ * algorithm. Each response time is compared with the no-load latency of the route, the lowest
+ * one seen over the last two windows of samples: while responses stay within the tolerance of
+ * it the limit grows by its square root per round trip, and once they get slower the limit is
+ * cut in proportion, by half at most. Requests beyond the limit are refused at once instead of
+ * queueing behind the slow ones. A failed or timed out request cuts the limit by a tenth.
+ * <p>
+ * The limit is cut at most once per round trip: responses to requests sent before the last
+ * cut were queued under the old limit and say nothing about the new one. Taking the baseline
+ * over windows rather than since startup lets it follow a service whose normal latency has
+ * really changed. The limit only grows while at least half of it is in use, so an idle route
+ * does not build up a limit it has never been tested at.
+ */
+public class AdaptiveConcurrencyLimiter {
+	
+	private static final double DROP_BACKOFF = 0.9;
+	
+	private final int minLimit;
+	private final int maxLimit;
+	private final double rttTolerance;
+	private final int window;
+	private final LongSupplier nanoTime;
+	
+	private final AtomicInteger inFlight = new AtomicInteger();
+	private final AtomicLong shed = new AtomicLong();
+	private volatile int limit;
+	
+	// guarded by this
+	private double estimatedLimit;
+	private double windowMinRtt = Double.MAX_VALUE;
+	private double previousWindowMinRtt = Double.MAX_VALUE;
+	private int windowSamples;
+	private long lastDecreaseAt;
+	
+	public AdaptiveConcurrencyLimiter(final ConcurrencyLimiterProperties concurrencyLimiterProperties) {
+		this(concurrencyLimiterProperties, System::nanoTime);
+	}
+	
+	AdaptiveConcurrencyLimiter(final ConcurrencyLimiterProperties concurrencyLimiterProperties, final LongSupplier nanoTime) {
+		this.minLimit = concurrencyLimiterProperties.getMinLimit();
+		this.maxLimit = concurrencyLimiterProperties.getMaxLimit();
+		this.rttTolerance = concurrencyLimiterProperties.getRttTolerance();
+		this.window = concurrencyLimiterProperties.getWindow();
+		this.estimatedLimit = concurrencyLimiterProperties.getInitialLimit();
+		this.limit = concurrencyLimiterProperties.getInitialLimit();
+		this.nanoTime = nanoTime;
+		this.lastDecreaseAt = nanoTime.getAsLong();
+	}
+	
+	/**
+	 * @return whether the request may proceed; when it does, {@link #release(long, boolean)} must follow
+	 */
+	public boolean tryAcquire() {
+		int current;
+		do {
+			current = this.inFlight.get();
+			if (current >= this.limit) {
+				this.shed.incrementAndGet();
+				return false;
+			}
+		} while (!this.inFlight.compareAndSet(current, current + 1));
+		return true;
+	}
+	
+	public void release(final long rttNanos, final boolean dropped) {
+		final int inFlightAtCompletion = this.inFlight.getAndDecrement();
+		if (dropped) {
+			this.onDropped();
+		}
+		else if (rttNanos > 0) {
+			this.onSample(rttNanos, inFlightAtCompletion, this.nanoTime.getAsLong());
+		}
+	}
+	
+	private synchronized void onDropped() {
+		this.updateLimit(this.estimatedLimit * DROP_BACKOFF);
+		this.lastDecreaseAt = this.nanoTime.getAsLong();
+	}
+	
+	private synchronized void onSample(final long rtt, final int inFlightAtCompletion, final long now) {
+		this.windowMinRtt = Math.min(this.windowMinRtt, rtt);
+		final double baselineRtt = Math.min(this.windowMinRtt, this.previousWindowMinRtt);
+		if (++this.windowSamples >= this.window) {
+			this.previousWindowMinRtt = this.windowMinRtt;
+			this.windowMinRtt = Double.MAX_VALUE;
+			this.windowSamples = 0;
+		}
+		final double gradient = Math.max(0.5, this.rttTolerance * baselineRtt / rtt);
+		if (gradient < 1.0) {
+			if (now - rtt - this.lastDecreaseAt >= 0) {
+				this.updateLimit(this.estimatedLimit * gradient);
+				this.lastDecreaseAt = now;
+			}
+		}
+		else if (inFlightAtCompletion >= this.estimatedLimit / 2) {
+			this.updateLimit(this.estimatedLimit + 1 / Math.sqrt(this.estimatedLimit));
+		}
+	}
+	
+	private void updateLimit(final double newLimit) {
+		this.estimatedLimit = Math.max(this.minLimit, Math.min(this.maxLimit, newLimit));
+		this.limit = (int) this.estimatedLimit;
+	}
+	
+	public int getLimit() {
+		return this.limit;
+	}
+	
+	public int getInFlight() {
+		return this.inFlight.get();
+	}
+	
+	public long getShed() {
+		return this.shed.get();
+	}
+	
+	
+	
+}
@@ -0,0 +1,26 @@
+package com.selimhorri.app.config.aggregate;
+
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.cloud.client.loadbalancer.reactive.LoadBalancedExchangeFilterFunction;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.reactive.function.client.WebClient;
+
+@Configuration
+@EnableConfigurationProperties(AggregateProperties.class)
+public class AggregateConfig {
+	
+	/**
+	 * Resolves service names through the load balancer, like the {@code lb://} routes.
+	 */
+	@Bean
+	public WebClient aggregateWebClient(final WebClient.Builder webClientBuilder, 
+			final LoadBalancedExchangeFilterFunction loadBalancedExchangeFilterFunction) {
+		return webClientBuilder
+				.filter(loadBalancedExchangeFilterFunction)
+				.build();
+	}
+	
+	
+	
+}
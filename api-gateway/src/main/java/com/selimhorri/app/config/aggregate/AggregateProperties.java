@@ -0,0 +1,22 @@
+package com.selimhorri.app.config.aggregate;
+
+import java.time.Duration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import lombok.Data;
+
+/**
+ * Downstream services of the aggregation routes, as load-balanced base URLs, and how long
+ * each of them is waited for before the document is returned without its part.
+ */
+@Data
+@ConfigurationProperties(prefix = "app.aggregate")
+public class AggregateProperties {
+	
+	private Duration timeout = Duration.ofSeconds(2);
+	private String orderServiceUrl = "http://ORDER-SERVICE/order-service";
+	private String shippingServiceUrl = "http://SHIPPING-SERVICE/shipping-service";
+	private String paymentServiceUrl = "http://PAYMENT-SERVICE/payment-service";
+	
+}
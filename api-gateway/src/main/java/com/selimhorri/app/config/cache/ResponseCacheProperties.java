@@ -0,0 +1,25 @@
+package com.selimhorri.app.config.cache;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.util.unit.DataSize;
+
+import lombok.Data;
+
+/**
+ * GET responses cached at the edge. Each route is a named group of path prefixes; a write
+ * to any prefix of a group drops every cached response of that group.
+ */
+@Data
+@ConfigurationProperties(prefix = "app.response-cache")
+public class ResponseCacheProperties {
+	
+	private Duration timeToLive = Duration.ofSeconds(30);
+	private DataSize maximumSize = DataSize.ofMegabytes(32);
+	private Map<String, List<String>> routes = new LinkedHashMap<>();
+	
+}
@@ -0,0 +1,12 @@
+package com.selimhorri.app.config.concurrency;
+
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+@EnableConfigurationProperties(ConcurrencyLimiterProperties.class)
+public class ConcurrencyLimiterConfig {
+	
+	
+	
+}
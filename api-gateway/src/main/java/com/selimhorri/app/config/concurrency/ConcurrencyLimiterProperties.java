@@ -0,0 +1,24 @@
+package com.selimhorri.app.config.concurrency;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import lombok.Data;
+
+/**
+ * Bounds and tuning of the adaptive concurrency limit kept for every route. The limit starts
+ * at the initial value and moves between the minimum and maximum as latency changes. The
+ * tolerance is how much slower than its no-load latency, the lowest seen over the last window
+ * of samples, a route may get before the limit is cut.
+ */
+@Data
+@ConfigurationProperties(prefix = "app.concurrency-limiter")
+public class ConcurrencyLimiterProperties {
+	
+	private boolean enabled = true;
+	private int initialLimit = 20;
+	private int minLimit = 5;
+	private int maxLimit = 200;
+	private double rttTolerance = 1.5;
+	private int window = 600;
+	
+}
@@ -0,0 +1,14 @@
+package com.selimhorri.app.config.jwt;
+
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+import com.selimhorri.app.config.cache.CacheInvalidationProperties;
+
+@Configuration
+@EnableConfigurationProperties({ JwtProperties.class, CacheInvalidationProperties.class })
+public class JwtConfig {
+	
+	
+	
+}
@@ -0,0 +1,31 @@
+package com.selimhorri.app.config.jwt;
+
+import java.time.Duration;
+import java.util.List;
+
+import javax.validation.constraints.NotBlank;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.validation.annotation.Validated;
+
+import lombok.Data;
+
+/**
+ * Verification of bearer tokens at the edge. The secret must be the one proxy-client signs
+ * tokens with, and has no default: the gateway does not start without one. Requests on an anonymous path may come without a token, every other path
+ * requires one; a token that is present is verified on any path. A revocation by username is
+ * kept for the longest token lifetime proxy-client issues with.
+ */
+@Data
+@Validated
+@ConfigurationProperties(prefix = "app.jwt")
+public class JwtProperties {
+	
+	@NotBlank
+	private String secret;
+	private String identityHeader = "X-Authenticated-User";
+	private long verifiedTokenCacheSize = 10_000;
+	private Duration tokenLifetime = Duration.ofHours(10);
+	private List<String> anonymousPaths = List.of("/app/**", "/actuator/**");
+	
+}
@@ -0,0 +1,21 @@
+package com.selimhorri.app.config.loadbalancer;
+
+import java.time.Duration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import lombok.Data;
+
+/**
+ * Tuning of the power-of-two-choices load balancer. The latency decay is the time over which
+ * the average latency of an instance forgets a slow response; shorter periods bring a replica
+ * that has recovered back into use sooner, at the cost of trusting it again after a single
+ * fast answer.
+ */
+@Data
+@ConfigurationProperties(prefix = "app.load-balancer")
+public class PowerOfTwoChoicesProperties {
+	
+	private Duration latencyDecay = Duration.ofSeconds(10);
+	
+}
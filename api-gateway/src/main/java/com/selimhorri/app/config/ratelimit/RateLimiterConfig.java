@@ -0,0 +1,12 @@
+package com.selimhorri.app.config.ratelimit;
+
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+@EnableConfigurationProperties(RateLimiterProperties.class)
+public class RateLimiterConfig {
+	
+	
+	
+}
@@ -0,0 +1,23 @@
+package com.selimhorri.app.config.ratelimit;
+
+import java.time.Duration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import lombok.Data;
+
+/**
+ * Limits of routes whose RequestRateLimiter filter sets no {@code local-rate-limiter.*} args,
+ * and the bounds of the bucket store. A bucket left idle for the idle timeout is dropped; it
+ * would have refilled by then unless the burst takes longer than that to replenish.
+ */
+@Data
+@ConfigurationProperties(prefix = "app.rate-limiter")
+public class RateLimiterProperties {
+	
+	private int replenishRate = 100;
+	private int burstCapacity = 200;
+	private long maximumBuckets = 100_000;
+	private Duration idleTimeout = Duration.ofMinutes(10);
+	
+}
@@ -0,0 +1,109 @@
+package com.selimhorri.app.filter;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.springframework.cloud.gateway.filter.GatewayFilterChain;
+import org.springframework.cloud.gateway.filter.GlobalFilter;
+import org.springframework.cloud.gateway.filter.ReactiveLoadBalancerClientFilter;
+import org.springframework.cloud.gateway.route.Route;
+import org.springframework.cloud.gateway.support.ServerWebExchangeUtils;
+import org.springframework.core.Ordered;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.server.reactive.ServerHttpResponse;
+import org.springframework.stereotype.Component;
+import org.springframework.web.server.ServerWebExchange;
+
+import com.selimhorri.app.concurrency.AdaptiveConcurrencyLimiter;
+import com.selimhorri.app.config.concurrency.ConcurrencyLimiterProperties;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.SignalType;
+
+/**
+ * Sheds load per route with an {@link AdaptiveConcurrencyLimiter}: a request over the current
+ * limit of its route is answered 503 at once rather than queued in front of a slow service.
+ * The time from admission to the end of the response feeds the limit; an error, or a 502, 503
+ * or 504 from downstream, counts as a drop. A cancelled request is not sampled.
+ */
+@Component
+@Slf4j
+public class ConcurrencyLimitFilter implements GlobalFilter, Ordered {
+	
+	private final ConcurrencyLimiterProperties concurrencyLimiterProperties;
+	private final MeterRegistry meterRegistry;
+	private final Map<String, AdaptiveConcurrencyLimiter> limiters = new ConcurrentHashMap<>();
+	
+	public ConcurrencyLimitFilter(final ConcurrencyLimiterProperties concurrencyLimiterProperties, final MeterRegistry meterRegistry) {
+		this.concurrencyLimiterProperties = concurrencyLimiterProperties;
+		this.meterRegistry = meterRegistry;
+	}
+	
+	@Override
+	public Mono<Void> filter(final ServerWebExchange exchange, final GatewayFilterChain chain) {
+		final Route route = exchange.getAttribute(ServerWebExchangeUtils.GATEWAY_ROUTE_ATTR);
+		if (!this.concurrencyLimiterProperties.isEnabled() || route == null) {
+			return chain.filter(exchange);
+		}
+		
+		final AdaptiveConcurrencyLimiter limiter = this.limiters.computeIfAbsent(route.getId(), this::newLimiter);
+		if (!limiter.tryAcquire()) {
+			log.debug("** Shed request on route: {}, limit: {}*\n", route.getId(), limiter.getLimit());
+			final ServerHttpResponse response = exchange.getResponse();
+			response.setStatusCode(HttpStatus.SERVICE_UNAVAILABLE);
+			response.getHeaders().set(HttpHeaders.RETRY_AFTER, "1");
+			return response.setComplete();
+		}
+		
+		final long start = System.nanoTime();
+		return chain.filter(exchange)
+				.doFinally(signal -> {
+					if (signal == SignalType.CANCEL) {
+						limiter.release(0, false);
+					}
+					else {
+						limiter.release(System.nanoTime() - start,
+								signal == SignalType.ON_ERROR || isOverloaded(exchange.getResponse().getStatusCode()));
+					}
+				});
+	}
+	
+	/**
+	 * Runs right before an instance is picked, after the routes' own filters such as rate limiting.
+	 */
+	@Override
+	public int getOrder() {
+		return ReactiveLoadBalancerClientFilter.LOAD_BALANCER_CLIENT_FILTER_ORDER - 1;
+	}
+	
+	private static boolean isOverloaded(final HttpStatus status) {
+		return status == HttpStatus.BAD_GATEWAY
+				|| status == HttpStatus.SERVICE_UNAVAILABLE
+				|| status == HttpStatus.GATEWAY_TIMEOUT;
+	}
+	
+	private AdaptiveConcurrencyLimiter newLimiter(final String routeId) {
+		final AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter(this.concurrencyLimiterProperties);
+		Gauge.builder("gateway.concurrency.limit", limiter, AdaptiveConcurrencyLimiter::getLimit)
+				.description("Current adaptive concurrency limit of the route")
+				.tag("route", routeId)
+				.register(this.meterRegistry);
+		Gauge.builder("gateway.concurrency.in.flight", limiter, AdaptiveConcurrencyLimiter::getInFlight)
+				.description("Requests of the route waiting for a downstream response")
+				.tag("route", routeId)
+				.register(this.meterRegistry);
+		FunctionCounter.builder("gateway.concurrency.shed", limiter, AdaptiveConcurrencyLimiter::getShed)
+				.description("Requests of the route refused with 503 over the concurrency limit")
+				.tag("route", routeId)
+				.register(this.meterRegistry);
+		return limiter;
+	}
+	
+	
+	
+}
@@ -0,0 +1,120 @@
+package com.selimhorri.app.filter;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+import org.springframework.cloud.gateway.filter.GatewayFilterChain;
+import org.springframework.cloud.gateway.filter.GlobalFilter;
+import org.springframework.core.Ordered;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.server.PathContainer;
+import org.springframework.http.server.reactive.ServerHttpRequest;
+import org.springframework.http.server.reactive.ServerHttpResponse;
+import org.springframework.stereotype.Component;
+import org.springframework.web.server.ServerWebExchange;
+import org.springframework.web.util.pattern.PathPattern;
+import org.springframework.web.util.pattern.PathPatternParser;
+
+import com.selimhorri.app.config.jwt.JwtProperties;
+import com.selimhorri.app.jwt.model.VerifiedToken;
+import com.selimhorri.app.jwt.service.TokenVerificationService;
+
+import io.jsonwebtoken.JwtException;
+import lombok.extern.slf4j.Slf4j;
+import reactor.core.publisher.Mono;
+
+/**
+ * Authenticates requests on the event loop before they are routed. A bad or expired token,
+ * or a missing one outside the anonymous paths, is answered with 401 here and never takes a
+ * connection to a downstream service. A verified request is forwarded with the username in
+ * the identity header; any value the client sent in that header is dropped.
+ */
+@Component
+@Slf4j
+public class JwtVerificationFilter implements GlobalFilter, Ordered {
+	
+	private static final String BEARER_PREFIX = "Bearer ";
+	
+	private final TokenVerificationService tokenVerificationService;
+	private final String identityHeader;
+	private final List<PathPattern> anonymousPaths;
+	
+	public JwtVerificationFilter(final TokenVerificationService tokenVerificationService, final JwtProperties jwtProperties) {
+		this.tokenVerificationService = tokenVerificationService;
+		this.identityHeader = jwtProperties.getIdentityHeader();
+		this.anonymousPaths = jwtProperties.getAnonymousPaths().stream()
+				.map(PathPatternParser.defaultInstance::parse)
+				.collect(Collectors.toUnmodifiableList());
+	}
+	
+	@Override
+	public Mono<Void> filter(final ServerWebExchange exchange, final GatewayFilterChain chain) {
+		final ServerHttpRequest request = exchange.getRequest();
+		if (HttpMethod.OPTIONS.equals(request.getMethod())) {
+			return chain.filter(this.withIdentity(exchange, null));
+		}
+		
+		final String authorizationHeader = request.getHeaders().getFirst(HttpHeaders.AUTHORIZATION);
+		if (authorizationHeader == null || !authorizationHeader.startsWith(BEARER_PREFIX)) {
+			if (this.isAnonymous(request.getPath().pathWithinApplication())) {
+				return chain.filter(this.withIdentity(exchange, null));
+			}
+			return unauthorized(exchange);
+		}
+		
+		final VerifiedToken verifiedToken;
+		try {
+			verifiedToken = this.tokenVerificationService.verify(authorizationHeader.substring(BEARER_PREFIX.length()));
+		} catch (JwtException | IllegalArgumentException e) {
+			log.warn("**Rejected bearer token at the edge: {}*\n", e.getMessage());
+			return unauthorized(exchange);
+		}
+		if (verifiedToken.getUsername() == null) {
+			return unauthorized(exchange);
+		}
+		return chain.filter(this.withIdentity(exchange, verifiedToken.getUsername()));
+	}
+	
+	/**
+	 * Runs ahead of the routing filters, so a rejected request never reaches the load balancer.
+	 */
+	@Override
+	public int getOrder() {
+		return Ordered.HIGHEST_PRECEDENCE;
+	}
+	
+	private boolean isAnonymous(final PathContainer path) {
+		for (final PathPattern pattern : this.anonymousPaths) {
+			if (pattern.matches(path)) {
+				return true;
+			}
+		}
+		return false;
+	}
+	
+	private ServerWebExchange withIdentity(final ServerWebExchange exchange, final String username) {
+		if (username == null && !exchange.getRequest().getHeaders().containsKey(this.identityHeader)) {
+			return exchange;
+		}
+		return exchange.mutate()
+				.request(builder -> builder.headers(headers -> {
+					headers.remove(this.identityHeader);
+					if (username != null) {
+						headers.set(this.identityHeader, username);
+					}
+				}))
+				.build();
+	}
+	
+	private static Mono<Void> unauthorized(final ServerWebExchange exchange) {
+		final ServerHttpResponse response = exchange.getResponse();
+		response.setStatusCode(HttpStatus.UNAUTHORIZED);
+		response.getHeaders().set(HttpHeaders.WWW_AUTHENTICATE, "Bearer");
+		return response.setComplete();
+	}
+	
+	
+	
+}
@@ -0,0 +1,242 @@
+package com.selimhorri.app.filter;
+
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.List;
+
+import org.reactivestreams.Publisher;
+import org.springframework.cloud.gateway.filter.GatewayFilterChain;
+import org.springframework.cloud.gateway.filter.GlobalFilter;
+import org.springframework.cloud.gateway.filter.NettyWriteResponseFilter;
+import org.springframework.core.Ordered;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferUtils;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.InvalidMediaTypeException;
+import org.springframework.http.MediaType;
+import org.springframework.http.server.reactive.ServerHttpRequest;
+import org.springframework.http.server.reactive.ServerHttpResponse;
+import org.springframework.http.server.reactive.ServerHttpResponseDecorator;
+import org.springframework.stereotype.Component;
+import org.springframework.web.server.ServerWebExchange;
+
+import com.selimhorri.app.cache.model.CachedResponse;
+import com.selimhorri.app.cache.service.ResponseCacheService;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * Serves GET requests of the cached routes from {@link ResponseCacheService}, and answers
+ * {@code If-None-Match} with 304 when the client already holds the current body. A miss is
+ * forwarded, and a successful, non private JSON response is stored with an ETag computed from its
+ * body. Responses are keyed by path, query and {@code Accept}, and a request that does not take
+ * JSON, such as an NDJSON export of the same path, bypasses the cache. Any other method on a cached
+ * route drops the responses of that route once it has completed with a 2xx status, so a rejected
+ * write leaves them in place; a read fetched while the write was in flight cannot outlive it.
+ * <p>
+ * Runs after {@link JwtVerificationFilter}, so a cached response is only served to a request
+ * that would have been let through anyway.
+ */
+@Component
+public class ResponseCacheFilter implements GlobalFilter, Ordered {
+	
+	private static final List<String> CACHED_HEADERS = List.of(
+			HttpHeaders.CONTENT_TYPE, 
+			HttpHeaders.CONTENT_ENCODING, 
+			HttpHeaders.CONTENT_LANGUAGE, 
+			HttpHeaders.LAST_MODIFIED);
+	
+	private final ResponseCacheService responseCacheService;
+	private final Counter downstreamBytesSaved;
+	private final Counter clientBytesSaved;
+	
+	public ResponseCacheFilter(final ResponseCacheService responseCacheService, final MeterRegistry meterRegistry) {
+		this.responseCacheService = responseCacheService;
+		this.downstreamBytesSaved = bytesSavedCounter(meterRegistry, "cache-hit");
+		this.clientBytesSaved = bytesSavedCounter(meterRegistry, "not-modified");
+	}
+	
+	private static Counter bytesSavedCounter(final MeterRegistry meterRegistry, final String reason) {
+		return Counter.builder("gateway.response.cache.bytes.saved")
+				.description("Body bytes not fetched from downstream (cache-hit) or not sent to the client (not-modified)")
+				.baseUnit("bytes")
+				.tag("reason", reason)
+				.register(meterRegistry);
+	}
+	
+	@Override
+	public Mono<Void> filter(final ServerWebExchange exchange, final GatewayFilterChain chain) {
+		final ServerHttpRequest request = exchange.getRequest();
+		final String route = this.responseCacheService.findRoute(request.getPath().pathWithinApplication().value());
+		if (route == null || HttpMethod.HEAD.equals(request.getMethod()) || HttpMethod.OPTIONS.equals(request.getMethod())) {
+			return chain.filter(exchange);
+		}
+		
+		if (!HttpMethod.GET.equals(request.getMethod())) {
+			return chain.filter(exchange)
+					.doFinally(signal -> {
+						final HttpStatus status = exchange.getResponse().getStatusCode();
+						if (status != null && status.is2xxSuccessful()) {
+							this.responseCacheService.invalidate(route);
+						}
+					});
+		}
+		
+		final List<String> requestCacheControl = request.getHeaders().getOrEmpty(HttpHeaders.CACHE_CONTROL);
+		if (requestCacheControl.stream().anyMatch(value -> value.contains("no-cache") || value.contains("no-store"))
+				|| !acceptsJson(request)) {
+			return chain.filter(exchange);
+		}
+		
+		final String uri = request.getURI().getRawQuery() == null 
+				? request.getURI().getRawPath() 
+				: request.getURI().getRawPath() + '?' + request.getURI().getRawQuery();
+		final String key = uri + ' ' + String.join(",", request.getHeaders().getOrEmpty(HttpHeaders.ACCEPT));
+		final CachedResponse cachedResponse = this.responseCacheService.get(route, key);
+		if (cachedResponse != null) {
+			this.downstreamBytesSaved.increment(cachedResponse.getBody().length);
+			return this.writeCached(exchange, cachedResponse);
+		}
+		
+		final long generation = this.responseCacheService.generation(route);
+		return chain.filter(exchange.mutate()
+				.response(new CachingResponse(exchange, route, key, generation))
+				.build());
+	}
+	
+	/**
+	 * Wraps the response before {@link NettyWriteResponseFilter} writes the downstream body to it.
+	 */
+	@Override
+	public int getOrder() {
+		return NettyWriteResponseFilter.WRITE_RESPONSE_FILTER_ORDER - 1;
+	}
+	
+	private Mono<Void> writeCached(final ServerWebExchange exchange, final CachedResponse cachedResponse) {
+		final ServerHttpResponse response = exchange.getResponse();
+		response.getHeaders().setETag(cachedResponse.getEtag());
+		if (isNotModified(exchange.getRequest(), cachedResponse.getEtag())) {
+			this.clientBytesSaved.increment(cachedResponse.getBody().length);
+			response.setStatusCode(HttpStatus.NOT_MODIFIED);
+			return response.setComplete();
+		}
+		response.setStatusCode(HttpStatus.OK);
+		response.getHeaders().putAll(cachedResponse.getHeaders());
+		response.getHeaders().setContentLength(cachedResponse.getBody().length);
+		return response.writeWith(Mono.just(response.bufferFactory().wrap(cachedResponse.getBody())));
+	}
+	
+	private static boolean isNotModified(final ServerHttpRequest request, final String etag) {
+		final List<String> ifNoneMatch;
+		try {
+			ifNoneMatch = request.getHeaders().getIfNoneMatch();
+		} catch (IllegalArgumentException e) {
+			return false;
+		}
+		for (final String candidate : ifNoneMatch) {
+			if ("*".equals(candidate) || etag.equals(candidate.startsWith("W/") ? candidate.substring(2) : candidate)) {
+				return true;
+			}
+		}
+		return false;
+	}
+	
+	private static boolean acceptsJson(final ServerHttpRequest request) {
+		try {
+			final List<MediaType> accept = request.getHeaders().getAccept();
+			return accept.isEmpty() || accept.stream().anyMatch(MediaType.APPLICATION_JSON::isCompatibleWith);
+		} catch (InvalidMediaTypeException e) {
+			return false;
+		}
+	}
+	
+	private static boolean isCacheable(final HttpHeaders headers) {
+		if (headers.containsKey(HttpHeaders.SET_COOKIE)) {
+			return false;
+		}
+		final MediaType contentType = headers.getContentType();
+		if (contentType == null || !MediaType.APPLICATION_JSON.isCompatibleWith(contentType)) {
+			return false;
+		}
+		final String cacheControl = headers.getCacheControl();
+		return cacheControl == null 
+				|| !(cacheControl.contains("no-store") || cacheControl.contains("private") || cacheControl.contains("no-cache"));
+	}
+	
+	private static String etag(final byte[] body) {
+		try {
+			final byte[] digest = MessageDigest.getInstance("SHA-256").digest(body);
+			return '"' + Base64.getUrlEncoder().withoutPadding().encodeToString(Arrays.copyOf(digest, 16)) + '"';
+		} catch (NoSuchAlgorithmException e) {
+			throw new IllegalStateException(e);
+		}
+	}
+	
+	/**
+	 * Buffers a cacheable downstream body, stores it and writes it on, or answers 304 in its place.
+	 */
+	private final class CachingResponse extends ServerHttpResponseDecorator {
+		
+		private final ServerHttpRequest request;
+		private final String route;
+		private final String key;
+		private final long generation;
+		
+		private CachingResponse(final ServerWebExchange exchange, final String route, final String key, final long generation) {
+			super(exchange.getResponse());
+			this.request = exchange.getRequest();
+			this.route = route;
+			this.key = key;
+			this.generation = generation;
+		}
+		
+		@Override
+		public Mono<Void> writeWith(final Publisher<? extends DataBuffer> body) {
+			if (!HttpStatus.OK.equals(this.getStatusCode()) || !isCacheable(this.getHeaders())) {
+				return super.writeWith(body);
+			}
+			return DataBufferUtils.join(Flux.from(body))
+					.map(joined -> {
+						final byte[] bytes = new byte[joined.readableByteCount()];
+						joined.read(bytes);
+						DataBufferUtils.release(joined);
+						return bytes;
+					})
+					.defaultIfEmpty(new byte[0])
+					.flatMap(this::storeAndWrite);
+		}
+		
+		private Mono<Void> storeAndWrite(final byte[] bytes) {
+			final String etag = etag(bytes);
+			final HttpHeaders headers = new HttpHeaders();
+			CACHED_HEADERS.forEach(name -> {
+				final List<String> values = this.getHeaders().get(name);
+				if (values != null) {
+					headers.put(name, List.copyOf(values));
+				}
+			});
+			ResponseCacheFilter.this.responseCacheService.put(this.route, this.key, this.generation, 
+					new CachedResponse(etag, HttpHeaders.readOnlyHttpHeaders(headers), bytes));
+			
+			this.getHeaders().setETag(etag);
+			if (isNotModified(this.request, etag)) {
+				ResponseCacheFilter.this.clientBytesSaved.increment(bytes.length);
+				this.setStatusCode(HttpStatus.NOT_MODIFIED);
+				this.getHeaders().remove(HttpHeaders.CONTENT_LENGTH);
+				return this.getDelegate().setComplete();
+			}
+			return this.getDelegate().writeWith(Mono.just(this.bufferFactory().wrap(bytes)));
+		}
+	
+	}
+	
+	
+	
+}
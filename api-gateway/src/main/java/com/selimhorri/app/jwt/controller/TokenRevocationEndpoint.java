@@ -0,0 +1,56 @@
+package com.selimhorri.app.jwt.controller;
+
+import java.time.Instant;
+
+import org.springframework.boot.actuate.endpoint.web.annotation.RestControllerEndpoint;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Component;
+import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestParam;
+
+import com.selimhorri.app.config.cache.CacheInvalidationProperties;
+import com.selimhorri.app.jwt.service.TokenRevocationService;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Revocation hook called by user-service after a credential is changed, disabled or removed,
+ * and by proxy-client after a logout. It is an actuator endpoint so that it is only served on
+ * the management port, never on the public listener, and calls without the shared
+ * {@link CacheInvalidationProperties#HEADER} are refused.
+ */
+@Component
+@RestControllerEndpoint(id = "revocations")
+@RequiredArgsConstructor
+public class TokenRevocationEndpoint {
+	
+	private final TokenRevocationService tokenRevocationService;
+	private final CacheInvalidationProperties cacheInvalidationProperties;
+	
+	@DeleteMapping("/credentials/{username}")
+	public ResponseEntity<Boolean> revokeCredential(@PathVariable("username") final String username, 
+			@RequestHeader(name = CacheInvalidationProperties.HEADER, required = false) final String token) {
+		if (!this.cacheInvalidationProperties.isAuthorized(token)) {
+			return ResponseEntity.status(HttpStatus.FORBIDDEN).build();
+		}
+		this.tokenRevocationService.revokeIssuedBefore(username.strip());
+		return ResponseEntity.ok(true);
+	}
+	
+	@DeleteMapping("/tokens/{tokenId}")
+	public ResponseEntity<Boolean> revokeToken(@PathVariable("tokenId") final String tokenId, 
+			@RequestParam("expiration") final long expiration, 
+			@RequestHeader(name = CacheInvalidationProperties.HEADER, required = false) final String token) {
+		if (!this.cacheInvalidationProperties.isAuthorized(token)) {
+			return ResponseEntity.status(HttpStatus.FORBIDDEN).build();
+		}
+		this.tokenRevocationService.revoke(tokenId.strip(), Instant.ofEpochSecond(expiration));
+		return ResponseEntity.ok(true);
+	}
+	
+	
+	
+}
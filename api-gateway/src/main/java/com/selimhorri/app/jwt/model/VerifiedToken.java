@@ -0,0 +1,19 @@
+package com.selimhorri.app.jwt.model;
+
+import java.time.Instant;
+
+import lombok.Value;
+
+@Value
+public class VerifiedToken {
+	
+	String tokenId;
+	String username;
+	Instant issuedAt;
+	Instant expiration;
+	
+	public boolean isExpired() {
+		return this.expiration != null && !this.expiration.isAfter(Instant.now());
+	}
+	
+}
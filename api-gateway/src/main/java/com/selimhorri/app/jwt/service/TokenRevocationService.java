@@ -0,0 +1,13 @@
+package com.selimhorri.app.jwt.service;
+
+import java.time.Instant;
+
+import com.selimhorri.app.jwt.model.VerifiedToken;
+
+public interface TokenRevocationService {
+	
+	void revokeIssuedBefore(final String username);
+	void revoke(final String tokenId, final Instant expiration);
+	boolean isRevoked(final VerifiedToken verifiedToken);
+	
+}
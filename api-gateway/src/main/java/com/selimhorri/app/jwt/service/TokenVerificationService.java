@@ -0,0 +1,9 @@
+package com.selimhorri.app.jwt.service;
+
+import com.selimhorri.app.jwt.model.VerifiedToken;
+
+public interface TokenVerificationService {
+	
+	VerifiedToken verify(final String token);
+	
+}
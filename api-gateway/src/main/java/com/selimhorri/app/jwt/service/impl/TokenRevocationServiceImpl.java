@@ -0,0 +1,87 @@
+package com.selimhorri.app.jwt.service.impl;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+
+import org.springframework.stereotype.Service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import com.selimhorri.app.config.jwt.JwtProperties;
+import com.selimhorri.app.jwt.model.VerifiedToken;
+import com.selimhorri.app.jwt.service.TokenRevocationService;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Revocations reported by proxy-client and user-service, kept like proxy-client keeps them:
+ * per username, the instant before which every issued token is void, and per token id, a
+ * single logged out token until it expires.
+ */
+@Service
+@Slf4j
+public class TokenRevocationServiceImpl implements TokenRevocationService {
+	
+	private final Cache<String, Instant> revokedBefore;
+	private final Cache<String, Instant> revokedTokens;
+	
+	public TokenRevocationServiceImpl(final JwtProperties jwtProperties) {
+		this.revokedBefore = Caffeine.newBuilder()
+				.expireAfterWrite(jwtProperties.getTokenLifetime())
+				.build();
+		this.revokedTokens = Caffeine.newBuilder()
+				.expireAfter(new UntilTokenExpiry())
+				.build();
+	}
+	
+	@Override
+	public void revokeIssuedBefore(final String username) {
+		log.info("**Revoke tokens of username: {}*\n", username);
+		// "iat" has a precision of seconds, a token issued later within the same second is kept
+		this.revokedBefore.put(username, Instant.now().truncatedTo(ChronoUnit.SECONDS));
+	}
+	
+	@Override
+	public void revoke(final String tokenId, final Instant expiration) {
+		log.info("**Revoke token: {}*\n", tokenId);
+		this.revokedTokens.put(tokenId, expiration);
+	}
+	
+	@Override
+	public boolean isRevoked(final VerifiedToken verifiedToken) {
+		if (verifiedToken.getTokenId() != null && this.revokedTokens.getIfPresent(verifiedToken.getTokenId()) != null) {
+			return true;
+		}
+		final Instant instant = verifiedToken.getUsername() == null 
+				? null 
+				: this.revokedBefore.getIfPresent(verifiedToken.getUsername());
+		return instant != null 
+				&& (verifiedToken.getIssuedAt() == null || verifiedToken.getIssuedAt().isBefore(instant));
+	}
+	
+	private static final class UntilTokenExpiry implements Expiry<String, Instant> {
+		
+		@Override
+		public long expireAfterCreate(final String tokenId, final Instant expiration, final long currentTime) {
+			return Math.max(0L, Duration.between(Instant.now(), expiration).toNanos());
+		}
+		
+		@Override
+		public long expireAfterUpdate(final String tokenId, final Instant expiration, final long currentTime, 
+				final long currentDuration) {
+			return this.expireAfterCreate(tokenId, expiration, currentTime);
+		}
+		
+		@Override
+		public long expireAfterRead(final String tokenId, final Instant expiration, final long currentTime, 
+				final long currentDuration) {
+			return currentDuration;
+		}
+		
+	}
+	
+	
+	
+}
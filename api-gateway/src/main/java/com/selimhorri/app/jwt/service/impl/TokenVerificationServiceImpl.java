@@ -0,0 +1,118 @@
+package com.selimhorri.app.jwt.service.impl;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Base64;
+
+import org.springframework.stereotype.Service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import com.selimhorri.app.config.jwt.JwtProperties;
+import com.selimhorri.app.jwt.model.VerifiedToken;
+import com.selimhorri.app.jwt.service.TokenRevocationService;
+import com.selimhorri.app.jwt.service.TokenVerificationService;
+
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.ExpiredJwtException;
+import io.jsonwebtoken.JwtException;
+import io.jsonwebtoken.Jwts;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+
+/**
+ * Verifies the signature and expiry of bearer tokens. Tokens that passed are remembered by
+ * their SHA-256 hash until they expire, so a client repeating its token is not parsed and
+ * re-signed on every request. Rejected tokens are never cached, a flood of forged tokens
+ * cannot push out the genuine ones. Revocations are checked on every request, cached or not.
+ */
+@Service
+public class TokenVerificationServiceImpl implements TokenVerificationService {
+	
+	private final JwtProperties jwtProperties;
+	private final TokenRevocationService tokenRevocationService;
+	private final Cache<String, VerifiedToken> verifiedTokens;
+	
+	public TokenVerificationServiceImpl(final JwtProperties jwtProperties, 
+			final TokenRevocationService tokenRevocationService, final MeterRegistry meterRegistry) {
+		this.jwtProperties = jwtProperties;
+		this.tokenRevocationService = tokenRevocationService;
+		this.verifiedTokens = CaffeineCacheMetrics.monitor(meterRegistry, Caffeine.newBuilder()
+				.maximumSize(jwtProperties.getVerifiedTokenCacheSize())
+				.expireAfter(new UntilTokenExpiry())
+				.recordStats()
+				.build(), "verifiedTokens");
+	}
+	
+	/**
+	 * @throws io.jsonwebtoken.JwtException when the token is malformed, forged, expired or revoked
+	 */
+	@Override
+	public VerifiedToken verify(final String token) {
+		final String tokenHash = hash(token);
+		final VerifiedToken cached = this.verifiedTokens.getIfPresent(tokenHash);
+		if (cached != null) {
+			if (cached.isExpired()) {
+				throw new ExpiredJwtException(null, null, "JWT expired at " + cached.getExpiration());
+			}
+			return this.notRevoked(cached);
+		}
+		
+		final Claims claims = Jwts.parser()
+				.setSigningKey(this.jwtProperties.getSecret())
+				.parseClaimsJws(token)
+				.getBody();
+		final VerifiedToken verifiedToken = new VerifiedToken(claims.getId(), claims.getSubject(),
+				claims.getIssuedAt() == null ? null : claims.getIssuedAt().toInstant(),
+				claims.getExpiration() == null ? null : claims.getExpiration().toInstant());
+		// a token without expiry would otherwise be trusted for as long as it stays in the cache
+		if (verifiedToken.getExpiration() != null) {
+			this.verifiedTokens.put(tokenHash, verifiedToken);
+		}
+		return this.notRevoked(verifiedToken);
+	}
+	
+	private VerifiedToken notRevoked(final VerifiedToken verifiedToken) {
+		if (this.tokenRevocationService.isRevoked(verifiedToken)) {
+			throw new JwtException("JWT revoked");
+		}
+		return verifiedToken;
+	}
+	
+	private static String hash(final String token) {
+		try {
+			return Base64.getEncoder().encodeToString(MessageDigest.getInstance("SHA-256")
+					.digest(token.getBytes(StandardCharsets.UTF_8)));
+		} catch (NoSuchAlgorithmException e) {
+			throw new IllegalStateException(e);
+		}
+	}
+	
+	private static final class UntilTokenExpiry implements Expiry<String, VerifiedToken> {
+		
+		@Override
+		public long expireAfterCreate(final String key, final VerifiedToken value, final long currentTime) {
+			return Math.max(0L, Duration.between(Instant.now(), value.getExpiration()).toNanos());
+		}
+		
+		@Override
+		public long expireAfterUpdate(final String key, final VerifiedToken value, final long currentTime,
+				final long currentDuration) {
+			return this.expireAfterCreate(key, value, currentTime);
+		}
+		
+		@Override
+		public long expireAfterRead(final String key, final VerifiedToken value, final long currentTime,
+				final long currentDuration) {
+			return currentDuration;
+		}
+	
+	}
+	
+	
+	
+}
@@ -0,0 +1,127 @@
+package com.selimhorri.app.ratelimit;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import javax.validation.constraints.Min;
+
+import org.springframework.cloud.gateway.filter.ratelimit.AbstractRateLimiter;
+import org.springframework.cloud.gateway.support.ConfigurationService;
+import org.springframework.http.HttpHeaders;
+import org.springframework.stereotype.Component;
+import org.springframework.validation.annotation.Validated;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.selimhorri.app.config.ratelimit.RateLimiterProperties;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.Data;
+import reactor.core.publisher.Mono;
+
+/**
+ * In-memory token buckets for the RequestRateLimiter filter, one per route and key, so no
+ * Redis is needed. A bucket is a single {@link AtomicLong} holding the instant at which it
+ * will be full again (the generic cell rate algorithm); taking a token is one compare-and-set,
+ * so concurrent requests never block each other. Buckets live in a bounded cache and are
+ * dropped after the configured idle timeout.
+ * <p>
+ * Each instance of the gateway limits on its own: with n instances a client gets up to n
+ * times the configured rate.
+ */
+@Component
+public class LocalRateLimiter extends AbstractRateLimiter<LocalRateLimiter.Config> {
+	
+	public static final String CONFIGURATION_PROPERTY_NAME = "local-rate-limiter";
+	
+	private static final String REMAINING_HEADER = "X-RateLimit-Remaining";
+	private static final String REPLENISH_RATE_HEADER = "X-RateLimit-Replenish-Rate";
+	private static final String BURST_CAPACITY_HEADER = "X-RateLimit-Burst-Capacity";
+	
+	private final Config defaultConfig;
+	private final Cache<String, AtomicLong> buckets;
+	private final MeterRegistry meterRegistry;
+	private final Map<String, Counter> allowedCounters = new ConcurrentHashMap<>();
+	private final Map<String, Counter> throttledCounters = new ConcurrentHashMap<>();
+	
+	public LocalRateLimiter(final RateLimiterProperties rateLimiterProperties, final ConfigurationService configurationService,
+			final MeterRegistry meterRegistry) {
+		super(Config.class, CONFIGURATION_PROPERTY_NAME, configurationService);
+		this.defaultConfig = new Config();
+		this.defaultConfig.setReplenishRate(rateLimiterProperties.getReplenishRate());
+		this.defaultConfig.setBurstCapacity(rateLimiterProperties.getBurstCapacity());
+		this.buckets = Caffeine.newBuilder()
+				.maximumSize(rateLimiterProperties.getMaximumBuckets())
+				.expireAfterAccess(rateLimiterProperties.getIdleTimeout())
+				.build();
+		this.meterRegistry = meterRegistry;
+	}
+	
+	@Override
+	public Mono<Response> isAllowed(final String routeId, final String id) {
+		final Config config = this.getConfig().getOrDefault(routeId, this.defaultConfig);
+		final long interval = TimeUnit.SECONDS.toNanos(1) / config.getReplenishRate();
+		final long tolerance = interval * Math.max(config.getBurstCapacity(), 1);
+		final long cost = interval * config.getRequestedTokens();
+		
+		final long now = System.nanoTime();
+		final AtomicLong fullAt = this.buckets.get(routeId + ' ' + id, key -> new AtomicLong(now));
+		while (true) {
+			final long current = fullAt.get();
+			final long next = Math.max(current, now) + cost;
+			if (next - now > tolerance) {
+				this.counter(this.throttledCounters, routeId, "throttled").increment();
+				return Mono.just(new Response(false, this.headers(config, 0, next - now - tolerance)));
+			}
+			if (fullAt.compareAndSet(current, next)) {
+				this.counter(this.allowedCounters, routeId, "allowed").increment();
+				return Mono.just(new Response(true, this.headers(config, (tolerance - (next - now)) / interval, 0)));
+			}
+		}
+	}
+	
+	private Map<String, String> headers(final Config config, final long remaining, final long retryAfterNanos) {
+		final Map<String, String> headers = Map.of(
+				REMAINING_HEADER, String.valueOf(remaining),
+				REPLENISH_RATE_HEADER, String.valueOf(config.getReplenishRate()),
+				BURST_CAPACITY_HEADER, String.valueOf(config.getBurstCapacity()));
+		if (retryAfterNanos <= 0) {
+			return headers;
+		}
+		// Retry-After is in whole seconds, rounded up so that a retry on time is let through
+		final long retryAfter = Math.max(1, (retryAfterNanos + TimeUnit.SECONDS.toNanos(1) - 1) / TimeUnit.SECONDS.toNanos(1));
+		final Map<String, String> throttledHeaders = new HashMap<>(headers);
+		throttledHeaders.put(HttpHeaders.RETRY_AFTER, String.valueOf(retryAfter));
+		return throttledHeaders;
+	}
+	
+	private Counter counter(final Map<String, Counter> counters, final String routeId, final String outcome) {
+		return counters.computeIfAbsent(routeId, route -> Counter.builder("gateway.rate.limiter.requests")
+				.description("Requests admitted or throttled by the local rate limiter")
+				.tag("route", route)
+				.tag("outcome", outcome)
+				.register(this.meterRegistry));
+	}
+	
+	@Data
+	@Validated
+	public static class Config {
+		
+		@Min(1)
+		private int replenishRate;
+		
+		@Min(0)
+		private int burstCapacity = 1;
+		
+		@Min(1)
+		private int requestedTokens = 1;
+	
+	}
+	
+	
+	
+}
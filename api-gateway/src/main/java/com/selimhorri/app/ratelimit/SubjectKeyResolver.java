@@ -0,0 +1,36 @@
+package com.selimhorri.app.ratelimit;
+
+import java.net.InetSocketAddress;
+
+import org.springframework.cloud.gateway.filter.ratelimit.KeyResolver;
+import org.springframework.stereotype.Component;
+import org.springframework.web.server.ServerWebExchange;
+
+import com.selimhorri.app.config.jwt.JwtProperties;
+
+import lombok.RequiredArgsConstructor;
+import reactor.core.publisher.Mono;
+
+/**
+ * Rate limits a request by the username verified by {@link com.selimhorri.app.filter.JwtVerificationFilter},
+ * and an anonymous one by the address of the client connection.
+ */
+@Component
+@RequiredArgsConstructor
+public class SubjectKeyResolver implements KeyResolver {
+	
+	private final JwtProperties jwtProperties;
+	
+	@Override
+	public Mono<String> resolve(final ServerWebExchange exchange) {
+		final String username = exchange.getRequest().getHeaders().getFirst(this.jwtProperties.getIdentityHeader());
+		if (username != null) {
+			return Mono.just("user:" + username);
+		}
+		final InetSocketAddress remoteAddress = exchange.getRequest().getRemoteAddress();
+		return Mono.just(remoteAddress == null || remoteAddress.getAddress() == null 
+				? "ip:unknown" 
+				: "ip:" + remoteAddress.getAddress().getHostAddress());
+	}
+	
+}
@@ -0,0 +1,114 @@
+package com.selimhorri.app.aggregate.service.impl;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.web.reactive.function.client.ClientResponse;
+import org.springframework.web.reactive.function.client.WebClient;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+
+import com.selimhorri.app.aggregate.model.OrderAggregate;
+import com.selimhorri.app.config.aggregate.AggregateProperties;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import reactor.core.publisher.Mono;
+
+/**
+ * Unit tests for OrderAggregateServiceImpl
+ * Tests that the order, its items and its payments are merged, and that a late part is left out instead of failing the document
+ */
+class OrderAggregateServiceImplTest {
+
+    private static final String ORDER = "{\"orderId\":7,\"orderDesc\":\"Books\"}";
+    private static final String ORDER_ITEMS = "{\"collection\":[{\"orderId\":7,\"productId\":3,\"orderedQuantity\":2}]}";
+    private static final String PAYMENTS = "{\"collection\":[{\"paymentId\":5,\"isPayed\":true}]}";
+
+    private AggregateProperties aggregateProperties;
+    private SimpleMeterRegistry meterRegistry;
+    private Map<String, Mono<ClientResponse>> responses;
+
+    @BeforeEach
+    void setUp() {
+        this.aggregateProperties = new AggregateProperties();
+        this.aggregateProperties.setTimeout(Duration.ofSeconds(1));
+        this.meterRegistry = new SimpleMeterRegistry();
+        this.responses = Map.of(
+                "ORDER-SERVICE", json(HttpStatus.OK, ORDER),
+                "SHIPPING-SERVICE", json(HttpStatus.OK, ORDER_ITEMS),
+                "PAYMENT-SERVICE", json(HttpStatus.OK, PAYMENTS));
+    }
+
+    @Test
+    void findByOrderId_shouldMergeTheOrderWithItsItemsAndPayments() {
+        // when
+        final OrderAggregate orderAggregate = this.service().findByOrderId(7, "Bearer token").block();
+
+        // then
+        assertEquals("Books", orderAggregate.getOrder().path("orderDesc").asText());
+        assertEquals(3, orderAggregate.getOrderItems().path(0).path("productId").asInt());
+        assertEquals(5, orderAggregate.getPayments().path(0).path("paymentId").asInt());
+        assertTrue(orderAggregate.getUnavailable().isEmpty());
+    }
+
+    @Test
+    void findByOrderId_shouldLeaveOutAPartThatTimesOut() {
+        // given
+        this.responses = Map.of(
+                "ORDER-SERVICE", json(HttpStatus.OK, ORDER),
+                "SHIPPING-SERVICE", json(HttpStatus.OK, ORDER_ITEMS),
+                "PAYMENT-SERVICE", json(HttpStatus.OK, PAYMENTS).delayElement(Duration.ofSeconds(5)));
+
+        // when
+        final long start = System.nanoTime();
+        final OrderAggregate orderAggregate = this.service().findByOrderId(7, null).block();
+        final Duration elapsed = Duration.ofNanos(System.nanoTime() - start);
+
+        // then
+        assertEquals(7, orderAggregate.getOrder().path("orderId").asInt());
+        assertEquals(1, orderAggregate.getOrderItems().size());
+        assertNull(orderAggregate.getPayments());
+        assertEquals(List.of("payments"), orderAggregate.getUnavailable());
+        assertTrue(elapsed.compareTo(Duration.ofSeconds(3)) < 0, "took " + elapsed);
+        assertEquals(1.0, this.meterRegistry.get("gateway.aggregate.parts.unavailable").tag("part", "payments").counter().count());
+    }
+
+    @Test
+    void findByOrderId_shouldPassOnAClientErrorFromOrderService() {
+        // given
+        this.responses = Map.of(
+                "ORDER-SERVICE", json(HttpStatus.BAD_REQUEST, "{\"msg\":\"Order with id: 7 not found\"}"),
+                "SHIPPING-SERVICE", json(HttpStatus.OK, ORDER_ITEMS),
+                "PAYMENT-SERVICE", json(HttpStatus.OK, PAYMENTS));
+
+        // when, then
+        final WebClientResponseException exception = assertThrows(WebClientResponseException.class,
+                () -> this.service().findByOrderId(7, null).block());
+        assertEquals(HttpStatus.BAD_REQUEST, exception.getStatusCode());
+    }
+
+    private OrderAggregateServiceImpl service() {
+        final WebClient webClient = WebClient.builder()
+                .exchangeFunction(request -> this.responses.get(request.url().getHost()))
+                .build();
+        return new OrderAggregateServiceImpl(webClient, this.aggregateProperties, this.meterRegistry);
+    }
+
+    private static Mono<ClientResponse> json(final HttpStatus status, final String body) {
+        return Mono.fromSupplier(() -> ClientResponse.create(status)
+                .header(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE)
+                .body(body)
+                .build());
+    }
+
+}
@@ -0,0 +1,109 @@
+package com.selimhorri.app.concurrency;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import com.selimhorri.app.config.concurrency.ConcurrencyLimiterProperties;
+
+/**
+ * Unit tests for AdaptiveConcurrencyLimiter
+ * Tests that requests over the limit are shed and that the limit follows the latency of a simulated service
+ */
+class AdaptiveConcurrencyLimiterTest {
+
+    private static final long BASE_RTT = TimeUnit.MILLISECONDS.toNanos(20);
+
+    private AdaptiveConcurrencyLimiter limiter;
+    private long now;
+
+    @BeforeEach
+    void setUp() {
+        this.limiter = new AdaptiveConcurrencyLimiter(new ConcurrencyLimiterProperties(), () -> this.now);
+    }
+
+    @Test
+    void tryAcquire_shouldShedRequestsOverTheLimit() {
+        // given
+        for (int i = 0; i < 20; i++) {
+            assertTrue(this.limiter.tryAcquire());
+        }
+
+        // when
+        final boolean admitted = this.limiter.tryAcquire();
+
+        // then
+        assertFalse(admitted);
+        assertEquals(20, this.limiter.getInFlight());
+        assertEquals(1, this.limiter.getShed());
+    }
+
+    @Test
+    void limit_shouldSettleNearCapacityAndBoundLatencyUnderOverload() {
+        // given a service with 40 workers, 400 concurrent clients and queueing beyond 40 in flight
+        final int workers = 40;
+        final List<Long> latencies = new ArrayList<>();
+
+        // when
+        for (int round = 0; round < 3_000; round++) {
+            final long rtt = this.runRound(400, workers);
+            if (round >= 2_000) {
+                latencies.add(rtt);
+            }
+        }
+
+        // then
+        Collections.sort(latencies);
+        final long p99 = latencies.get((int) (latencies.size() * 0.99));
+        assertTrue(this.limiter.getLimit() <= 3 * workers, "limit: " + this.limiter.getLimit());
+        assertTrue(p99 <= 3 * BASE_RTT, "p99 in base rtts: " + p99 / (double) BASE_RTT);
+    }
+
+    @Test
+    void limit_shouldShrinkWhenServiceSlowsDownAndRecoverAfterwards() {
+        // given
+        for (int round = 0; round < 500; round++) {
+            this.runRound(400, 100);
+        }
+        final int healthyLimit = this.limiter.getLimit();
+
+        // when a partial outage leaves a tenth of the workers
+        for (int round = 0; round < 200; round++) {
+            this.runRound(400, 10);
+        }
+        final int degradedLimit = this.limiter.getLimit();
+        for (int round = 0; round < 1_000; round++) {
+            this.runRound(400, 100);
+        }
+
+        // then
+        assertTrue(degradedLimit < healthyLimit / 2, healthyLimit + " -> " + degradedLimit);
+        assertTrue(this.limiter.getLimit() > healthyLimit / 2, "recovered to " + this.limiter.getLimit());
+    }
+
+    /**
+     * Admits as many of the clients as the limit allows, all served together, and completes them
+     * once the time it takes the workers to get through them has passed.
+     */
+    private long runRound(final int clients, final int workers) {
+        int admitted = 0;
+        while (admitted < clients && this.limiter.tryAcquire()) {
+            admitted++;
+        }
+        final long rtt = BASE_RTT * Math.max(1, (admitted + workers - 1) / workers);
+        this.now += rtt;
+        for (int i = 0; i < admitted; i++) {
+            this.limiter.release(rtt, false);
+        }
+        return rtt;
+    }
+
+}
@@ -0,0 +1,123 @@
+package com.selimhorri.app.filter;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+import java.util.Date;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.cloud.gateway.filter.GatewayFilterChain;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.mock.http.server.reactive.MockServerHttpRequest;
+import org.springframework.mock.web.server.MockServerWebExchange;
+import org.springframework.web.server.ServerWebExchange;
+
+import com.selimhorri.app.config.jwt.JwtProperties;
+import com.selimhorri.app.jwt.service.impl.TokenRevocationServiceImpl;
+import com.selimhorri.app.jwt.service.impl.TokenVerificationServiceImpl;
+
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.SignatureAlgorithm;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import reactor.core.publisher.Mono;
+
+/**
+ * Unit tests for JwtVerificationFilter
+ * Tests that bad or missing tokens are answered at the edge and verified ones carry the identity header
+ */
+class JwtVerificationFilterTest {
+
+    private JwtVerificationFilter jwtVerificationFilter;
+    private AtomicReference<ServerWebExchange> forwarded;
+    private GatewayFilterChain chain;
+
+    @BeforeEach
+    void setUp() {
+        final JwtProperties jwtProperties = new JwtProperties();
+        jwtProperties.setSecret("secret");
+        this.jwtVerificationFilter = new JwtVerificationFilter(
+                new TokenVerificationServiceImpl(jwtProperties, new TokenRevocationServiceImpl(jwtProperties),
+                        new SimpleMeterRegistry()), jwtProperties);
+        this.forwarded = new AtomicReference<>();
+        this.chain = exchange -> {
+            this.forwarded.set(exchange);
+            return Mono.empty();
+        };
+    }
+
+    @Test
+    void filter_shouldForwardVerifiedTokenWithTrustedIdentity() {
+        // given
+        final MockServerWebExchange exchange = MockServerWebExchange.from(MockServerHttpRequest
+                .get("/order-service/api/orders")
+                .header(HttpHeaders.AUTHORIZATION, "Bearer " + token("selimhorri", "secret", 60_000))
+                .header("X-Authenticated-User", "admin"));
+
+        // when
+        this.jwtVerificationFilter.filter(exchange, this.chain).block();
+
+        // then
+        assertEquals("selimhorri", this.forwarded.get().getRequest().getHeaders().getFirst("X-Authenticated-User"));
+        assertEquals(1, this.forwarded.get().getRequest().getHeaders().get("X-Authenticated-User").size());
+    }
+
+    @Test
+    void filter_shouldRejectForgedAndExpiredTokensBeforeRouting() {
+        for (final String token : new String[] { token("selimhorri", "forged", 60_000), token("selimhorri", "secret", -1_000), "garbage" }) {
+            // given
+            final MockServerWebExchange exchange = MockServerWebExchange.from(MockServerHttpRequest
+                    .get("/app/api/products")
+                    .header(HttpHeaders.AUTHORIZATION, "Bearer " + token));
+
+            // when
+            this.jwtVerificationFilter.filter(exchange, this.chain).block();
+
+            // then
+            assertEquals(HttpStatus.UNAUTHORIZED, exchange.getResponse().getStatusCode());
+            assertNull(this.forwarded.get());
+        }
+    }
+
+    @Test
+    void filter_shouldRejectMissingTokenOutsideAnonymousPaths() {
+        // given
+        final MockServerWebExchange exchange = MockServerWebExchange.from(MockServerHttpRequest
+                .get("/product-service/api/products"));
+
+        // when
+        this.jwtVerificationFilter.filter(exchange, this.chain).block();
+
+        // then
+        assertEquals(HttpStatus.UNAUTHORIZED, exchange.getResponse().getStatusCode());
+        assertNull(this.forwarded.get());
+    }
+
+    @Test
+    void filter_shouldForwardAnonymousRequestWithoutSpoofedIdentity() {
+        // given
+        final MockServerWebExchange exchange = MockServerWebExchange.from(MockServerHttpRequest
+                .post("/app/api/authenticate")
+                .header("X-Authenticated-User", "admin"));
+
+        // when
+        this.jwtVerificationFilter.filter(exchange, this.chain).block();
+
+        // then
+        assertFalse(this.forwarded.get().getRequest().getHeaders().containsKey("X-Authenticated-User"));
+    }
+
+    private static String token(final String username, final String secret, final long lifetimeMillis) {
+        final long now = System.currentTimeMillis();
+        return Jwts.builder()
+                .setSubject(username)
+                .setIssuedAt(new Date(now))
+                .setExpiration(new Date(now + lifetimeMillis))
+                .signWith(SignatureAlgorithm.HS256, secret)
+                .compact();
+    }
+
+}
@@ -0,0 +1,172 @@
+package com.selimhorri.app.filter;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.cloud.gateway.filter.GatewayFilterChain;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.mock.http.server.reactive.MockServerHttpRequest;
+import org.springframework.mock.web.server.MockServerWebExchange;
+
+import com.selimhorri.app.cache.service.impl.ResponseCacheServiceImpl;
+import com.selimhorri.app.config.cache.ResponseCacheProperties;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import reactor.core.publisher.Mono;
+
+/**
+ * Unit tests for ResponseCacheFilter
+ * Tests that catalog reads are served from the cache, revalidated with ETags and dropped on writes
+ */
+class ResponseCacheFilterTest {
+
+    private static final String BODY = "[{\"productId\":1,\"productTitle\":\"asus\"}]";
+    private static final String NDJSON_BODY = "{\"productId\":1,\"productTitle\":\"asus\"}\n";
+
+    private SimpleMeterRegistry meterRegistry;
+    private ResponseCacheFilter responseCacheFilter;
+    private AtomicInteger downstreamCalls;
+    private GatewayFilterChain chain;
+
+    @BeforeEach
+    void setUp() {
+        final ResponseCacheProperties responseCacheProperties = new ResponseCacheProperties();
+        responseCacheProperties.setRoutes(Map.of("catalog", List.of("/product-service/api/products")));
+        this.meterRegistry = new SimpleMeterRegistry();
+        this.responseCacheFilter = new ResponseCacheFilter(
+                new ResponseCacheServiceImpl(responseCacheProperties, this.meterRegistry), this.meterRegistry);
+        this.downstreamCalls = new AtomicInteger();
+        this.chain = exchange -> {
+            this.downstreamCalls.incrementAndGet();
+            final boolean ndjson = exchange.getRequest().getHeaders().getAccept().contains(MediaType.APPLICATION_NDJSON);
+            exchange.getResponse().setStatusCode(HttpStatus.OK);
+            exchange.getResponse().getHeaders().setContentType(ndjson ? MediaType.APPLICATION_NDJSON : MediaType.APPLICATION_JSON);
+            return exchange.getResponse().writeWith(Mono.just(exchange.getResponse().bufferFactory()
+                    .wrap((ndjson ? NDJSON_BODY : BODY).getBytes(StandardCharsets.UTF_8))));
+        };
+    }
+
+    @Test
+    void filter_shouldServeRepeatedReadFromCache() {
+        // given
+        final MockServerWebExchange first = this.get("/product-service/api/products", null);
+        this.responseCacheFilter.filter(first, this.chain).block();
+
+        // when
+        final MockServerWebExchange second = this.get("/product-service/api/products", null);
+        this.responseCacheFilter.filter(second, this.chain).block();
+
+        // then
+        assertEquals(1, this.downstreamCalls.get());
+        assertEquals(BODY, second.getResponse().getBodyAsString().block());
+        assertEquals(MediaType.APPLICATION_JSON, second.getResponse().getHeaders().getContentType());
+        assertEquals(first.getResponse().getHeaders().getETag(), second.getResponse().getHeaders().getETag());
+        assertEquals(BODY.length(), this.meterRegistry.get("gateway.response.cache.bytes.saved")
+                .tag("reason", "cache-hit").counter().count());
+    }
+
+    @Test
+    void filter_shouldAnswerNotModifiedToMatchingETag() {
+        // given
+        final MockServerWebExchange first = this.get("/product-service/api/products", null);
+        this.responseCacheFilter.filter(first, this.chain).block();
+        final String etag = first.getResponse().getHeaders().getETag();
+        assertNotNull(etag);
+
+        // when
+        final MockServerWebExchange revalidation = this.get("/product-service/api/products", etag);
+        this.responseCacheFilter.filter(revalidation, this.chain).block();
+
+        // then
+        assertEquals(HttpStatus.NOT_MODIFIED, revalidation.getResponse().getStatusCode());
+        assertEquals("", revalidation.getResponse().getBodyAsString().defaultIfEmpty("").block());
+    }
+
+    @Test
+    void filter_shouldDropCachedReadsOnWriteToTheRoute() {
+        // given
+        this.responseCacheFilter.filter(this.get("/product-service/api/products", null), this.chain).block();
+
+        // when
+        this.responseCacheFilter.filter(MockServerWebExchange.from(MockServerHttpRequest
+                .put("/product-service/api/products/1")), this.chain).block();
+        this.responseCacheFilter.filter(this.get("/product-service/api/products", null), this.chain).block();
+
+        // then
+        assertEquals(3, this.downstreamCalls.get());
+    }
+
+    @Test
+    void filter_shouldKeepCachedReadsWhenWriteIsRejected() {
+        // given
+        this.responseCacheFilter.filter(this.get("/product-service/api/products", null), this.chain).block();
+        final GatewayFilterChain forbidden = exchange -> {
+            this.downstreamCalls.incrementAndGet();
+            exchange.getResponse().setStatusCode(HttpStatus.FORBIDDEN);
+            return exchange.getResponse().setComplete();
+        };
+
+        // when
+        this.responseCacheFilter.filter(MockServerWebExchange.from(MockServerHttpRequest
+                .put("/product-service/api/products/1")), forbidden).block();
+        this.responseCacheFilter.filter(this.get("/product-service/api/products", null), this.chain).block();
+
+        // then
+        assertEquals(2, this.downstreamCalls.get());
+    }
+
+    @Test
+    void filter_shouldKeepJsonAndNdjsonReadsOfTheSamePathApart() {
+        // when
+        final MockServerWebExchange json = this.getAccepting("/product-service/api/products", MediaType.APPLICATION_JSON);
+        this.responseCacheFilter.filter(json, this.chain).block();
+        final MockServerWebExchange ndjson = this.getAccepting("/product-service/api/products", MediaType.APPLICATION_NDJSON);
+        this.responseCacheFilter.filter(ndjson, this.chain).block();
+        final MockServerWebExchange jsonAgain = this.getAccepting("/product-service/api/products", MediaType.APPLICATION_JSON);
+        this.responseCacheFilter.filter(jsonAgain, this.chain).block();
+        final MockServerWebExchange ndjsonAgain = this.getAccepting("/product-service/api/products", MediaType.APPLICATION_NDJSON);
+        this.responseCacheFilter.filter(ndjsonAgain, this.chain).block();
+
+        // then
+        assertEquals(BODY, json.getResponse().getBodyAsString().block());
+        assertEquals(NDJSON_BODY, ndjson.getResponse().getBodyAsString().block());
+        assertEquals(BODY, jsonAgain.getResponse().getBodyAsString().block());
+        assertEquals(NDJSON_BODY, ndjsonAgain.getResponse().getBodyAsString().block());
+        assertEquals(MediaType.APPLICATION_NDJSON, ndjsonAgain.getResponse().getHeaders().getContentType());
+        assertNull(ndjson.getResponse().getHeaders().getETag());
+        assertEquals(3, this.downstreamCalls.get());
+    }
+
+    @Test
+    void filter_shouldLeaveOtherRoutesAlone() {
+        // when
+        this.responseCacheFilter.filter(this.get("/order-service/api/orders", null), this.chain).block();
+        this.responseCacheFilter.filter(this.get("/order-service/api/orders", null), this.chain).block();
+
+        // then
+        assertEquals(2, this.downstreamCalls.get());
+    }
+
+    private MockServerWebExchange get(final String path, final String ifNoneMatch) {
+        final MockServerHttpRequest.BaseBuilder<?> request = MockServerHttpRequest.get(path);
+        if (ifNoneMatch != null) {
+            request.header(HttpHeaders.IF_NONE_MATCH, ifNoneMatch);
+        }
+        return MockServerWebExchange.from(request);
+    }
+
+    private MockServerWebExchange getAccepting(final String path, final MediaType accept) {
+        return MockServerWebExchange.from(MockServerHttpRequest.get(path).accept(accept));
+    }
+
+}
@@ -0,0 +1,118 @@
+package com.selimhorri.app.jwt.service.impl;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.Date;
+import java.util.UUID;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import com.selimhorri.app.config.jwt.JwtProperties;
+import com.selimhorri.app.jwt.model.VerifiedToken;
+
+import io.jsonwebtoken.ExpiredJwtException;
+import io.jsonwebtoken.JwtException;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.SignatureAlgorithm;
+import io.jsonwebtoken.SignatureException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+/**
+ * Unit tests for TokenVerificationServiceImpl
+ * Tests that verified tokens are served from the cache and bad ones are never admitted
+ */
+class TokenVerificationServiceImplTest {
+
+    private TokenRevocationServiceImpl tokenRevocationService;
+    private TokenVerificationServiceImpl tokenVerificationService;
+
+    @BeforeEach
+    void setUp() {
+        final JwtProperties jwtProperties = new JwtProperties();
+        jwtProperties.setSecret("secret");
+        this.tokenRevocationService = new TokenRevocationServiceImpl(jwtProperties);
+        this.tokenVerificationService = new TokenVerificationServiceImpl(jwtProperties, this.tokenRevocationService,
+                new SimpleMeterRegistry());
+    }
+
+    @Test
+    void verify_shouldServeRepeatedTokenFromCache() {
+        // given
+        final String token = token("secret", 60_000);
+
+        // when
+        final VerifiedToken first = this.tokenVerificationService.verify(token);
+        final VerifiedToken second = this.tokenVerificationService.verify(token);
+
+        // then
+        assertEquals("selimhorri", first.getUsername());
+        assertSame(first, second);
+    }
+
+    @Test
+    void verify_shouldRejectForgedAndExpiredTokensEveryTime() {
+        // given
+        final String forged = token("forged", 60_000);
+        final String expired = token("secret", -1_000);
+
+        // when / then
+        for (int i = 0; i < 2; i++) {
+            assertThrows(SignatureException.class, () -> this.tokenVerificationService.verify(forged));
+            assertThrows(ExpiredJwtException.class, () -> this.tokenVerificationService.verify(expired));
+        }
+    }
+
+    @Test
+    void verify_shouldRejectCachedTokenOnceRevoked() {
+        // given
+        final String loggedOut = token("secret", 60_000);
+        final String other = token("secret", 60_000);
+        final VerifiedToken verifiedToken = this.tokenVerificationService.verify(loggedOut);
+        this.tokenVerificationService.verify(other);
+
+        // when
+        this.tokenRevocationService.revoke(verifiedToken.getTokenId(), verifiedToken.getExpiration());
+
+        // then
+        assertThrows(JwtException.class, () -> this.tokenVerificationService.verify(loggedOut));
+        assertEquals("selimhorri", this.tokenVerificationService.verify(other).getUsername());
+    }
+
+    @Test
+    void verify_shouldRejectTokensIssuedBeforeCredentialRevocation() {
+        // given
+        final String token = tokenIssuedAt(System.currentTimeMillis() - 5_000);
+        this.tokenVerificationService.verify(token);
+
+        // when
+        this.tokenRevocationService.revokeIssuedBefore("selimhorri");
+
+        // then
+        assertThrows(JwtException.class, () -> this.tokenVerificationService.verify(token));
+    }
+
+    private static String token(final String secret, final long lifetimeMillis) {
+        final long now = System.currentTimeMillis();
+        return Jwts.builder()
+                .setId(UUID.randomUUID().toString())
+                .setSubject("selimhorri")
+                .setIssuedAt(new Date(now))
+                .setExpiration(new Date(now + lifetimeMillis))
+                .signWith(SignatureAlgorithm.HS256, secret)
+                .compact();
+    }
+
+    private static String tokenIssuedAt(final long issuedAtMillis) {
+        return Jwts.builder()
+                .setId(UUID.randomUUID().toString())
+                .setSubject("selimhorri")
+                .setIssuedAt(new Date(issuedAtMillis))
+                .setExpiration(new Date(issuedAtMillis + 60_000))
+                .signWith(SignatureAlgorithm.HS256, "secret")
+                .compact();
+    }
+
+}
@@ -0,0 +1,159 @@
+package com.selimhorri.app.loadbalancer;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.PriorityQueue;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.cloud.client.DefaultServiceInstance;
+import org.springframework.cloud.client.ServiceInstance;
+import org.springframework.cloud.client.loadbalancer.CompletionContext;
+import org.springframework.cloud.client.loadbalancer.DefaultRequest;
+import org.springframework.cloud.client.loadbalancer.DefaultResponse;
+import org.springframework.cloud.client.loadbalancer.Request;
+import org.springframework.cloud.client.loadbalancer.RequestDataContext;
+import org.springframework.cloud.client.loadbalancer.Response;
+import org.springframework.cloud.loadbalancer.support.ServiceInstanceListSuppliers;
+
+import com.selimhorri.app.config.loadbalancer.PowerOfTwoChoicesProperties;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+/**
+ * Unit tests for PowerOfTwoChoicesLoadBalancer
+ * Tests that the less loaded instance is picked and that a slow replica no longer sets the tail latency of a simulated service
+ */
+class PowerOfTwoChoicesLoadBalancerTest {
+
+    private static final String SERVICE_ID = "ORDER-SERVICE";
+    private static final long FAST_SERVICE_TIME = TimeUnit.MILLISECONDS.toNanos(10);
+    private static final long SLOW_SERVICE_TIME = TimeUnit.MILLISECONDS.toNanos(50);
+    private static final int WORKERS = 4;
+
+    private final List<ServiceInstance> instances = new ArrayList<>();
+    private SimpleMeterRegistry meterRegistry;
+    private PowerOfTwoChoicesLoadBalancer loadBalancer;
+    private long now;
+
+    @BeforeEach
+    void setUp() {
+        for (int i = 0; i < 5; i++) {
+            this.instances.add(new DefaultServiceInstance("order-service-" + i, SERVICE_ID, "10.0.0." + i, 8300, false));
+        }
+        this.meterRegistry = new SimpleMeterRegistry();
+        this.loadBalancer = new PowerOfTwoChoicesLoadBalancer(
+                ServiceInstanceListSuppliers.toProvider(SERVICE_ID, this.instances.toArray(ServiceInstance[]::new)),
+                SERVICE_ID, new PowerOfTwoChoicesProperties(), this.meterRegistry, () -> this.now);
+    }
+
+    @Test
+    void choose_shouldPickTheInstanceWithFewerRequestsInFlight() {
+        // given two instances, one of them with requests in flight
+        final List<ServiceInstance> pair = this.instances.subList(0, 2);
+        this.loadBalancer = new PowerOfTwoChoicesLoadBalancer(
+                ServiceInstanceListSuppliers.toProvider(SERVICE_ID, pair.toArray(ServiceInstance[]::new)),
+                SERVICE_ID, new PowerOfTwoChoicesProperties(), this.meterRegistry, () -> this.now);
+        this.loadBalancer.onStartRequest(newRequest(), new DefaultResponse(pair.get(0)));
+        this.loadBalancer.onStartRequest(newRequest(), new DefaultResponse(pair.get(0)));
+
+        // when
+        final Response<ServiceInstance> response = this.loadBalancer.choose(newRequest()).block();
+
+        // then
+        assertEquals(pair.get(1), response.getServer());
+        assertEquals(2.0, this.meterRegistry.get("loadbalancer.instance.in.flight")
+                .tag("instance", "order-service-0")
+                .gauge()
+                .value());
+    }
+
+    @Test
+    void choose_shouldKeepTheTailLatencyLowWhenOneReplicaIsSlow() {
+        // given five replicas of 4 workers, one of them five times slower, at about 60% of their capacity
+        final List<Long> roundRobin = this.simulate(request -> this.instances.get(request % this.instances.size()));
+
+        // when
+        final List<Long> powerOfTwoChoices = this.simulate(request -> this.loadBalancer.choose(newRequest()).block().getServer());
+
+        // then
+        final long roundRobinP99 = percentile(roundRobin, 0.99);
+        final long powerOfTwoChoicesP99 = percentile(powerOfTwoChoices, 0.99);
+        assertTrue(roundRobinP99 >= 5 * FAST_SERVICE_TIME, "round robin p99: " + roundRobinP99 / 1e6 + " ms");
+        assertTrue(powerOfTwoChoicesP99 < roundRobinP99 / 3, "p99 " + powerOfTwoChoicesP99 / 1e6 + " ms, round robin "
+                + roundRobinP99 / 1e6 + " ms");
+    }
+
+    /**
+     * Replays the same Poisson arrivals and exponential service times against the instances
+     * picked by the given function, each instance serving its requests first come first served.
+     */
+    private List<Long> simulate(final Function<Integer, ServiceInstance> picker) {
+        final Random random = new Random(42);
+        final long meanInterarrival = TimeUnit.SECONDS.toNanos(1) / 1_000;
+        final long[][] workerFreeAt = new long[this.instances.size()][WORKERS];
+        final PriorityQueue<long[]> completions = new PriorityQueue<>((a, b) -> Long.compare(a[0], b[0]));
+        final List<Request<Object>> requests = new ArrayList<>();
+        final List<Long> latencies = new ArrayList<>();
+        long arrival = 0;
+
+        for (int i = 0; i < 30_000; i++) {
+            arrival += (long) (-Math.log(1 - random.nextDouble()) * meanInterarrival);
+            while (!completions.isEmpty() && completions.peek()[0] <= arrival) {
+                this.complete(completions.poll(), requests);
+            }
+            this.now = arrival;
+            final ServiceInstance instance = picker.apply(i);
+            final int index = this.instances.indexOf(instance);
+            final Request<Object> request = newRequest();
+            this.loadBalancer.onStartRequest(request, new DefaultResponse(instance));
+            requests.add(request);
+
+            final long[] workers = workerFreeAt[index];
+            final int worker = earliest(workers);
+            final long serviceTime = index == 0 ? SLOW_SERVICE_TIME : FAST_SERVICE_TIME;
+            final long completion = Math.max(arrival, workers[worker]) + (long) (-Math.log(1 - random.nextDouble()) * serviceTime);
+            workers[worker] = completion;
+            completions.add(new long[] { completion, i, index });
+            latencies.add(completion - arrival);
+        }
+        while (!completions.isEmpty()) {
+            this.complete(completions.poll(), requests);
+        }
+        return latencies;
+    }
+
+    private void complete(final long[] completion, final List<Request<Object>> requests) {
+        this.now = completion[0];
+        this.loadBalancer.onComplete(new CompletionContext<>(CompletionContext.Status.SUCCESS,
+                requests.get((int) completion[1]), new DefaultResponse(this.instances.get((int) completion[2]))));
+    }
+
+    private static int earliest(final long[] workers) {
+        int earliest = 0;
+        for (int i = 1; i < workers.length; i++) {
+            if (workers[i] < workers[earliest]) {
+                earliest = i;
+            }
+        }
+        return earliest;
+    }
+
+    private static long percentile(final List<Long> latencies, final double percentile) {
+        final Long[] sorted = latencies.toArray(Long[]::new);
+        Arrays.sort(sorted);
+        return sorted[(int) (sorted.length * percentile)];
+    }
+
+    private static Request<Object> newRequest() {
+        return new DefaultRequest<>(new RequestDataContext());
+    }
+
+}
@@ -0,0 +1,72 @@
+package com.selimhorri.app.ratelimit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.cloud.gateway.filter.ratelimit.RateLimiter.Response;
+import org.springframework.cloud.gateway.support.ConfigurationService;
+import org.springframework.http.HttpHeaders;
+
+import com.selimhorri.app.config.ratelimit.RateLimiterProperties;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+/**
+ * Unit tests for LocalRateLimiter
+ * Tests that a key gets its burst, is then throttled with Retry-After and does not affect other keys
+ */
+class LocalRateLimiterTest {
+
+    private SimpleMeterRegistry meterRegistry;
+    private LocalRateLimiter localRateLimiter;
+
+    @BeforeEach
+    void setUp() {
+        this.meterRegistry = new SimpleMeterRegistry();
+        this.localRateLimiter = new LocalRateLimiter(new RateLimiterProperties(), mock(ConfigurationService.class),
+                this.meterRegistry);
+        final LocalRateLimiter.Config config = new LocalRateLimiter.Config();
+        config.setReplenishRate(1);
+        config.setBurstCapacity(3);
+        this.localRateLimiter.getConfig().put("PROXY-CLIENT-ORDERS", config);
+    }
+
+    @Test
+    void isAllowed_shouldThrottleKeyOnceItsBurstIsSpent() {
+        // given
+        for (int i = 0; i < 3; i++) {
+            assertTrue(this.localRateLimiter.isAllowed("PROXY-CLIENT-ORDERS", "user:selimhorri").block().isAllowed());
+        }
+
+        // when
+        final Response response = this.localRateLimiter.isAllowed("PROXY-CLIENT-ORDERS", "user:selimhorri").block();
+
+        // then
+        assertFalse(response.isAllowed());
+        assertEquals("1", response.getHeaders().get(HttpHeaders.RETRY_AFTER));
+        assertEquals("0", response.getHeaders().get("X-RateLimit-Remaining"));
+        assertEquals(3.0, this.meterRegistry.get("gateway.rate.limiter.requests")
+                .tags("route", "PROXY-CLIENT-ORDERS", "outcome", "allowed").counter().count());
+        assertEquals(1.0, this.meterRegistry.get("gateway.rate.limiter.requests")
+                .tags("route", "PROXY-CLIENT-ORDERS", "outcome", "throttled").counter().count());
+    }
+
+    @Test
+    void isAllowed_shouldKeepBucketsPerKeyAndRoute() {
+        // given
+        for (int i = 0; i < 3; i++) {
+            this.localRateLimiter.isAllowed("PROXY-CLIENT-ORDERS", "ip:10.0.0.1").block();
+        }
+
+        // when, then
+        assertFalse(this.localRateLimiter.isAllowed("PROXY-CLIENT-ORDERS", "ip:10.0.0.1").block().isAllowed());
+        assertTrue(this.localRateLimiter.isAllowed("PROXY-CLIENT-ORDERS", "ip:10.0.0.2").block().isAllowed());
+        // routes without their own limits fall back to the defaults, a burst of 200
+        assertTrue(this.localRateLimiter.isAllowed("ORDER-SERVICE", "ip:10.0.0.1").block().isAllowed());
+    }
+
+}
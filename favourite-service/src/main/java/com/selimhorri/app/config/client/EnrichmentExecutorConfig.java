@@ -0,0 +1,56 @@
+package com.selimhorri.app.config.client;
+
+import java.util.concurrent.ThreadPoolExecutor;
+
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.task.TaskDecorator;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+
+@Configuration
+@EnableConfigurationProperties(EnrichmentProperties.class)
+public class EnrichmentExecutorConfig {
+	
+	public static final String ENRICHMENT_TASK_EXECUTOR = "enrichmentTaskExecutor";
+	
+	@Bean(name = ENRICHMENT_TASK_EXECUTOR)
+	public ThreadPoolTaskExecutor enrichmentTaskExecutor(final EnrichmentProperties enrichmentProperties) {
+		final ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+		executor.setCorePoolSize(enrichmentProperties.getCorePoolSize());
+		executor.setMaxPoolSize(enrichmentProperties.getMaxPoolSize());
+		executor.setQueueCapacity(enrichmentProperties.getQueueCapacity());
+		executor.setThreadNamePrefix("enrichment-");
+		// a saturated pool pushes the work back onto the request thread instead of failing it
+		executor.setRejectedExecutionHandler(new ThreadPoolExecutor.CallerRunsPolicy());
+		executor.setTaskDecorator(requestContextTaskDecorator());
+		executor.setWaitForTasksToCompleteOnShutdown(true);
+		return executor;
+	}
+	
+	/**
+	 * Exposes the caller's request attributes to the worker thread, so that
+	 * {@link com.selimhorri.app.config.interceptor.AuthorizationHeaderInterceptor}
+	 * still finds the incoming Authorization header.
+	 */
+	private static TaskDecorator requestContextTaskDecorator() {
+		return runnable -> {
+			final RequestAttributes callerAttributes = RequestContextHolder.getRequestAttributes();
+			return () -> {
+				final RequestAttributes previousAttributes = RequestContextHolder.getRequestAttributes();
+				RequestContextHolder.setRequestAttributes(callerAttributes);
+				try {
+					runnable.run();
+				}
+				finally {
+					RequestContextHolder.setRequestAttributes(previousAttributes);
+				}
+			};
+		};
+	}
+	
+	
+	
+}
@@ -0,0 +1,80 @@
+package com.selimhorri.app.config.client;
+
+import java.util.concurrent.TimeUnit;
+
+import org.apache.http.client.config.RequestConfig;
+import org.apache.http.conn.ConnectionKeepAliveStrategy;
+import org.apache.http.impl.client.CloseableHttpClient;
+import org.apache.http.impl.client.DefaultConnectionKeepAliveStrategy;
+import org.apache.http.impl.client.HttpClients;
+import org.apache.http.impl.conn.PoolingHttpClientConnectionManager;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.client.ClientHttpRequestFactory;
+import org.springframework.http.client.HttpComponentsClientHttpRequestFactory;
+
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.binder.httpcomponents.PoolingHttpClientConnectionManagerMetricsBinder;
+
+/**
+ * Pooled, keep-alive HTTP client shared by every outgoing {@link org.springframework.web.client.RestTemplate}.
+ * Leased, available and pending connections are exported as
+ * {@code httpcomponents.httpclient.pool.*} gauges.
+ */
+@Configuration
+@EnableConfigurationProperties(HttpClientProperties.class)
+public class HttpClientConfig {
+	
+	private static final String POOL_NAME = "load-balanced";
+	
+	@Bean
+	public PoolingHttpClientConnectionManager httpClientConnectionManager(final HttpClientProperties httpClientProperties) {
+		final PoolingHttpClientConnectionManager connectionManager = new PoolingHttpClientConnectionManager();
+		connectionManager.setMaxTotal(httpClientProperties.getMaxConnectionsTotal());
+		connectionManager.setDefaultMaxPerRoute(httpClientProperties.getMaxConnectionsPerRoute());
+		connectionManager.setValidateAfterInactivity((int) httpClientProperties.getValidateAfterInactivity().toMillis());
+		return connectionManager;
+	}
+	
+	@Bean
+	public CloseableHttpClient httpClient(final PoolingHttpClientConnectionManager httpClientConnectionManager, 
+			final HttpClientProperties httpClientProperties) {
+		final RequestConfig requestConfig = RequestConfig.custom()
+				.setConnectTimeout((int) httpClientProperties.getConnectTimeout().toMillis())
+				.setSocketTimeout((int) httpClientProperties.getReadTimeout().toMillis())
+				.setConnectionRequestTimeout((int) httpClientProperties.getConnectionRequestTimeout().toMillis())
+				.build();
+		return HttpClients.custom()
+				.setConnectionManager(httpClientConnectionManager)
+				.setDefaultRequestConfig(requestConfig)
+				.setKeepAliveStrategy(keepAliveStrategy(httpClientProperties.getIdleTimeout().toMillis()))
+				.evictExpiredConnections()
+				.evictIdleConnections(httpClientProperties.getIdleTimeout().toMillis(), TimeUnit.MILLISECONDS)
+				.build();
+	}
+	
+	@Bean
+	public ClientHttpRequestFactory clientHttpRequestFactory(final CloseableHttpClient httpClient) {
+		return new HttpComponentsClientHttpRequestFactory(httpClient);
+	}
+	
+	@Bean
+	public MeterBinder httpClientConnectionPoolMetrics(final PoolingHttpClientConnectionManager httpClientConnectionManager) {
+		return new PoolingHttpClientConnectionManagerMetricsBinder(httpClientConnectionManager, POOL_NAME);
+	}
+	
+	/**
+	 * Honours the peer's Keep-Alive header, and otherwise keeps a connection no longer
+	 * than the idle eviction would anyway, instead of indefinitely.
+	 */
+	private static ConnectionKeepAliveStrategy keepAliveStrategy(final long idleTimeoutMillis) {
+		return (response, context) -> {
+			final long keepAliveMillis = DefaultConnectionKeepAliveStrategy.INSTANCE.getKeepAliveDuration(response, context);
+			return keepAliveMillis > 0 ? Math.min(keepAliveMillis, idleTimeoutMillis) : idleTimeoutMillis;
+		};
+	}
+	
+	
+	
+}
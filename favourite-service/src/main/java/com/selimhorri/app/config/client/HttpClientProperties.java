@@ -0,0 +1,26 @@
+package com.selimhorri.app.config.client;
+
+import java.time.Duration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import lombok.Data;
+
+/**
+ * Pool sizing and timeouts of the HTTP client used to call other services.
+ * A route is a single service instance, so {@code maxConnectionsPerRoute}
+ * bounds the connections opened to each instance behind the load balancer.
+ */
+@Data
+@ConfigurationProperties(prefix = "app.http-client")
+public class HttpClientProperties {
+	
+	private int maxConnectionsTotal = 200;
+	private int maxConnectionsPerRoute = 50;
+	private Duration connectTimeout = Duration.ofSeconds(1);
+	private Duration readTimeout = Duration.ofSeconds(5);
+	private Duration connectionRequestTimeout = Duration.ofMillis(500);
+	private Duration idleTimeout = Duration.ofSeconds(30);
+	private Duration validateAfterInactivity = Duration.ofSeconds(2);
+	
+}
@@ -0,0 +1,18 @@
+package com.selimhorri.app.config.loadbalancer;
+
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.cloud.loadbalancer.annotation.LoadBalancerClients;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Makes {@link PowerOfTwoChoicesClientConfiguration} the default of every load-balanced
+ * service, in place of round robin.
+ */
+@Configuration
+@EnableConfigurationProperties(PowerOfTwoChoicesProperties.class)
+@LoadBalancerClients(defaultConfiguration = PowerOfTwoChoicesClientConfiguration.class)
+public class PowerOfTwoChoicesConfig {
+	
+	
+	
+}
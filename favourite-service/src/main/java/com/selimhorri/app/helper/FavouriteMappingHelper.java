@@ -1,6 +1,11 @@
 package com.selimhorri.app.helper;
 
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+
+import com.selimhorri.app.constant.AppConstant;
 import com.selimhorri.app.domain.Favourite;
+import com.selimhorri.app.domain.id.FavouriteId;
 import com.selimhorri.app.dto.FavouriteDto;
 import com.selimhorri.app.dto.ProductDto;
 import com.selimhorri.app.dto.UserDto;
@@ -31,6 +36,21 @@ public interface FavouriteMappingHelper {
 				.build();
 	}
 	
+	/**
+	 * Writes the key of a favourite as a page cursor, {@code userId,productId,likeDate}, in the
+	 * column order of the primary key.
+	 */
+	public static String toCursor(final FavouriteDto favouriteDto) {
+		return favouriteDto.getUserId() + "," + favouriteDto.getProductId() + ","
+				+ favouriteDto.getLikeDate().format(DateTimeFormatter.ofPattern(AppConstant.LOCAL_DATE_TIME_FORMAT));
+	}
+	
+	public static FavouriteId fromCursor(final String cursor) {
+		final String[] key = cursor.split(",", 3);
+		return new FavouriteId(Integer.parseInt(key[0]), Integer.parseInt(key[1]), 
+				LocalDateTime.parse(key[2], DateTimeFormatter.ofPattern(AppConstant.LOCAL_DATE_TIME_FORMAT)));
+	}
+	
 	
 	
 }
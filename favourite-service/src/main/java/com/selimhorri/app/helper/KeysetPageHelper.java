@@ -0,0 +1,46 @@
+package com.selimhorri.app.helper;
+
+import java.util.List;
+import java.util.function.Function;
+
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+
+import com.selimhorri.app.dto.response.collection.DtoCollectionResponse;
+
+public interface KeysetPageHelper {
+	
+	String DEFAULT_LIMIT = "100";
+	int MAX_LIMIT = 1000;
+	
+	/**
+	 * Bounds a requested page size to {@code [1, MAX_LIMIT]}.
+	 */
+	public static int limit(final int limit) {
+		return Math.max(1, Math.min(limit, MAX_LIMIT));
+	}
+	
+	/**
+	 * Asks for one row more than the page holds, so that a next page is known to exist
+	 * without a count query.
+	 */
+	public static Pageable firstRows(final int limit) {
+		return PageRequest.of(0, limit(limit) + 1);
+	}
+	
+	/**
+	 * Trims the rows fetched with {@link #firstRows(int)} to the page and, when the extra row
+	 * came back, sets the key of the last row kept as the cursor of the next page.
+	 */
+	public static <T> DtoCollectionResponse<T> page(final List<T> rows, final int limit, final Function<T, ?> cursor) {
+		final int size = limit(limit);
+		if (rows.size() <= size) {
+			return new DtoCollectionResponse<>(rows, null);
+		}
+		final List<T> page = rows.subList(0, size);
+		return new DtoCollectionResponse<>(page, String.valueOf(cursor.apply(page.get(size - 1))));
+	}
+	
+	
+	
+}
@@ -0,0 +1,57 @@
+package com.selimhorri.app.resource;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.selimhorri.app.config.client.CacheInvalidationProperties;
+import com.selimhorri.app.dto.ProductDto;
+import com.selimhorri.app.dto.UserDto;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Invalidation hook called by the services owning the near-cached DTOs after a write. Calls
+ * without the shared {@link CacheInvalidationProperties#HEADER} are refused.
+ */
+@RestController
+@RequestMapping("/api/caches")
+@Slf4j
+@RequiredArgsConstructor
+public class CacheResource {
+	
+	private final Cache<Integer, ProductDto> productNearCache;
+	private final Cache<Integer, UserDto> userNearCache;
+	private final CacheInvalidationProperties cacheInvalidationProperties;
+	
+	@DeleteMapping("/products/{productId}")
+	public ResponseEntity<Boolean> evictProduct(@PathVariable("productId") final String productId, 
+			@RequestHeader(name = CacheInvalidationProperties.HEADER, required = false) final String token) {
+		log.info("*** Boolean, resource; evict product from near cache *");
+		if (!this.cacheInvalidationProperties.isAuthorized(token)) {
+			return ResponseEntity.status(HttpStatus.FORBIDDEN).build();
+		}
+		this.productNearCache.invalidate(Integer.parseInt(productId.strip()));
+		return ResponseEntity.ok(true);
+	}
+	
+	@DeleteMapping("/users/{userId}")
+	public ResponseEntity<Boolean> evictUser(@PathVariable("userId") final String userId, 
+			@RequestHeader(name = CacheInvalidationProperties.HEADER, required = false) final String token) {
+		log.info("*** Boolean, resource; evict user from near cache *");
+		if (!this.cacheInvalidationProperties.isAuthorized(token)) {
+			return ResponseEntity.status(HttpStatus.FORBIDDEN).build();
+		}
+		this.userNearCache.invalidate(Integer.parseInt(userId.strip()));
+		return ResponseEntity.ok(true);
+	}
+	
+	
+	
+}
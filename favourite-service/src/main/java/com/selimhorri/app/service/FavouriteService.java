@@ -1,13 +1,12 @@
 package com.selimhorri.app.service;
 
-import java.util.List;
-
 import com.selimhorri.app.domain.id.FavouriteId;
 import com.selimhorri.app.dto.FavouriteDto;
+import com.selimhorri.app.dto.response.collection.DtoCollectionResponse;
 
 public interface FavouriteService {
 	
-	List<FavouriteDto> findAll();
+	DtoCollectionResponse<FavouriteDto> findAll(final FavouriteId after, final int limit);
 	FavouriteDto findById(final FavouriteId favouriteId);
 	FavouriteDto save(final FavouriteDto favouriteDto);
 	FavouriteDto update(final FavouriteDto favouriteDto);
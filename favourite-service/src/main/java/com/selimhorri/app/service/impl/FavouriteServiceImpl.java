@@ -1,22 +1,28 @@
 package com.selimhorri.app.service.impl;
 
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
 import java.util.stream.Collectors;
 
 import javax.transaction.Transactional;
 
 import org.springframework.stereotype.Service;
-import org.springframework.web.client.RestTemplate;
 
-import com.selimhorri.app.constant.AppConstant;
+import com.selimhorri.app.domain.Favourite;
 import com.selimhorri.app.domain.id.FavouriteId;
 import com.selimhorri.app.dto.FavouriteDto;
 import com.selimhorri.app.dto.ProductDto;
 import com.selimhorri.app.dto.UserDto;
+import com.selimhorri.app.dto.response.collection.DtoCollectionResponse;
 import com.selimhorri.app.exception.wrapper.FavouriteNotFoundException;
 import com.selimhorri.app.helper.FavouriteMappingHelper;
+import com.selimhorri.app.helper.KeysetPageHelper;
 import com.selimhorri.app.repository.FavouriteRepository;
 import com.selimhorri.app.service.FavouriteService;
+import com.selimhorri.app.service.client.EnrichmentExecutor;
+import com.selimhorri.app.service.client.ProductClientService;
+import com.selimhorri.app.service.client.UserClientService;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -28,25 +34,38 @@ import lombok.extern.slf4j.Slf4j;
 public class FavouriteServiceImpl implements FavouriteService {
 	
 	private final FavouriteRepository favouriteRepository;
-	private final RestTemplate restTemplate;
+	private final ProductClientService productClientService;
+	private final UserClientService userClientService;
+	private final EnrichmentExecutor enrichmentExecutor;
 	
 	@Override
-	public List<FavouriteDto> findAll() {
+	public DtoCollectionResponse<FavouriteDto> findAll(final FavouriteId after, final int limit) {
 		log.info("*** FavouriteDto List, service; fetch all favourites *");
-		return this.favouriteRepository.findAll()
+		final List<Favourite> favourites = (after == null)
+				? this.favouriteRepository.findAllFromStart(KeysetPageHelper.firstRows(limit))
+				: this.favouriteRepository.findAllAfter(after.getUserId(), after.getProductId(), after.getLikeDate(),
+						KeysetPageHelper.firstRows(limit));
+		final DtoCollectionResponse<FavouriteDto> page = KeysetPageHelper.page(favourites
 				.stream()
 					.map(FavouriteMappingHelper::map)
+					.collect(Collectors.toUnmodifiableList()), limit, FavouriteMappingHelper::toCursor);
+		final CompletableFuture<Map<Integer, UserDto>> userDtosFuture = this.userClientService.findAllByIdsAsync(page.getCollection()
+				.stream()
+					.map(FavouriteDto::getUserId)
+					.collect(Collectors.toSet()));
+		final CompletableFuture<Map<Integer, ProductDto>> productDtosFuture = this.productClientService.findAllByIdsAsync(page.getCollection()
+				.stream()
+					.map(FavouriteDto::getProductId)
+					.collect(Collectors.toSet()));
+		final Map<Integer, UserDto> userDtos = this.enrichmentExecutor.await(userDtosFuture);
+		final Map<Integer, ProductDto> productDtos = this.enrichmentExecutor.await(productDtosFuture);
+		return new DtoCollectionResponse<>(page.getCollection().stream()
 					.map(f -> {
-						f.setUserDto(this.restTemplate
-								.getForObject(AppConstant.DiscoveredDomainsApi
-										.USER_SERVICE_API_URL + "/" + f.getUserId(), UserDto.class));
-						f.setProductDto(this.restTemplate
-								.getForObject(AppConstant.DiscoveredDomainsApi
-										.PRODUCT_SERVICE_API_URL + "/" + f.getProductId(), ProductDto.class));
+						f.setUserDto(userDtos.get(f.getUserId()));
+						f.setProductDto(productDtos.get(f.getProductId()));
 						return f;
 					})
-					.distinct()
-					.collect(Collectors.toUnmodifiableList());
+					.collect(Collectors.toUnmodifiableList()), page.getNext());
 	}
 	
 	@Override
@@ -55,12 +74,12 @@ public class FavouriteServiceImpl implements FavouriteService {
 		return this.favouriteRepository.findById(favouriteId)
 				.map(FavouriteMappingHelper::map)
 				.map(f -> {
-					f.setUserDto(this.restTemplate
-							.getForObject(AppConstant.DiscoveredDomainsApi
-									.USER_SERVICE_API_URL + "/" + f.getUserId(), UserDto.class));
-					f.setProductDto(this.restTemplate
-							.getForObject(AppConstant.DiscoveredDomainsApi
-									.PRODUCT_SERVICE_API_URL + "/" + f.getProductId(), ProductDto.class));
+					final CompletableFuture<UserDto> userDtoFuture = this.enrichmentExecutor.submit("USER-SERVICE", 
+							() -> this.userClientService.findById(f.getUserId()));
+					final CompletableFuture<ProductDto> productDtoFuture = this.enrichmentExecutor.submit("PRODUCT-SERVICE", 
+							() -> this.productClientService.findById(f.getProductId()));
+					f.setUserDto(this.enrichmentExecutor.await(userDtoFuture));
+					f.setProductDto(this.enrichmentExecutor.await(productDtoFuture));
 					return f;
 				})
 				.orElseThrow(() -> new FavouriteNotFoundException(
@@ -3,6 +3,8 @@ package com.selimhorri.app.integration;
 import static org.assertj.core.api.Assertions.assertThat;
 
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.stream.Collectors;
 
 import org.junit.jupiter.api.BeforeEach;
@@ -17,6 +19,11 @@ import org.testcontainers.junit.jupiter.Container;
 import org.testcontainers.junit.jupiter.Testcontainers;
 
 import com.selimhorri.app.domain.Favourite;
+import com.selimhorri.app.domain.id.FavouriteId;
+import com.selimhorri.app.dto.FavouriteDto;
+import com.selimhorri.app.dto.response.collection.DtoCollectionResponse;
+import com.selimhorri.app.helper.FavouriteMappingHelper;
+import com.selimhorri.app.helper.KeysetPageHelper;
 import com.selimhorri.app.repository.FavouriteRepository;
 
 /**
@@ -163,4 +170,44 @@ class FavouriteUserProductIntegrationTest {
         assertThat(isFavourited).isTrue();
         assertThat(isNotFavourited).isFalse();
     }
+
+    @Test
+    void pageThroughFavourites_shouldReturnEachFavouriteOnce() {
+        // Arrange: favourites sharing a user, and a product, so every key column decides the order
+        final LocalDateTime likeDate = LocalDateTime.of(2024, 1, 1, 10, 0);
+        final List<FavouriteId> ids = List.of(
+                new FavouriteId(6, 601, likeDate),
+                new FavouriteId(6, 601, likeDate.plusSeconds(1)),
+                new FavouriteId(6, 602, likeDate),
+                new FavouriteId(7, 601, likeDate),
+                new FavouriteId(8, 601, likeDate));
+        ids.forEach(id -> this.favouriteRepository.save(Favourite.builder()
+                .userId(id.getUserId())
+                .productId(id.getProductId())
+                .likeDate(id.getLikeDate())
+                .build()));
+
+        // Act: follow the cursor two favourites at a time
+        final List<FavouriteId> visited = new ArrayList<>();
+        DtoCollectionResponse<FavouriteDto> page = KeysetPageHelper.page(this.map(
+                this.favouriteRepository.findAllFromStart(KeysetPageHelper.firstRows(2))), 2, FavouriteMappingHelper::toCursor);
+        while (true) {
+            page.getCollection().forEach(f -> visited.add(new FavouriteId(f.getUserId(), f.getProductId(), f.getLikeDate())));
+            if (page.getNext() == null) {
+                break;
+            }
+            final FavouriteId after = FavouriteMappingHelper.fromCursor(page.getNext());
+            page = KeysetPageHelper.page(this.map(this.favouriteRepository.findAllAfter(after.getUserId(), after.getProductId(),
+                    after.getLikeDate(), KeysetPageHelper.firstRows(2))), 2, FavouriteMappingHelper::toCursor);
+        }
+
+        // Assert
+        assertThat(visited).containsExactlyElementsOf(ids);
+    }
+
+    private List<FavouriteDto> map(final List<Favourite> favourites) {
+        return favourites.stream()
+                .map(FavouriteMappingHelper::map)
+                .collect(Collectors.toList());
+    }
 }
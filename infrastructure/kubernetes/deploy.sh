@@ -114,6 +114,25 @@ create_postgres_secret() {
     read -p "Press ENTER after creating the secret, or Ctrl+C to cancel..."
 }
 
+create_jwt_secret() {
+    print_header "Creating JWT Secret"
+
+    # proxy-client and api-gateway do not start without a signing secret
+    if kubectl get secret jwt-secret -n $NAMESPACE &> /dev/null; then
+        print_warning "JWT secret already exists (skipping)"
+        return 0
+    fi
+
+    print_warning "JWT secret does not exist!"
+    print_info "You need to create it manually with a random secret:"
+    echo ""
+    echo "  kubectl create secret generic jwt-secret \\"
+    echo "    --from-literal=APP_JWT_SECRET=\"\$(openssl rand -base64 32)\" \\"
+    echo "    -n $NAMESPACE"
+    echo ""
+    read -p "Press ENTER after creating the secret, or Ctrl+C to cancel..."
+}
+
 deploy_postgresql() {
     print_header "Deploying PostgreSQL"
 
@@ -263,6 +282,7 @@ cd "$(dirname "$0")"
 check_prerequisites
 create_namespaces
 create_postgres_secret
+create_jwt_secret
 deploy_postgresql
 deploy_service_discovery
 deploy_microservices
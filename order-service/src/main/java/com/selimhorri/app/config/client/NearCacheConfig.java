@@ -0,0 +1,41 @@
+package com.selimhorri.app.config.client;
+
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.selimhorri.app.dto.UserDto;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+
+/**
+ * Near-caches of DTOs owned by other services. Entries are dropped when the owning
+ * service reports a change through {@link com.selimhorri.app.resource.CacheResource},
+ * and expire after the configured TTL in case such a notification is lost.
+ */
+@Configuration
+@EnableConfigurationProperties({ NearCacheProperties.class, CacheInvalidationProperties.class })
+public class NearCacheConfig {
+	
+	@Bean
+	public Cache<Integer, UserDto> userNearCache(final NearCacheProperties nearCacheProperties, 
+			final MeterRegistry meterRegistry) {
+		return buildNearCache(nearCacheProperties, meterRegistry, "users");
+	}
+	
+	private static <V> Cache<Integer, V> buildNearCache(final NearCacheProperties nearCacheProperties, 
+			final MeterRegistry meterRegistry, final String cacheName) {
+		final Cache<Integer, V> cache = Caffeine.newBuilder()
+				.maximumSize(nearCacheProperties.getMaximumSize())
+				.expireAfterWrite(nearCacheProperties.getTimeToLive())
+				.recordStats()
+				.build();
+		return CaffeineCacheMetrics.monitor(meterRegistry, cache, cacheName);
+	}
+	
+	
+	
+}
@@ -0,0 +1,255 @@
+package com.selimhorri.app.loadbalancer;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+import java.util.stream.Collectors;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.cloud.client.ServiceInstance;
+import org.springframework.cloud.client.loadbalancer.CompletionContext;
+import org.springframework.cloud.client.loadbalancer.DefaultResponse;
+import org.springframework.cloud.client.loadbalancer.EmptyResponse;
+import org.springframework.cloud.client.loadbalancer.LoadBalancerLifecycle;
+import org.springframework.cloud.client.loadbalancer.Request;
+import org.springframework.cloud.client.loadbalancer.Response;
+import org.springframework.cloud.client.loadbalancer.TimedRequestContext;
+import org.springframework.cloud.loadbalancer.core.NoopServiceInstanceListSupplier;
+import org.springframework.cloud.loadbalancer.core.ReactorServiceInstanceLoadBalancer;
+import org.springframework.cloud.loadbalancer.core.SelectedInstanceCallback;
+import org.springframework.cloud.loadbalancer.core.ServiceInstanceListSupplier;
+
+import com.selimhorri.app.config.loadbalancer.PowerOfTwoChoicesProperties;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.Meter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import lombok.extern.slf4j.Slf4j;
+import reactor.core.publisher.Mono;
+
+/**
+ * Picks two distinct instances at random and sends the request to the less loaded one: the
+ * load of an instance is its requests in flight, weighed by its average latency once both
+ * candidates have been timed. Sampling two instead of scanning all of them keeps the choice
+ * cheap and stops every caller from herding onto the same idle instance at once, while a slow
+ * replica, whose requests pile up, is only picked when drawn against an even busier one.
+ * <p>
+ * The balancer is also the {@link LoadBalancerLifecycle} of its service, which is how it
+ * learns when a request starts and ends, whether it was routed by the gateway or sent by a
+ * blocking client. The average jumps to any slower response at once and decays back towards
+ * faster ones with time, so a replica that stalls is avoided right away and one that has
+ * recovered is trusted again within a few decay periods.
+ */
+@Slf4j
+public class PowerOfTwoChoicesLoadBalancer implements ReactorServiceInstanceLoadBalancer,
+		LoadBalancerLifecycle<Object, Object, ServiceInstance> {
+	
+	private final ObjectProvider<ServiceInstanceListSupplier> serviceInstanceListSupplierProvider;
+	private final String serviceId;
+	private final double latencyDecayNanos;
+	private final MeterRegistry meterRegistry;
+	private final LongSupplier nanoTime;
+	private final Map<String, InstanceLoad> loads = new ConcurrentHashMap<>();
+	
+	private volatile List<ServiceInstance> lastInstances;
+	
+	public PowerOfTwoChoicesLoadBalancer(final ObjectProvider<ServiceInstanceListSupplier> serviceInstanceListSupplierProvider,
+			final String serviceId, final PowerOfTwoChoicesProperties powerOfTwoChoicesProperties, final MeterRegistry meterRegistry) {
+		this(serviceInstanceListSupplierProvider, serviceId, powerOfTwoChoicesProperties, meterRegistry, System::nanoTime);
+	}
+	
+	PowerOfTwoChoicesLoadBalancer(final ObjectProvider<ServiceInstanceListSupplier> serviceInstanceListSupplierProvider,
+			final String serviceId, final PowerOfTwoChoicesProperties powerOfTwoChoicesProperties, final MeterRegistry meterRegistry,
+			final LongSupplier nanoTime) {
+		this.serviceInstanceListSupplierProvider = serviceInstanceListSupplierProvider;
+		this.serviceId = serviceId;
+		this.latencyDecayNanos = powerOfTwoChoicesProperties.getLatencyDecay().toNanos();
+		this.meterRegistry = meterRegistry;
+		this.nanoTime = nanoTime;
+	}
+	
+	@Override
+	public Mono<Response<ServiceInstance>> choose(final Request request) {
+		final ServiceInstanceListSupplier supplier = this.serviceInstanceListSupplierProvider
+				.getIfAvailable(NoopServiceInstanceListSupplier::new);
+		return supplier.get(request)
+				.next()
+				.map(instances -> {
+					final Response<ServiceInstance> response = this.choose(instances);
+					if (supplier instanceof SelectedInstanceCallback && response.hasServer()) {
+						((SelectedInstanceCallback) supplier).selectedServiceInstance(response.getServer());
+					}
+					return response;
+				});
+	}
+	
+	private Response<ServiceInstance> choose(final List<ServiceInstance> instances) {
+		if (instances.isEmpty()) {
+			log.warn("** No servers available for service: {}*\n", this.serviceId);
+			return new EmptyResponse();
+		}
+		if (instances != this.lastInstances) {
+			this.retain(instances);
+		}
+		if (instances.size() == 1) {
+			return new DefaultResponse(instances.get(0));
+		}
+		
+		final ThreadLocalRandom random = ThreadLocalRandom.current();
+		final int first = random.nextInt(instances.size());
+		final int second = (first + 1 + random.nextInt(instances.size() - 1)) % instances.size();
+		final ServiceInstance firstInstance = instances.get(first);
+		final ServiceInstance secondInstance = instances.get(second);
+		return new DefaultResponse(this.load(firstInstance).isBusierThan(this.load(secondInstance)) ? secondInstance : firstInstance);
+	}
+	
+	@Override
+	public boolean supports(final Class requestContextClass, final Class responseClass, final Class serverTypeClass) {
+		return ServiceInstance.class.isAssignableFrom(serverTypeClass);
+	}
+	
+	@Override
+	public void onStart(final Request<Object> request) {
+		// the instance is not known yet
+	}
+	
+	@Override
+	public void onStartRequest(final Request<Object> request, final Response<ServiceInstance> lbResponse) {
+		if (!lbResponse.hasServer()) {
+			return;
+		}
+		if (request.getContext() instanceof TimedRequestContext) {
+			((TimedRequestContext) request.getContext()).setRequestStartTime(this.nanoTime.getAsLong());
+		}
+		this.load(lbResponse.getServer()).inFlight.incrementAndGet();
+	}
+	
+	@Override
+	public void onComplete(final CompletionContext<Object, ServiceInstance, Object> completionContext) {
+		final Response<ServiceInstance> lbResponse = completionContext.getLoadBalancerResponse();
+		if (lbResponse == null || !lbResponse.hasServer()) {
+			return;
+		}
+		final InstanceLoad load = this.loads.get(key(lbResponse.getServer()));
+		if (load == null) {
+			return;
+		}
+		load.inFlight.decrementAndGet();
+		load.completed.incrementAndGet();
+		final Object context = completionContext.getLoadBalancerRequest() == null ? null
+				: completionContext.getLoadBalancerRequest().getContext();
+		if (completionContext.status() == CompletionContext.Status.SUCCESS && context instanceof TimedRequestContext) {
+			final long now = this.nanoTime.getAsLong();
+			load.sample(now - ((TimedRequestContext) context).getRequestStartTime(), now);
+		}
+	}
+	
+	private InstanceLoad load(final ServiceInstance instance) {
+		return this.loads.computeIfAbsent(key(instance), this::newLoad);
+	}
+	
+	/**
+	 * Forgets instances that have left the service, along with their meters.
+	 */
+	private void retain(final List<ServiceInstance> instances) {
+		this.lastInstances = instances;
+		final Set<String> current = instances.stream()
+				.map(PowerOfTwoChoicesLoadBalancer::key)
+				.collect(Collectors.toSet());
+		this.loads.entrySet().removeIf(entry -> {
+			if (current.contains(entry.getKey())) {
+				return false;
+			}
+			entry.getValue().meters.forEach(this.meterRegistry::remove);
+			return true;
+		});
+	}
+	
+	private InstanceLoad newLoad(final String instance) {
+		final InstanceLoad load = new InstanceLoad(this.latencyDecayNanos);
+		final Tags tags = Tags.of("service", this.serviceId, "instance", instance);
+		load.meters = List.of(
+				Gauge.builder("loadbalancer.instance.in.flight", load.inFlight, AtomicInteger::get)
+						.description("Requests sent to the instance and not answered yet")
+						.tags(tags)
+						.register(this.meterRegistry),
+				Gauge.builder("loadbalancer.instance.latency", load, InstanceLoad::latencySeconds)
+						.description("Decaying average latency of the instance")
+						.baseUnit("seconds")
+						.tags(tags)
+						.register(this.meterRegistry),
+				FunctionCounter.builder("loadbalancer.instance.requests", load.completed, AtomicLong::get)
+						.description("Requests completed by the instance")
+						.tags(tags)
+						.register(this.meterRegistry));
+		return load;
+	}
+	
+	private static String key(final ServiceInstance instance) {
+		return instance.getInstanceId() != null ? instance.getInstanceId() : instance.getHost() + ":" + instance.getPort();
+	}
+	
+	private static final class InstanceLoad {
+		
+		private final double latencyDecayNanos;
+		private final AtomicInteger inFlight = new AtomicInteger();
+		private final AtomicLong completed = new AtomicLong();
+		private volatile List<Meter> meters = List.of();
+		
+		// guarded by this
+		private double latency;
+		private long sampledAt;
+		private boolean sampled;
+		
+		private InstanceLoad(final double latencyDecayNanos) {
+			this.latencyDecayNanos = latencyDecayNanos;
+		}
+		
+		private synchronized void sample(final long rtt, final long now) {
+			if (!this.sampled || rtt > this.latency) {
+				this.latency = rtt;
+				this.sampled = true;
+			}
+			else {
+				final double weight = Math.exp(-Math.max(0, now - this.sampledAt) / this.latencyDecayNanos);
+				this.latency = this.latency * weight + rtt * (1 - weight);
+			}
+			this.sampledAt = now;
+		}
+		
+		/**
+		 * Compares latency times requests in flight, counting the request about to be sent;
+		 * until both instances have been timed, only the requests in flight are compared.
+		 */
+		private boolean isBusierThan(final InstanceLoad other) {
+			final double latency;
+			final double otherLatency;
+			synchronized (this) {
+				latency = this.sampled ? this.latency : 0;
+			}
+			synchronized (other) {
+				otherLatency = other.sampled ? other.latency : 0;
+			}
+			if (latency == 0 || otherLatency == 0) {
+				return this.inFlight.get() > other.inFlight.get();
+			}
+			return latency * (this.inFlight.get() + 1) > otherLatency * (other.inFlight.get() + 1);
+		}
+		
+		private synchronized double latencySeconds() {
+			return this.latency / TimeUnit.SECONDS.toNanos(1);
+		}
+	
+	}
+	
+	
+	
+}
@@ -1,12 +1,11 @@
 package com.selimhorri.app.service;
 
-import java.util.List;
-
 import com.selimhorri.app.dto.CartDto;
+import com.selimhorri.app.dto.response.collection.DtoCollectionResponse;
 
 public interface CartService {
 	
-	List<CartDto> findAll();
+	DtoCollectionResponse<CartDto> findAll(final Integer after, final int limit);
 	CartDto findById(final Integer cartId);
 	CartDto save(final CartDto cartDto);
 	CartDto update(final CartDto cartDto);
@@ -1,12 +1,17 @@
 package com.selimhorri.app.service;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.function.Consumer;
 
 import com.selimhorri.app.dto.OrderDto;
+import com.selimhorri.app.dto.response.collection.DtoCollectionResponse;
 
 public interface OrderService {
 	
-	List<OrderDto> findAll();
+	DtoCollectionResponse<OrderDto> findAll(final Integer after, final int limit);
+	void streamAll(final Consumer<OrderDto> consumer);
+	List<OrderDto> findAllByIds(final Collection<Integer> orderIds);
 	OrderDto findById(final Integer orderId);
 	OrderDto save(final OrderDto orderDto);
 	OrderDto update(final OrderDto orderDto);
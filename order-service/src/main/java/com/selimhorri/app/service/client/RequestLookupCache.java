@@ -0,0 +1,90 @@
+package com.selimhorri.app.service.client;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.springframework.stereotype.Component;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Memoizes remote lookups for the lifetime of the incoming request, so each
+ * distinct {@code (target service, id)} pair is fetched at most once per request.
+ * Hits and misses are counted under the {@code enrichment.request.cache} meter.
+ */
+@Component
+@RequiredArgsConstructor
+public class RequestLookupCache {
+	
+	private static final String ENTRIES_ATTRIBUTE = RequestLookupCache.class.getName() + ".ENTRIES";
+	private static final String CACHE_COUNTER = "enrichment.request.cache";
+	
+	private final MeterRegistry meterRegistry;
+	
+	/**
+	 * Binds to the current request. Outside of a request the returned scope is
+	 * private to the caller, which keeps lookups correct but unshared.
+	 */
+	public Scope forCurrentRequest() {
+		final RequestAttributes attributes = RequestContextHolder.getRequestAttributes();
+		if (attributes == null) {
+			return new Scope(new ConcurrentHashMap<>());
+		}
+		synchronized (attributes) {
+			@SuppressWarnings("unchecked")
+			Map<String, Object> entries = (Map<String, Object>) attributes
+					.getAttribute(ENTRIES_ATTRIBUTE, RequestAttributes.SCOPE_REQUEST);
+			if (entries == null) {
+				entries = new ConcurrentHashMap<>();
+				attributes.setAttribute(ENTRIES_ATTRIBUTE, entries, RequestAttributes.SCOPE_REQUEST);
+			}
+			return new Scope(entries);
+		}
+	}
+	
+	@RequiredArgsConstructor
+	public final class Scope {
+		
+		private final Map<String, Object> entries;
+		
+		@SuppressWarnings("unchecked")
+		public <T> Map<Integer, T> getAllPresent(final String targetService, final Collection<Integer> ids) {
+			final Map<Integer, T> present = new HashMap<>();
+			ids.forEach(id -> {
+				final Object value = this.entries.get(key(targetService, id));
+				if (value != null) {
+					present.put(id, (T) value);
+				}
+			});
+			counter(targetService, "hit").increment(present.size());
+			counter(targetService, "miss").increment(ids.size() - present.size());
+			return present;
+		}
+		
+		public <T> void putAll(final String targetService, final Map<Integer, T> values) {
+			values.forEach((id, value) -> this.entries.put(key(targetService, id), value));
+		}
+		
+	}
+	
+	private Counter counter(final String targetService, final String result) {
+		return Counter.builder(CACHE_COUNTER)
+				.description("Remote lookups answered from the per-request cache")
+				.tag("target", targetService)
+				.tag("result", result)
+				.register(this.meterRegistry);
+	}
+	
+	private static String key(final String targetService, final Integer id) {
+		return targetService + ":" + id;
+	}
+	
+	
+	
+}
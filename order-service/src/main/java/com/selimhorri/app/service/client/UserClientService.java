@@ -0,0 +1,105 @@
+package com.selimhorri.app.service.client;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+
+import org.springframework.core.ParameterizedTypeReference;
+import org.springframework.http.HttpMethod;
+import org.springframework.stereotype.Service;
+import org.springframework.web.client.RestTemplate;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.selimhorri.app.constant.AppConstant;
+import com.selimhorri.app.dto.UserDto;
+import com.selimhorri.app.dto.response.collection.DtoCollectionResponse;
+import com.selimhorri.app.helper.ChunkingHelper;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Resolves users from USER-SERVICE through its multi-id endpoint,
+ * so that enriching a listing costs one call per chunk of distinct ids
+ * instead of one call per row. Chunks are fetched concurrently; ids already
+ * resolved earlier in the same request are served from {@link RequestLookupCache}
+ * and recently seen ones from the near-cache.
+ */
+@Service
+@Slf4j
+@RequiredArgsConstructor
+public class UserClientService {
+	
+	private static final String TARGET_SERVICE = "USER-SERVICE";
+	private static final ParameterizedTypeReference<DtoCollectionResponse<UserDto>> USER_COLLECTION_TYPE = 
+			new ParameterizedTypeReference<>() {};
+	
+	private final RestTemplate restTemplate;
+	private final EnrichmentExecutor enrichmentExecutor;
+	private final RequestLookupCache requestLookupCache;
+	private final Cache<Integer, UserDto> userNearCache;
+	
+	public UserDto findById(final Integer userId) {
+		log.info("*** UserDto, client; fetch user by id *");
+		return this.userNearCache.get(userId, id -> this.restTemplate
+				.getForObject(AppConstant.DiscoveredDomainsApi.USER_SERVICE_API_URL + "/" + id, UserDto.class));
+	}
+	
+	public Map<Integer, UserDto> findAllByIds(final Collection<Integer> userIds) {
+		return this.enrichmentExecutor.await(this.findAllByIdsAsync(userIds));
+	}
+	
+	public CompletableFuture<Map<Integer, UserDto>> findAllByIdsAsync(final Collection<Integer> userIds) {
+		log.info("*** UserDto Map, client; fetch users by ids *");
+		final Collection<Integer> distinctIds = userIds.stream()
+				.filter(Objects::nonNull)
+				.collect(Collectors.toCollection(LinkedHashSet::new));
+		final RequestLookupCache.Scope lookupScope = this.requestLookupCache.forCurrentRequest();
+		final Map<Integer, UserDto> cachedUserDtos = new HashMap<>(lookupScope.getAllPresent(TARGET_SERVICE, distinctIds));
+		cachedUserDtos.putAll(this.userNearCache.getAllPresent(distinctIds.stream()
+				.filter(id -> !cachedUserDtos.containsKey(id))
+				.collect(Collectors.toUnmodifiableList())));
+		final List<Integer> missingIds = distinctIds.stream()
+				.filter(id -> !cachedUserDtos.containsKey(id))
+				.collect(Collectors.toUnmodifiableList());
+		final List<Supplier<Collection<UserDto>>> lookups = ChunkingHelper
+				.partition(missingIds, AppConstant.BATCH_LOOKUP_CHUNK_SIZE)
+				.stream()
+					.map(chunk -> (Supplier<Collection<UserDto>>) () -> this.fetchChunk(chunk))
+					.collect(Collectors.toUnmodifiableList());
+		return this.enrichmentExecutor.submitAll(TARGET_SERVICE, lookups)
+				.thenApply(chunks -> {
+					final Map<Integer, UserDto> userDtos = chunks.stream()
+							.flatMap(Collection::stream)
+							.collect(Collectors.toMap(UserDto::getUserId, Function.identity(), (first, second) -> first, HashMap::new));
+					lookupScope.putAll(TARGET_SERVICE, userDtos);
+					this.userNearCache.putAll(userDtos);
+					userDtos.putAll(cachedUserDtos);
+					return userDtos;
+				});
+	}
+	
+	private Collection<UserDto> fetchChunk(final Collection<Integer> userIds) {
+		final DtoCollectionResponse<UserDto> response = this.restTemplate
+				.exchange(AppConstant.DiscoveredDomainsApi.USER_SERVICE_API_URL + "?ids={ids}", 
+						HttpMethod.GET, null, USER_COLLECTION_TYPE, joinIds(userIds))
+				.getBody();
+		return response == null || response.getCollection() == null ? List.of() : response.getCollection();
+	}
+	
+	private static String joinIds(final Collection<Integer> ids) {
+		return ids.stream()
+				.map(String::valueOf)
+				.collect(Collectors.joining(","));
+	}
+	
+	
+	
+}
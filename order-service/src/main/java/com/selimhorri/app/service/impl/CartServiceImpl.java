@@ -1,20 +1,22 @@
 package com.selimhorri.app.service.impl;
 
 import java.util.List;
+import java.util.Map;
 import java.util.stream.Collectors;
 
 import javax.transaction.Transactional;
 
 import org.springframework.stereotype.Service;
-import org.springframework.web.client.RestTemplate;
 
-import com.selimhorri.app.constant.AppConstant;
 import com.selimhorri.app.dto.CartDto;
 import com.selimhorri.app.dto.UserDto;
+import com.selimhorri.app.dto.response.collection.DtoCollectionResponse;
 import com.selimhorri.app.exception.wrapper.CartNotFoundException;
 import com.selimhorri.app.helper.CartMappingHelper;
+import com.selimhorri.app.helper.KeysetPageHelper;
 import com.selimhorri.app.repository.CartRepository;
 import com.selimhorri.app.service.CartService;
+import com.selimhorri.app.service.client.UserClientService;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -26,21 +28,25 @@ import lombok.extern.slf4j.Slf4j;
 public class CartServiceImpl implements CartService {
 	
 	private final CartRepository cartRepository;
-	private final RestTemplate restTemplate;
+	private final UserClientService userClientService;
 	
 	@Override
-	public List<CartDto> findAll() {
+	public DtoCollectionResponse<CartDto> findAll(final Integer after, final int limit) {
 		log.info("*** CartDto List, service; fetch all carts *");
-		return this.cartRepository.findAll()
+		final DtoCollectionResponse<CartDto> page = KeysetPageHelper.page(this.cartRepository.findAllAfter(after == null ? 0 : after, KeysetPageHelper.firstRows(limit))
 				.stream()
 					.map(CartMappingHelper::map)
+					.collect(Collectors.toUnmodifiableList()), limit, CartDto::getCartId);
+		final Map<Integer, UserDto> userDtos = this.userClientService.findAllByIds(page.getCollection()
+				.stream()
+					.map(CartDto::getUserId)
+					.collect(Collectors.toSet()));
+		return new DtoCollectionResponse<>(page.getCollection().stream()
 					.map(c -> {
-						c.setUserDto(this.restTemplate.getForObject(AppConstant.DiscoveredDomainsApi
-								.USER_SERVICE_API_URL + "/" + c.getUserDto().getUserId(), UserDto.class));
+						c.setUserDto(userDtos.getOrDefault(c.getUserId(), c.getUserDto()));
 						return c;
 					})
-					.distinct()
-					.collect(Collectors.toUnmodifiableList());
+					.collect(Collectors.toUnmodifiableList()), page.getNext());
 	}
 	
 	@Override
@@ -49,8 +55,7 @@ public class CartServiceImpl implements CartService {
 		return this.cartRepository.findById(cartId)
 				.map(CartMappingHelper::map)
 				.map(c -> {
-					c.setUserDto(this.restTemplate.getForObject(AppConstant.DiscoveredDomainsApi
-							.USER_SERVICE_API_URL + "/" + c.getUserDto().getUserId(), UserDto.class));
+					c.setUserDto(this.userClientService.findById(c.getUserDto().getUserId()));
 					return c;
 				})
 				.orElseThrow(() -> new CartNotFoundException(String
@@ -1,14 +1,21 @@
 package com.selimhorri.app.service.impl;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.function.Consumer;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
-import javax.transaction.Transactional;
+import javax.persistence.EntityManager;
 
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
+import com.selimhorri.app.domain.Order;
 import com.selimhorri.app.dto.OrderDto;
+import com.selimhorri.app.dto.response.collection.DtoCollectionResponse;
 import com.selimhorri.app.exception.wrapper.OrderNotFoundException;
+import com.selimhorri.app.helper.KeysetPageHelper;
 import com.selimhorri.app.helper.OrderMappingHelper;
 import com.selimhorri.app.repository.OrderRepository;
 import com.selimhorri.app.service.OrderService;
@@ -23,11 +30,41 @@ import lombok.extern.slf4j.Slf4j;
 public class OrderServiceImpl implements OrderService {
 	
 	private final OrderRepository orderRepository;
+	private final EntityManager entityManager;
 	
 	@Override
-	public List<OrderDto> findAll() {
+	public DtoCollectionResponse<OrderDto> findAll(final Integer after, final int limit) {
 		log.info("*** OrderDto List, service; fetch all orders *");
-		return this.orderRepository.findAll()
+		return KeysetPageHelper.page(this.orderRepository.findAllAfter(after == null ? 0 : after, KeysetPageHelper.firstRows(limit))
+				.stream()
+					.map(OrderMappingHelper::map)
+					.collect(Collectors.toUnmodifiableList()), limit, OrderDto::getOrderId);
+	}
+	
+	/**
+	 * Hands the orders to the consumer one at a time, in id order, while the database cursor
+	 * stays open. Each row leaves the persistence context once mapped, so memory does not grow
+	 * with the table.
+	 */
+	@Override
+	@Transactional(readOnly = true)
+	public void streamAll(final Consumer<OrderDto> consumer) {
+		log.info("*** OrderDto Stream, service; stream all orders *");
+		try (final Stream<Order> orders = this.orderRepository.streamAll()) {
+			orders.forEach(order -> {
+				consumer.accept(OrderMappingHelper.map(order));
+				this.entityManager.clear();
+			});
+		}
+	}
+	
+	@Override
+	public List<OrderDto> findAllByIds(final Collection<Integer> orderIds) {
+		log.info("*** OrderDto List, service; fetch orders by ids *");
+		if (orderIds == null || orderIds.isEmpty()) {
+			return List.of();
+		}
+		return this.orderRepository.findAllByOrderIdIn(orderIds)
 				.stream()
 					.map(OrderMappingHelper::map)
 					.distinct()
@@ -0,0 +1,56 @@
+package com.selimhorri.app.resource;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.selimhorri.app.config.client.CacheInvalidationProperties;
+import com.selimhorri.app.dto.UserDto;
+
+/**
+ * Unit tests for CacheResource
+ * Tests that only calls carrying the shared invalidation secret evict near-cached users
+ */
+class CacheResourceTest {
+
+    private Cache<Integer, UserDto> userNearCache;
+    private CacheResource cacheResource;
+
+    @BeforeEach
+    void setUp() {
+        final CacheInvalidationProperties cacheInvalidationProperties = new CacheInvalidationProperties();
+        cacheInvalidationProperties.setSecret("s3cret");
+        this.userNearCache = Caffeine.newBuilder().build();
+        this.userNearCache.put(1, UserDto.builder().userId(1).build());
+        this.cacheResource = new CacheResource(this.userNearCache, cacheInvalidationProperties);
+    }
+
+    @Test
+    void evictUser_shouldRefuseCallWithoutSecret() {
+        // when
+        final HttpStatus anonymous = this.cacheResource.evictUser("1", null).getStatusCode();
+        final HttpStatus wrongSecret = this.cacheResource.evictUser("1", "guess").getStatusCode();
+
+        // then
+        assertEquals(HttpStatus.FORBIDDEN, anonymous);
+        assertEquals(HttpStatus.FORBIDDEN, wrongSecret);
+        assertNotNull(this.userNearCache.getIfPresent(1));
+    }
+
+    @Test
+    void evictUser_shouldEvictOnCallWithSecret() {
+        // when
+        final HttpStatus status = this.cacheResource.evictUser("1", "s3cret").getStatusCode();
+
+        // then
+        assertEquals(HttpStatus.OK, status);
+        assertNull(this.userNearCache.getIfPresent(1));
+    }
+
+}
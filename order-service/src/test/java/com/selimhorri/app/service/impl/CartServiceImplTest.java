@@ -4,7 +4,6 @@ import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.any;
-import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.doNothing;
 import static org.mockito.Mockito.times;
@@ -13,6 +12,7 @@ import static org.mockito.Mockito.when;
 
 import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 import org.junit.jupiter.api.BeforeEach;
@@ -21,7 +21,7 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
-import org.springframework.web.client.RestTemplate;
+import org.springframework.data.domain.Pageable;
 
 import com.selimhorri.app.domain.Cart;
 import com.selimhorri.app.dto.CartDto;
@@ -29,6 +29,7 @@ import com.selimhorri.app.dto.UserDto;
 import com.selimhorri.app.exception.wrapper.CartNotFoundException;
 import com.selimhorri.app.helper.CartMappingHelper;
 import com.selimhorri.app.repository.CartRepository;
+import com.selimhorri.app.service.client.UserClientService;
 
 /**
  * Unit tests for CartServiceImpl
@@ -42,7 +43,7 @@ class CartServiceImplTest {
     private CartRepository cartRepository;
 
     @Mock
-    private RestTemplate restTemplate;
+    private UserClientService userClientService;
 
     @InjectMocks
     private CartServiceImpl cartService;
@@ -62,6 +63,7 @@ class CartServiceImplTest {
 
         this.cart = Cart.builder()
                 .cartId(1)
+                .userId(1)
                 .build();
         this.cartDto = CartMappingHelper.map(this.cart);
         this.cartDto.setUserDto(this.userDto);
@@ -70,32 +72,34 @@ class CartServiceImplTest {
     @Test
     void findAll_shouldReturnListOfCarts() {
         // given
-        when(this.cartRepository.findAll()).thenReturn(List.of(this.cart));
-        when(this.restTemplate.getForObject(anyString(), eq(UserDto.class)))
-                .thenReturn(this.userDto);
+        when(this.cartRepository.findAllAfter(eq(0), any(Pageable.class))).thenReturn(List.of(this.cart));
+        when(this.userClientService.findAllByIds(any()))
+                .thenReturn(Map.of(this.userDto.getUserId(), this.userDto));
 
         // when
-        final List<CartDto> result = this.cartService.findAll();
+        final List<CartDto> result = List.copyOf(this.cartService.findAll(null, 100).getCollection());
 
         // then
         assertNotNull(result);
         assertEquals(1, result.size());
         assertEquals(this.cart.getCartId(), result.get(0).getCartId());
-        verify(this.cartRepository, times(1)).findAll();
+        assertEquals(this.userDto, result.get(0).getUserDto());
+        verify(this.cartRepository, times(1)).findAllAfter(eq(0), any(Pageable.class));
+        verify(this.userClientService, times(1)).findAllByIds(any());
     }
 
     @Test
     void findAll_shouldReturnEmptyList_whenNoCartsExist() {
         // given
-        when(this.cartRepository.findAll()).thenReturn(Collections.emptyList());
+        when(this.cartRepository.findAllAfter(eq(0), any(Pageable.class))).thenReturn(Collections.emptyList());
 
         // when
-        final List<CartDto> result = this.cartService.findAll();
+        final List<CartDto> result = List.copyOf(this.cartService.findAll(null, 100).getCollection());
 
         // then
         assertNotNull(result);
         assertEquals(0, result.size());
-        verify(this.cartRepository, times(1)).findAll();
+        verify(this.cartRepository, times(1)).findAllAfter(eq(0), any(Pageable.class));
     }
 
     @Test
@@ -103,7 +107,7 @@ class CartServiceImplTest {
         // given
         final Integer cartId = 1;
         when(this.cartRepository.findById(cartId)).thenReturn(Optional.of(this.cart));
-        when(this.restTemplate.getForObject(anyString(), eq(UserDto.class)))
+        when(this.userClientService.findById(this.userDto.getUserId()))
                 .thenReturn(this.userDto);
 
         // when
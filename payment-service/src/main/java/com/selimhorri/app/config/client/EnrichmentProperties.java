@@ -0,0 +1,21 @@
+package com.selimhorri.app.config.client;
+
+import java.time.Duration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import lombok.Data;
+
+/**
+ * Sizing of the executor used to hydrate DTOs with data owned by other services.
+ */
+@Data
+@ConfigurationProperties(prefix = "app.enrichment")
+public class EnrichmentProperties {
+	
+	private int corePoolSize = 8;
+	private int maxPoolSize = 32;
+	private int queueCapacity = 256;
+	private Duration timeout = Duration.ofSeconds(3);
+	
+}
@@ -0,0 +1,27 @@
+package com.selimhorri.app.helper;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+public interface ChunkingHelper {
+	
+	/**
+	 * Splits the given items into consecutive chunks of at most {@code chunkSize} elements,
+	 * preserving iteration order. Used to bound the URL length of batch lookups.
+	 */
+	public static <T> List<List<T>> partition(final Collection<T> items, final int chunkSize) {
+		if (chunkSize <= 0) {
+			throw new IllegalArgumentException("Chunk size must be positive");
+		}
+		final List<T> source = new ArrayList<>(items);
+		final List<List<T>> chunks = new ArrayList<>((source.size() + chunkSize - 1) / chunkSize);
+		for (int from = 0; from < source.size(); from += chunkSize) {
+			chunks.add(source.subList(from, Math.min(from + chunkSize, source.size())));
+		}
+		return chunks;
+	}
+	
+	
+	
+}
@@ -1,12 +1,16 @@
 package com.selimhorri.app.service;
 
 import java.util.List;
+import java.util.function.Consumer;
 
 import com.selimhorri.app.dto.PaymentDto;
+import com.selimhorri.app.dto.response.collection.DtoCollectionResponse;
 
 public interface PaymentService {
 	
-	List<PaymentDto> findAll();
+	DtoCollectionResponse<PaymentDto> findAll(final Integer after, final int limit);
+	void streamAll(final Consumer<PaymentDto> consumer);
+	List<PaymentDto> findAllByOrderId(final Integer orderId);
 	PaymentDto findById(final Integer paymentId);
 	PaymentDto save(final PaymentDto paymentDto);
 	PaymentDto update(final PaymentDto paymentDto);
@@ -0,0 +1,89 @@
+package com.selimhorri.app.service.client;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.stereotype.Component;
+import org.springframework.web.client.ResourceAccessException;
+
+import com.selimhorri.app.config.client.EnrichmentExecutorConfig;
+import com.selimhorri.app.config.client.EnrichmentProperties;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Runs independent remote lookups concurrently on the bounded enrichment executor.
+ * Every lookup is subject to the configured timeout and is timed per target service
+ * under the {@code enrichment.lookup} meter.
+ */
+@Component
+@Slf4j
+public class EnrichmentExecutor {
+	
+	private static final String LOOKUP_TIMER = "enrichment.lookup";
+	
+	private final Executor executor;
+	private final MeterRegistry meterRegistry;
+	private final long timeoutMillis;
+	
+	public EnrichmentExecutor(
+			@Qualifier(EnrichmentExecutorConfig.ENRICHMENT_TASK_EXECUTOR) final Executor executor, 
+			final MeterRegistry meterRegistry, 
+			final EnrichmentProperties enrichmentProperties) {
+		this.executor = executor;
+		this.meterRegistry = meterRegistry;
+		this.timeoutMillis = enrichmentProperties.getTimeout().toMillis();
+	}
+	
+	public <T> CompletableFuture<T> submit(final String targetService, final Supplier<T> lookup) {
+		final Timer timer = Timer.builder(LOOKUP_TIMER)
+				.description("Latency of remote lookups issued to hydrate DTOs")
+				.tag("target", targetService)
+				.register(this.meterRegistry);
+		return CompletableFuture.supplyAsync(() -> timer.record(lookup), this.executor)
+				.orTimeout(this.timeoutMillis, TimeUnit.MILLISECONDS);
+	}
+	
+	/**
+	 * Submits all lookups at once; the resulting list keeps the order of {@code lookups}.
+	 */
+	public <T> CompletableFuture<List<T>> submitAll(final String targetService, final List<Supplier<T>> lookups) {
+		final List<CompletableFuture<T>> futures = lookups.stream()
+				.map(lookup -> this.submit(targetService, lookup))
+				.collect(Collectors.toUnmodifiableList());
+		return CompletableFuture.allOf(futures.toArray(CompletableFuture[]::new))
+				.thenApply(ignored -> futures.stream()
+						.map(CompletableFuture::join)
+						.collect(Collectors.toUnmodifiableList()));
+	}
+	
+	public <T> T await(final CompletableFuture<T> future) {
+		try {
+			return future.join();
+		}
+		catch (CompletionException e) {
+			final Throwable cause = e.getCause();
+			if (cause instanceof TimeoutException) {
+				log.warn("Remote lookup timed out after {} ms", this.timeoutMillis);
+				throw new ResourceAccessException(String
+						.format("Remote lookup timed out after %d ms", this.timeoutMillis));
+			}
+			if (cause instanceof RuntimeException) {
+				throw (RuntimeException) cause;
+			}
+			throw e;
+		}
+	}
+	
+	
+	
+}
@@ -0,0 +1,92 @@
+package com.selimhorri.app.service.client;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+
+import org.springframework.core.ParameterizedTypeReference;
+import org.springframework.http.HttpMethod;
+import org.springframework.stereotype.Service;
+import org.springframework.web.client.RestTemplate;
+
+import com.selimhorri.app.constant.AppConstant;
+import com.selimhorri.app.dto.OrderDto;
+import com.selimhorri.app.dto.response.collection.DtoCollectionResponse;
+import com.selimhorri.app.helper.ChunkingHelper;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Resolves orders from ORDER-SERVICE through its multi-id endpoint,
+ * so that enriching a listing costs one call per chunk of distinct ids
+ * instead of one call per row. Chunks are fetched concurrently, and ids already
+ * resolved earlier in the same request are served from {@link RequestLookupCache}.
+ */
+@Service
+@Slf4j
+@RequiredArgsConstructor
+public class OrderClientService {
+	
+	private static final String TARGET_SERVICE = "ORDER-SERVICE";
+	private static final ParameterizedTypeReference<DtoCollectionResponse<OrderDto>> ORDER_COLLECTION_TYPE = 
+			new ParameterizedTypeReference<>() {};
+	
+	private final RestTemplate restTemplate;
+	private final EnrichmentExecutor enrichmentExecutor;
+	private final RequestLookupCache requestLookupCache;
+	
+	public Map<Integer, OrderDto> findAllByIds(final Collection<Integer> orderIds) {
+		return this.enrichmentExecutor.await(this.findAllByIdsAsync(orderIds));
+	}
+	
+	public CompletableFuture<Map<Integer, OrderDto>> findAllByIdsAsync(final Collection<Integer> orderIds) {
+		log.info("*** OrderDto Map, client; fetch orders by ids *");
+		final Collection<Integer> distinctIds = orderIds.stream()
+				.filter(Objects::nonNull)
+				.collect(Collectors.toCollection(LinkedHashSet::new));
+		final RequestLookupCache.Scope lookupScope = this.requestLookupCache.forCurrentRequest();
+		final Map<Integer, OrderDto> cachedOrderDtos = lookupScope.getAllPresent(TARGET_SERVICE, distinctIds);
+		final List<Integer> missingIds = distinctIds.stream()
+				.filter(id -> !cachedOrderDtos.containsKey(id))
+				.collect(Collectors.toUnmodifiableList());
+		final List<Supplier<Collection<OrderDto>>> lookups = ChunkingHelper
+				.partition(missingIds, AppConstant.BATCH_LOOKUP_CHUNK_SIZE)
+				.stream()
+					.map(chunk -> (Supplier<Collection<OrderDto>>) () -> this.fetchChunk(chunk))
+					.collect(Collectors.toUnmodifiableList());
+		return this.enrichmentExecutor.submitAll(TARGET_SERVICE, lookups)
+				.thenApply(chunks -> {
+					final Map<Integer, OrderDto> orderDtos = chunks.stream()
+							.flatMap(Collection::stream)
+							.collect(Collectors.toMap(OrderDto::getOrderId, Function.identity(), (first, second) -> first, HashMap::new));
+					lookupScope.putAll(TARGET_SERVICE, orderDtos);
+					orderDtos.putAll(cachedOrderDtos);
+					return orderDtos;
+				});
+	}
+	
+	private Collection<OrderDto> fetchChunk(final Collection<Integer> orderIds) {
+		final DtoCollectionResponse<OrderDto> response = this.restTemplate
+				.exchange(AppConstant.DiscoveredDomainsApi.ORDER_SERVICE_API_URL + "?ids={ids}", 
+						HttpMethod.GET, null, ORDER_COLLECTION_TYPE, joinIds(orderIds))
+				.getBody();
+		return response == null || response.getCollection() == null ? List.of() : response.getCollection();
+	}
+	
+	private static String joinIds(final Collection<Integer> ids) {
+		return ids.stream()
+				.map(String::valueOf)
+				.collect(Collectors.joining(","));
+	}
+	
+	
+	
+}
@@ -1,20 +1,27 @@
 package com.selimhorri.app.service.impl;
 
+import java.util.Collections;
 import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
-import javax.transaction.Transactional;
+import javax.persistence.EntityManager;
 
 import org.springframework.stereotype.Service;
-import org.springframework.web.client.RestTemplate;
+import org.springframework.transaction.annotation.Transactional;
 
-import com.selimhorri.app.constant.AppConstant;
+import com.selimhorri.app.domain.Payment;
 import com.selimhorri.app.dto.OrderDto;
 import com.selimhorri.app.dto.PaymentDto;
+import com.selimhorri.app.dto.response.collection.DtoCollectionResponse;
 import com.selimhorri.app.exception.wrapper.PaymentNotFoundException;
+import com.selimhorri.app.helper.KeysetPageHelper;
 import com.selimhorri.app.helper.PaymentMappingHelper;
 import com.selimhorri.app.repository.PaymentRepository;
 import com.selimhorri.app.service.PaymentService;
+import com.selimhorri.app.service.client.OrderClientService;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -26,19 +33,55 @@ import lombok.extern.slf4j.Slf4j;
 public class PaymentServiceImpl implements PaymentService {
 	
 	private final PaymentRepository paymentRepository;
-	private final RestTemplate restTemplate;
+	private final OrderClientService orderClientService;
+	private final EntityManager entityManager;
 	
 	@Override
-	public List<PaymentDto> findAll() {
+	public DtoCollectionResponse<PaymentDto> findAll(final Integer after, final int limit) {
 		log.info("*** PaymentDto List, service; fetch all payments *");
-		return this.paymentRepository.findAll()
+		final DtoCollectionResponse<PaymentDto> page = KeysetPageHelper.page(this.paymentRepository.findAllAfter(after == null ? 0 : after, KeysetPageHelper.firstRows(limit))
 				.stream()
 					.map(PaymentMappingHelper::map)
+					.collect(Collectors.toUnmodifiableList()), limit, PaymentDto::getPaymentId);
+		final Map<Integer, OrderDto> orderDtos = this.orderClientService.findAllByIds(page.getCollection()
+				.stream()
+					.map(p -> p.getOrderDto().getOrderId())
+					.collect(Collectors.toSet()));
+		return new DtoCollectionResponse<>(page.getCollection().stream()
 					.map(p -> {
-						p.setOrderDto(this.restTemplate.getForObject(AppConstant.DiscoveredDomainsApi
-								.ORDER_SERVICE_API_URL + "/" + p.getOrderDto().getOrderId(), OrderDto.class));
+						p.setOrderDto(orderDtos.getOrDefault(p.getOrderDto().getOrderId(), p.getOrderDto()));
 						return p;
 					})
+					.collect(Collectors.toUnmodifiableList()), page.getNext());
+	}
+	
+	/**
+	 * Hands the payments to the consumer one at a time, in id order, while the database cursor
+	 * stays open. Each row leaves the persistence context once mapped, so memory does not grow
+	 * with the table. As in {@link #findAllByOrderId(Integer)}, only the id of the order is set:
+	 * fetching it from order-service row by row would set the pace of the export.
+	 */
+	@Override
+	@Transactional(readOnly = true)
+	public void streamAll(final Consumer<PaymentDto> consumer) {
+		log.info("*** PaymentDto Stream, service; stream all payments *");
+		try (final Stream<Payment> payments = this.paymentRepository.streamAll()) {
+			payments.forEach(payment -> {
+				consumer.accept(PaymentMappingHelper.map(payment));
+				this.entityManager.clear();
+			});
+		}
+	}
+	
+	/**
+	 * Payments of one order, for callers that already hold the order: only its id is set.
+	 */
+	@Override
+	public List<PaymentDto> findAllByOrderId(final Integer orderId) {
+		log.info("*** PaymentDto List, service; fetch payments by order id *");
+		return this.paymentRepository.findAllByOrderId(orderId)
+				.stream()
+					.map(PaymentMappingHelper::map)
 					.distinct()
 					.collect(Collectors.toUnmodifiableList());
 	}
@@ -49,8 +92,8 @@ public class PaymentServiceImpl implements PaymentService {
 		return this.paymentRepository.findById(paymentId)
 				.map(PaymentMappingHelper::map)
 				.map(p -> {
-					p.setOrderDto(this.restTemplate.getForObject(AppConstant.DiscoveredDomainsApi
-							.ORDER_SERVICE_API_URL + "/" + p.getOrderDto().getOrderId(), OrderDto.class));
+					p.setOrderDto(this.orderClientService.findAllByIds(Collections.singletonList(p.getOrderDto().getOrderId()))
+							.getOrDefault(p.getOrderDto().getOrderId(), p.getOrderDto()));
 					return p;
 				})
 				.orElseThrow(() -> new PaymentNotFoundException(String.format("Payment with id: %d not found", paymentId)));
@@ -0,0 +1,118 @@
+package com.selimhorri.app.config.client;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+
+import org.apache.http.impl.client.CloseableHttpClient;
+import org.apache.http.impl.conn.PoolingHttpClientConnectionManager;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.client.ResourceAccessException;
+import org.springframework.web.client.RestTemplate;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+/**
+ * Unit tests for HttpClientConfig
+ * Tests pool sizing, connection reuse, read timeout and exported pool gauges
+ */
+class HttpClientConfigTest {
+
+    private HttpServer server;
+    private PoolingHttpClientConnectionManager connectionManager;
+    private CloseableHttpClient httpClient;
+    private RestTemplate restTemplate;
+    private String baseUrl;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        this.server = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+        this.server.createContext("/fast", exchange -> respond(exchange, "ok"));
+        this.server.createContext("/slow", exchange -> {
+            try {
+                Thread.sleep(1_000);
+            }
+            catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            respond(exchange, "late");
+        });
+        this.server.start();
+        this.baseUrl = "http://localhost:" + this.server.getAddress().getPort();
+
+        final HttpClientProperties httpClientProperties = new HttpClientProperties();
+        httpClientProperties.setMaxConnectionsTotal(10);
+        httpClientProperties.setMaxConnectionsPerRoute(4);
+        httpClientProperties.setReadTimeout(Duration.ofMillis(200));
+        final HttpClientConfig httpClientConfig = new HttpClientConfig();
+        this.connectionManager = httpClientConfig.httpClientConnectionManager(httpClientProperties);
+        this.httpClient = httpClientConfig.httpClient(this.connectionManager, httpClientProperties);
+        this.restTemplate = new RestTemplate(httpClientConfig.clientHttpRequestFactory(this.httpClient));
+    }
+
+    @AfterEach
+    void tearDown() throws IOException {
+        this.httpClient.close();
+        this.server.stop(0);
+    }
+
+    @Test
+    void httpClientConnectionManager_shouldApplyPoolLimits() {
+        assertEquals(10, this.connectionManager.getMaxTotal());
+        assertEquals(4, this.connectionManager.getDefaultMaxPerRoute());
+    }
+
+    @Test
+    void httpClient_shouldReuseKeptAliveConnection() {
+        // when
+        this.restTemplate.getForObject(this.baseUrl + "/fast", String.class);
+        this.restTemplate.getForObject(this.baseUrl + "/fast", String.class);
+
+        // then
+        assertEquals(1, this.connectionManager.getTotalStats().getAvailable());
+        assertEquals(0, this.connectionManager.getTotalStats().getLeased());
+    }
+
+    @Test
+    void httpClient_shouldFailSlowPeerOnReadTimeout() {
+        assertThrows(ResourceAccessException.class,
+                () -> this.restTemplate.getForObject(this.baseUrl + "/slow", String.class));
+    }
+
+    @Test
+    void httpClientConnectionPoolMetrics_shouldExportPoolGauges() {
+        // given
+        final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+        // when
+        new HttpClientConfig().httpClientConnectionPoolMetrics(this.connectionManager).bindTo(meterRegistry);
+        this.restTemplate.getForObject(this.baseUrl + "/fast", String.class);
+
+        // then
+        assertEquals(10, meterRegistry.get("httpcomponents.httpclient.pool.total.max").gauge().value());
+        assertEquals(0, meterRegistry.get("httpcomponents.httpclient.pool.total.pending").gauge().value());
+        assertEquals(0, meterRegistry.get("httpcomponents.httpclient.pool.total.connections")
+                .tag("state", "leased").gauge().value());
+        assertEquals(1, meterRegistry.get("httpcomponents.httpclient.pool.total.connections")
+                .tag("state", "available").gauge().value());
+    }
+
+    private static void respond(final HttpExchange exchange, final String body) throws IOException {
+        final byte[] bytes = body.getBytes(StandardCharsets.UTF_8);
+        exchange.sendResponseHeaders(200, bytes.length);
+        try (OutputStream outputStream = exchange.getResponseBody()) {
+            outputStream.write(bytes);
+        }
+    }
+
+}
@@ -3,15 +3,21 @@ package com.selimhorri.app.integration;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
 import static org.mockito.Mockito.when;
 
 import java.time.LocalDateTime;
+import java.util.List;
 
 import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentMatchers;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.boot.test.context.SpringBootTest.WebEnvironment;
 import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.core.ParameterizedTypeReference;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.ResponseEntity;
 import org.springframework.test.context.DynamicPropertyRegistry;
 import org.springframework.test.context.DynamicPropertySource;
 import org.springframework.web.client.RestTemplate;
@@ -22,6 +28,7 @@ import org.testcontainers.junit.jupiter.Testcontainers;
 import com.selimhorri.app.domain.Payment;
 import com.selimhorri.app.dto.OrderDto;
 import com.selimhorri.app.dto.PaymentDto;
+import com.selimhorri.app.dto.response.collection.DtoCollectionResponse;
 import com.selimhorri.app.repository.PaymentRepository;
 import com.selimhorri.app.service.PaymentService;
 
@@ -101,8 +108,7 @@ class PaymentOrderIntegrationTest {
                 .orderFee(100.0)
                 .build();
 
-        when(this.restTemplate.getForObject(anyString(), eq(OrderDto.class)))
-                .thenReturn(mockOrder);
+        this.givenOrderService(mockOrder);
 
         // Act
         final PaymentDto result = this.paymentService.findById(payment.getPaymentId());
@@ -124,11 +130,10 @@ class PaymentOrderIntegrationTest {
                 .build());
 
         // Mock order retrieval
-        when(this.restTemplate.getForObject(anyString(), eq(OrderDto.class)))
-                .thenReturn(OrderDto.builder()
-                        .orderId(789)
-                        .orderFee(500.0)
-                        .build());
+        this.givenOrderService(OrderDto.builder()
+                .orderId(789)
+                .orderFee(500.0)
+                .build());
 
         // Act: Simulate payment processing
         payment.setIsPayed(true);
@@ -142,4 +147,10 @@ class PaymentOrderIntegrationTest {
         assertThat(result.getOrderDto()).isNotNull();
         assertThat(result.getOrderDto().getOrderId()).isEqualTo(789);
     }
+
+    private void givenOrderService(final OrderDto orderDto) {
+        when(this.restTemplate.exchange(anyString(), eq(HttpMethod.GET), isNull(),
+                ArgumentMatchers.<ParameterizedTypeReference<DtoCollectionResponse<OrderDto>>>any(), anyString()))
+                .thenReturn(ResponseEntity.ok(new DtoCollectionResponse<>(List.of(orderDto))));
+    }
 }
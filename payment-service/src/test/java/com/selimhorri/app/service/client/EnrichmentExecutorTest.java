@@ -0,0 +1,95 @@
+package com.selimhorri.app.service.client;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.function.Supplier;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.web.client.ResourceAccessException;
+
+import com.selimhorri.app.config.client.EnrichmentExecutorConfig;
+import com.selimhorri.app.config.client.EnrichmentProperties;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+/**
+ * Unit tests for EnrichmentExecutor
+ * Tests concurrent fan-out, ordering and timeout behaviour of remote lookups
+ */
+class EnrichmentExecutorTest {
+
+    private SimpleMeterRegistry meterRegistry;
+    private ThreadPoolTaskExecutor taskExecutor;
+    private EnrichmentExecutor enrichmentExecutor;
+
+    @BeforeEach
+    void setUp() {
+        final EnrichmentProperties enrichmentProperties = new EnrichmentProperties();
+        enrichmentProperties.setTimeout(Duration.ofMillis(500));
+        this.meterRegistry = new SimpleMeterRegistry();
+        this.taskExecutor = new EnrichmentExecutorConfig().enrichmentTaskExecutor(enrichmentProperties);
+        this.taskExecutor.initialize();
+        this.enrichmentExecutor = new EnrichmentExecutor(this.taskExecutor, this.meterRegistry, enrichmentProperties);
+    }
+
+    @AfterEach
+    void tearDown() {
+        this.taskExecutor.shutdown();
+    }
+
+    @Test
+    void submitAll_shouldRunConcurrentlyAndPreserveOrder() {
+        // given
+        final List<Supplier<Integer>> lookups = List.of(
+                sleepingLookup(300, 1),
+                sleepingLookup(100, 2),
+                sleepingLookup(200, 3));
+
+        // when
+        final long start = System.nanoTime();
+        final List<Integer> result = this.enrichmentExecutor.await(
+                this.enrichmentExecutor.submitAll("ORDER-SERVICE", lookups));
+        final long elapsedMillis = Duration.ofNanos(System.nanoTime() - start).toMillis();
+
+        // then
+        assertEquals(List.of(1, 2, 3), result);
+        assertTrue(elapsedMillis < 550, "lookups should overlap, took " + elapsedMillis + " ms");
+        assertEquals(3, this.meterRegistry.get("enrichment.lookup").tag("target", "ORDER-SERVICE").timer().count());
+    }
+
+    @Test
+    void await_shouldFailWithResourceAccessException_whenLookupTimesOut() {
+        // when, then
+        assertThrows(ResourceAccessException.class, () -> this.enrichmentExecutor.await(
+                this.enrichmentExecutor.submit("ORDER-SERVICE", sleepingLookup(2000, 1))));
+    }
+
+    @Test
+    void await_shouldRethrowLookupFailure() {
+        // when, then
+        assertThrows(IllegalStateException.class, () -> this.enrichmentExecutor.await(
+                this.enrichmentExecutor.submit("ORDER-SERVICE", () -> {
+                    throw new IllegalStateException("boom");
+                })));
+    }
+
+    private static Supplier<Integer> sleepingLookup(final long millis, final int value) {
+        return () -> {
+            try {
+                Thread.sleep(millis);
+            }
+            catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            return value;
+        };
+    }
+
+}
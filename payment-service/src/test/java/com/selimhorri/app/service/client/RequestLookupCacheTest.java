@@ -0,0 +1,70 @@
+package com.selimhorri.app.service.client;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+/**
+ * Unit tests for RequestLookupCache
+ * Tests that lookups are shared within a request only and that hits/misses are counted
+ */
+class RequestLookupCacheTest {
+
+    private SimpleMeterRegistry meterRegistry;
+    private RequestLookupCache requestLookupCache;
+
+    @BeforeEach
+    void setUp() {
+        this.meterRegistry = new SimpleMeterRegistry();
+        this.requestLookupCache = new RequestLookupCache(this.meterRegistry);
+        RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(new MockHttpServletRequest()));
+    }
+
+    @AfterEach
+    void tearDown() {
+        RequestContextHolder.resetRequestAttributes();
+    }
+
+    @Test
+    void getAllPresent_shouldReturnValuesStoredEarlierInSameRequest() {
+        // given
+        this.requestLookupCache.forCurrentRequest().putAll("ORDER-SERVICE", Map.of(1, "order-1"));
+
+        // when
+        final Map<Integer, String> present = this.requestLookupCache.forCurrentRequest()
+                .getAllPresent("ORDER-SERVICE", List.of(1, 2));
+
+        // then
+        assertEquals(Map.of(1, "order-1"), present);
+        assertEquals(1.0, this.meterRegistry.get("enrichment.request.cache")
+                .tag("target", "ORDER-SERVICE").tag("result", "hit").counter().count());
+        assertEquals(1.0, this.meterRegistry.get("enrichment.request.cache")
+                .tag("target", "ORDER-SERVICE").tag("result", "miss").counter().count());
+    }
+
+    @Test
+    void getAllPresent_shouldNotShareValuesAcrossRequests() {
+        // given
+        this.requestLookupCache.forCurrentRequest().putAll("ORDER-SERVICE", Map.of(1, "order-1"));
+        RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(new MockHttpServletRequest()));
+
+        // when
+        final Map<Integer, String> present = this.requestLookupCache.forCurrentRequest()
+                .getAllPresent("ORDER-SERVICE", List.of(1));
+
+        // then
+        assertTrue(present.isEmpty());
+    }
+
+}
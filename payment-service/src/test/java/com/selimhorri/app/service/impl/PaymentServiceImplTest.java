@@ -4,13 +4,15 @@ import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.any;
-import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
 
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 import org.junit.jupiter.api.BeforeEach;
@@ -19,7 +21,7 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
-import org.springframework.web.client.RestTemplate;
+import org.springframework.data.domain.Pageable;
 
 import com.selimhorri.app.domain.Payment;
 import com.selimhorri.app.dto.OrderDto;
@@ -27,6 +29,7 @@ import com.selimhorri.app.dto.PaymentDto;
 import com.selimhorri.app.exception.wrapper.PaymentNotFoundException;
 import com.selimhorri.app.helper.PaymentMappingHelper;
 import com.selimhorri.app.repository.PaymentRepository;
+import com.selimhorri.app.service.client.OrderClientService;
 
 /**
  * Unit tests for PaymentServiceImpl
@@ -40,7 +43,7 @@ class PaymentServiceImplTest {
     private PaymentRepository paymentRepository;
 
     @Mock
-    private RestTemplate restTemplate;
+    private OrderClientService orderClientService;
 
     @InjectMocks
     private PaymentServiceImpl paymentService;
@@ -74,8 +77,8 @@ class PaymentServiceImplTest {
         final Integer paymentId = 1;
         when(this.paymentRepository.findById(paymentId))
                 .thenReturn(Optional.of(this.payment));
-        when(this.restTemplate.getForObject(anyString(), any()))
-                .thenReturn(this.orderDto);
+        when(this.orderClientService.findAllByIds(List.of(this.orderDto.getOrderId())))
+                .thenReturn(Map.of(this.orderDto.getOrderId(), this.orderDto));
 
         // when
         final PaymentDto result = this.paymentService.findById(paymentId);
@@ -86,7 +89,7 @@ class PaymentServiceImplTest {
         assertNotNull(result.getOrderDto());
         assertEquals(this.orderDto.getOrderId(), result.getOrderDto().getOrderId());
         verify(this.paymentRepository, times(1)).findById(paymentId);
-        verify(this.restTemplate, times(1)).getForObject(anyString(), any());
+        verify(this.orderClientService, times(1)).findAllByIds(List.of(this.orderDto.getOrderId()));
     }
 
     @Test
@@ -121,19 +124,36 @@ class PaymentServiceImplTest {
     @Test
     void findAll_shouldReturnPaymentsWithOrderDetails() {
         // given
-        when(this.paymentRepository.findAll()).thenReturn(List.of(this.payment));
-        when(this.restTemplate.getForObject(anyString(), any()))
-                .thenReturn(this.orderDto);
+        when(this.paymentRepository.findAllAfter(eq(0), any(Pageable.class))).thenReturn(List.of(this.payment));
+        when(this.orderClientService.findAllByIds(any()))
+                .thenReturn(Map.of(this.orderDto.getOrderId(), this.orderDto));
 
         // when
-        final List<PaymentDto> result = this.paymentService.findAll();
+        final List<PaymentDto> result = List.copyOf(this.paymentService.findAll(null, 100).getCollection());
 
         // then
         assertNotNull(result);
         assertEquals(1, result.size());
         assertNotNull(result.get(0).getOrderDto());
         assertEquals(this.orderDto.getOrderId(), result.get(0).getOrderDto().getOrderId());
-        verify(this.paymentRepository, times(1)).findAll();
+        assertEquals(this.orderDto.getOrderDesc(), result.get(0).getOrderDto().getOrderDesc());
+        verify(this.paymentRepository, times(1)).findAllAfter(eq(0), any(Pageable.class));
+        verify(this.orderClientService, times(1)).findAllByIds(any());
+    }
+
+    @Test
+    void findAllByOrderId_shouldReturnPaymentsWithoutCallingOrderService() {
+        // given
+        when(this.paymentRepository.findAllByOrderId(1)).thenReturn(List.of(this.payment));
+
+        // when
+        final List<PaymentDto> result = this.paymentService.findAllByOrderId(1);
+
+        // then
+        assertEquals(1, result.size());
+        assertEquals(this.payment.getPaymentId(), result.get(0).getPaymentId());
+        assertEquals(1, result.get(0).getOrderDto().getOrderId());
+        verifyNoInteractions(this.orderClientService);
     }
 
     @Test
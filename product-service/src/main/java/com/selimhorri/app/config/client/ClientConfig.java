@@ -2,14 +2,17 @@ package com.selimhorri.app.config.client;
 
 import com.selimhorri.app.config.interceptor.AuthorizationHeaderInterceptor;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.cloud.client.loadbalancer.LoadBalanced;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.http.client.ClientHttpRequestFactory;
 import org.springframework.web.client.RestTemplate;
 
 import java.util.Collections;
 
 @Configuration
+@EnableConfigurationProperties(CacheInvalidationProperties.class)
 public class ClientConfig {
 
 	@Autowired
@@ -17,8 +20,8 @@ public class ClientConfig {
 
 	@LoadBalanced
 	@Bean
-	public RestTemplate restTemplateBean() {
-		RestTemplate restTemplate = new RestTemplate();
+	public RestTemplate restTemplateBean(final ClientHttpRequestFactory clientHttpRequestFactory) {
+		RestTemplate restTemplate = new RestTemplate(clientHttpRequestFactory);
 		restTemplate.setInterceptors(Collections.singletonList(authorizationHeaderInterceptor));
 		return restTemplate;
 	}
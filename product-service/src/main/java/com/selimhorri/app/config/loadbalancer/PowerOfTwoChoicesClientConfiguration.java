@@ -0,0 +1,35 @@
+package com.selimhorri.app.config.loadbalancer;
+
+import org.springframework.cloud.loadbalancer.core.ServiceInstanceListSupplier;
+import org.springframework.cloud.loadbalancer.support.LoadBalancerClientFactory;
+import org.springframework.context.annotation.Bean;
+import org.springframework.core.env.Environment;
+
+import com.selimhorri.app.loadbalancer.PowerOfTwoChoicesLoadBalancer;
+
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * Beans of the child context that Spring Cloud LoadBalancer creates for each service. Not a
+ * {@code @Configuration}, so that component scanning leaves it to those contexts.
+ */
+public class PowerOfTwoChoicesClientConfiguration {
+	
+	/**
+	 * Declared with its own type rather than {@code ReactorLoadBalancer}, so that clients
+	 * looking up {@code LoadBalancerLifecycle} beans find it before it has been created.
+	 */
+	@Bean
+	public PowerOfTwoChoicesLoadBalancer powerOfTwoChoicesLoadBalancer(final Environment environment, 
+			final LoadBalancerClientFactory loadBalancerClientFactory, 
+			final PowerOfTwoChoicesProperties powerOfTwoChoicesProperties, 
+			final MeterRegistry meterRegistry) {
+		final String serviceId = environment.getProperty(LoadBalancerClientFactory.PROPERTY_NAME);
+		return new PowerOfTwoChoicesLoadBalancer(
+				loadBalancerClientFactory.getLazyProvider(serviceId, ServiceInstanceListSupplier.class), 
+				serviceId, powerOfTwoChoicesProperties, meterRegistry);
+	}
+	
+	
+	
+}
@@ -1,11 +1,17 @@
 package com.selimhorri.app.repository;
 
+import java.util.List;
+
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 import com.selimhorri.app.domain.Category;
 
 public interface CategoryRepository extends JpaRepository<Category, Integer> {
 	
-	
+	@Query("SELECT c FROM Category c LEFT JOIN FETCH c.parentCategory WHERE c.categoryId > :after ORDER BY c.categoryId")
+	List<Category> findAllAfter(@Param("after") final Integer after, final Pageable pageable);
 	
 }
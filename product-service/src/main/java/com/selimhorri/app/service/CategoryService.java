@@ -1,12 +1,11 @@
 package com.selimhorri.app.service;
 
-import java.util.List;
-
 import com.selimhorri.app.dto.CategoryDto;
+import com.selimhorri.app.dto.response.collection.DtoCollectionResponse;
 
 public interface CategoryService {
 	
-	List<CategoryDto> findAll();
+	DtoCollectionResponse<CategoryDto> findAll(final Integer after, final int limit);
 	CategoryDto findById(final Integer categoryId);
 	CategoryDto save(final CategoryDto categoryDto);
 	CategoryDto update(final CategoryDto categoryDto);
@@ -0,0 +1,96 @@
+package com.selimhorri.app.service.client;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+import javax.annotation.PreDestroy;
+
+import org.springframework.boot.web.client.RestTemplateBuilder;
+import org.springframework.cloud.client.ServiceInstance;
+import org.springframework.cloud.client.discovery.DiscoveryClient;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.web.client.RestClientException;
+import org.springframework.web.client.RestTemplate;
+
+import com.selimhorri.app.config.client.CacheInvalidationProperties;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Tells every instance of the services that near-cache products to drop an entry
+ * once the change is committed. Delivery is best effort: an instance that misses
+ * the call keeps serving the old entry until its TTL expires.
+ */
+@Component
+@Slf4j
+public class ProductCacheInvalidationPublisher {
+	
+	private static final String CACHE_NAME = "products";
+	private static final List<String> SUBSCRIBER_SERVICES = List.of("FAVOURITE-SERVICE", "SHIPPING-SERVICE");
+	
+	private final DiscoveryClient discoveryClient;
+	private final RestTemplate restTemplate;
+	private final ThreadPoolExecutor executor;
+	
+	public ProductCacheInvalidationPublisher(final DiscoveryClient discoveryClient, 
+			final RestTemplateBuilder restTemplateBuilder, 
+			final CacheInvalidationProperties cacheInvalidationProperties) {
+		this.discoveryClient = discoveryClient;
+		// instances are addressed directly, so this template is deliberately not @LoadBalanced
+		this.restTemplate = restTemplateBuilder
+				.setConnectTimeout(Duration.ofMillis(500))
+				.setReadTimeout(Duration.ofSeconds(1))
+				.defaultHeader(CacheInvalidationProperties.HEADER, String.valueOf(cacheInvalidationProperties.getSecret()))
+				.build();
+		final CustomizableThreadFactory threadFactory = new CustomizableThreadFactory("cache-invalidation-");
+		threadFactory.setDaemon(true);
+		this.executor = new ThreadPoolExecutor(1, 1, 0L, TimeUnit.MILLISECONDS, 
+				new ArrayBlockingQueue<>(1_000), threadFactory, new ThreadPoolExecutor.DiscardOldestPolicy());
+	}
+	
+	public void publish(final Integer productId) {
+		if (productId == null) {
+			return;
+		}
+		if (TransactionSynchronizationManager.isSynchronizationActive()) {
+			TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+				@Override
+				public void afterCommit() {
+					executor.execute(() -> broadcast(productId));
+				}
+			});
+		}
+		else {
+			this.executor.execute(() -> this.broadcast(productId));
+		}
+	}
+	
+	private void broadcast(final Integer productId) {
+		SUBSCRIBER_SERVICES.forEach(serviceId -> this.discoveryClient.getInstances(serviceId)
+				.forEach(instance -> this.invalidate(serviceId, instance, productId)));
+	}
+	
+	private void invalidate(final String serviceId, final ServiceInstance instance, final Integer productId) {
+		try {
+			this.restTemplate.delete(instance.getUri() + "/" + serviceId.toLowerCase() 
+					+ "/api/caches/" + CACHE_NAME + "/{id}", productId);
+		}
+		catch (RestClientException e) {
+			log.warn("Could not invalidate {} {} on {}: {}", CACHE_NAME, productId, instance.getUri(), e.getMessage());
+		}
+	}
+	
+	@PreDestroy
+	public void shutdown() {
+		this.executor.shutdown();
+	}
+	
+	
+	
+}
@@ -1,6 +1,5 @@
 package com.selimhorri.app.service.impl;
 
-import java.util.List;
 import java.util.stream.Collectors;
 
 import javax.transaction.Transactional;
@@ -8,8 +7,10 @@ import javax.transaction.Transactional;
 import org.springframework.stereotype.Service;
 
 import com.selimhorri.app.dto.CategoryDto;
+import com.selimhorri.app.dto.response.collection.DtoCollectionResponse;
 import com.selimhorri.app.exception.wrapper.CategoryNotFoundException;
 import com.selimhorri.app.helper.CategoryMappingHelper;
+import com.selimhorri.app.helper.KeysetPageHelper;
 import com.selimhorri.app.repository.CategoryRepository;
 import com.selimhorri.app.service.CategoryService;
 
@@ -25,13 +26,12 @@ public class CategoryServiceImpl implements CategoryService {
 	private final CategoryRepository categoryRepository;
 	
 	@Override
-	public List<CategoryDto> findAll() {
+	public DtoCollectionResponse<CategoryDto> findAll(final Integer after, final int limit) {
 		log.info("*** CategoryDto List, service; fetch all categorys *");
-		return this.categoryRepository.findAll()
+		return KeysetPageHelper.page(this.categoryRepository.findAllAfter(after == null ? 0 : after, KeysetPageHelper.firstRows(limit))
 				.stream()
 					.map(CategoryMappingHelper::map)
-					.distinct()
-					.collect(Collectors.toUnmodifiableList());
+					.collect(Collectors.toUnmodifiableList()), limit, CategoryDto::getCategoryId);
 	}
 	
 	@Override
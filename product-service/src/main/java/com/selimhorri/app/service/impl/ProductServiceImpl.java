@@ -1,17 +1,25 @@
 package com.selimhorri.app.service.impl;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.function.Consumer;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
-import javax.transaction.Transactional;
+import javax.persistence.EntityManager;
 
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
+import com.selimhorri.app.domain.Product;
 import com.selimhorri.app.dto.ProductDto;
+import com.selimhorri.app.dto.response.collection.DtoCollectionResponse;
 import com.selimhorri.app.exception.wrapper.ProductNotFoundException;
+import com.selimhorri.app.helper.KeysetPageHelper;
 import com.selimhorri.app.helper.ProductMappingHelper;
 import com.selimhorri.app.repository.ProductRepository;
 import com.selimhorri.app.service.ProductService;
+import com.selimhorri.app.service.client.ProductCacheInvalidationPublisher;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -23,11 +31,42 @@ import lombok.extern.slf4j.Slf4j;
 public class ProductServiceImpl implements ProductService {
 	
 	private final ProductRepository productRepository;
+	private final ProductCacheInvalidationPublisher productCacheInvalidationPublisher;
+	private final EntityManager entityManager;
 	
 	@Override
-	public List<ProductDto> findAll() {
+	public DtoCollectionResponse<ProductDto> findAll(final Integer after, final int limit) {
 		log.info("*** ProductDto List, service; fetch all products *");
-		return this.productRepository.findAll()
+		return KeysetPageHelper.page(this.productRepository.findAllAfter(after == null ? 0 : after, KeysetPageHelper.firstRows(limit))
+				.stream()
+					.map(ProductMappingHelper::map)
+					.collect(Collectors.toUnmodifiableList()), limit, ProductDto::getProductId);
+	}
+	
+	/**
+	 * Hands the products to the consumer one at a time, in id order, while the database cursor
+	 * stays open. Each row leaves the persistence context once mapped, so memory does not grow
+	 * with the table.
+	 */
+	@Override
+	@Transactional(readOnly = true)
+	public void streamAll(final Consumer<ProductDto> consumer) {
+		log.info("*** ProductDto Stream, service; stream all products *");
+		try (final Stream<Product> products = this.productRepository.streamAll()) {
+			products.forEach(product -> {
+				consumer.accept(ProductMappingHelper.map(product));
+				this.entityManager.clear();
+			});
+		}
+	}
+	
+	@Override
+	public List<ProductDto> findAllByIds(final Collection<Integer> productIds) {
+		log.info("*** ProductDto List, service; fetch products by ids *");
+		if (productIds == null || productIds.isEmpty()) {
+			return List.of();
+		}
+		return this.productRepository.findAllByProductIdIn(productIds)
 				.stream()
 					.map(ProductMappingHelper::map)
 					.distinct()
@@ -45,22 +84,28 @@ public class ProductServiceImpl implements ProductService {
 	@Override
 	public ProductDto save(final ProductDto productDto) {
 		log.info("*** ProductDto, service; save product *");
-		return ProductMappingHelper.map(this.productRepository
+		final ProductDto savedProductDto = ProductMappingHelper.map(this.productRepository
 				.save(ProductMappingHelper.map(productDto)));
+		this.productCacheInvalidationPublisher.publish(savedProductDto.getProductId());
+		return savedProductDto;
 	}
 	
 	@Override
 	public ProductDto update(final ProductDto productDto) {
 		log.info("*** ProductDto, service; update product *");
-		return ProductMappingHelper.map(this.productRepository
+		final ProductDto updatedProductDto = ProductMappingHelper.map(this.productRepository
 				.save(ProductMappingHelper.map(productDto)));
+		this.productCacheInvalidationPublisher.publish(updatedProductDto.getProductId());
+		return updatedProductDto;
 	}
 	
 	@Override
 	public ProductDto update(final Integer productId, final ProductDto productDto) {
 		log.info("*** ProductDto, service; update product with productId *");
-		return ProductMappingHelper.map(this.productRepository
+		final ProductDto updatedProductDto = ProductMappingHelper.map(this.productRepository
 				.save(ProductMappingHelper.map(this.findById(productId))));
+		this.productCacheInvalidationPublisher.publish(productId);
+		return updatedProductDto;
 	}
 	
 	@Override
@@ -68,6 +113,7 @@ public class ProductServiceImpl implements ProductService {
 		log.info("*** Void, service; delete product by id *");
 		this.productRepository.delete(ProductMappingHelper
 				.map(this.findById(productId)));
+		this.productCacheInvalidationPublisher.publish(productId);
 	}
 	
 	
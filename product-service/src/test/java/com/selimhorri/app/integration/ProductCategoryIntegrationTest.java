@@ -10,9 +10,17 @@ import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.boot.test.context.SpringBootTest.WebEnvironment;
+import org.springframework.boot.test.web.client.TestRestTemplate;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
 import org.springframework.test.context.DynamicPropertyRegistry;
 import org.springframework.test.context.DynamicPropertySource;
 
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import com.selimhorri.app.domain.Category;
 import com.selimhorri.app.domain.Product;
 import com.selimhorri.app.repository.CategoryRepository;
@@ -47,6 +55,12 @@ class ProductCategoryIntegrationTest {
     @Autowired
     private CategoryRepository categoryRepository;
 
+    @Autowired
+    private TestRestTemplate restTemplate;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
     @BeforeEach
     void setUp() {
         this.productRepository.deleteAll();
@@ -153,4 +167,60 @@ class ProductCategoryIntegrationTest {
         assertThat(updatedProduct.getCategory().getCategoryId())
                 .isEqualTo(newCategory.getCategoryId());
     }
+
+    @Test
+    void streamProducts_shouldWriteOneJsonLinePerProduct() throws Exception {
+        // Arrange
+        final Category category = this.categoryRepository.save(
+                Category.builder().categoryTitle("Books").build());
+        for (int i = 1; i <= 3; i++) {
+            this.productRepository.save(Product.builder()
+                    .productTitle("Book " + i)
+                    .sku("BOK-00" + i)
+                    .priceUnit(9.99)
+                    .quantity(i)
+                    .category(category)
+                    .build());
+        }
+        final HttpHeaders headers = new HttpHeaders();
+        headers.setAccept(List.of(MediaType.APPLICATION_NDJSON));
+
+        // Act
+        final ResponseEntity<String> response = this.restTemplate.exchange("/api/products", HttpMethod.GET,
+                new HttpEntity<>(headers), String.class);
+
+        // Assert
+        assertThat(response.getHeaders().getContentType().isCompatibleWith(MediaType.APPLICATION_NDJSON)).isTrue();
+        final List<String> lines = response.getBody().lines().collect(Collectors.toList());
+        assertThat(lines).hasSize(3);
+        for (int i = 0; i < lines.size(); i++) {
+            final JsonNode product = this.objectMapper.readTree(lines.get(i));
+            assertThat(product.path("productTitle").asText()).isEqualTo("Book " + (i + 1));
+            assertThat(product.path("category").path("categoryTitle").asText()).isEqualTo("Books");
+        }
+    }
+
+    @Test
+    void findProducts_shouldStillAnswerJson_whenNdjsonIsNotAsked() throws Exception {
+        // Arrange
+        final Category category = this.categoryRepository.save(
+                Category.builder().categoryTitle("Stationery").build());
+        this.productRepository.save(Product.builder()
+                .productTitle("Pen")
+                .sku("PEN-001")
+                .category(category)
+                .build());
+
+        final HttpHeaders headers = new HttpHeaders();
+        headers.setAccept(List.of(MediaType.ALL));
+
+        // Act
+        final ResponseEntity<String> response = this.restTemplate.exchange("/api/products", HttpMethod.GET,
+                new HttpEntity<>(headers), String.class);
+
+        // Assert
+        assertThat(response.getHeaders().getContentType().isCompatibleWith(MediaType.APPLICATION_JSON)).isTrue();
+        assertThat(this.objectMapper.readTree(response.getBody()).path("collection")).hasSize(1);
+    }
 }
+
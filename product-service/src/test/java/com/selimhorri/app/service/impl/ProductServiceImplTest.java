@@ -3,8 +3,11 @@ package com.selimhorri.app.service.impl;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.doNothing;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
@@ -20,13 +23,17 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
 
 import com.selimhorri.app.domain.Category;
 import com.selimhorri.app.domain.Product;
 import com.selimhorri.app.dto.ProductDto;
+import com.selimhorri.app.dto.response.collection.DtoCollectionResponse;
 import com.selimhorri.app.exception.wrapper.ProductNotFoundException;
 import com.selimhorri.app.helper.ProductMappingHelper;
 import com.selimhorri.app.repository.ProductRepository;
+import com.selimhorri.app.service.client.ProductCacheInvalidationPublisher;
 
 @ExtendWith(MockitoExtension.class)
 class ProductServiceImplTest {
@@ -34,6 +41,9 @@ class ProductServiceImplTest {
     @Mock
     private ProductRepository productRepository;
 
+    @Mock
+    private ProductCacheInvalidationPublisher productCacheInvalidationPublisher;
+
     @InjectMocks
     private ProductServiceImpl productService;
 
@@ -69,30 +79,86 @@ class ProductServiceImplTest {
     @Test
     void findAll_shouldReturnListOfProductDtos() {
         // given
-        when(this.productRepository.findAll()).thenReturn(List.of(this.product));
+        when(this.productRepository.findAllAfter(eq(0), any(Pageable.class))).thenReturn(List.of(this.product));
 
         // when
-        final List<ProductDto> productDtos = this.productService.findAll();
+        final List<ProductDto> productDtos = List.copyOf(this.productService.findAll(null, 100).getCollection());
 
         // then
         assertNotNull(productDtos);
         assertEquals(1, productDtos.size());
         assertEquals(this.productDto.getProductTitle(), productDtos.get(0).getProductTitle());
-        verify(this.productRepository, times(1)).findAll();
+        verify(this.productRepository, times(1)).findAllAfter(eq(0), any(Pageable.class));
     }
     
     @Test
     void findAll_shouldReturnEmptyList_whenNoProductsExist() {
         // given
-        when(this.productRepository.findAll()).thenReturn(Collections.emptyList());
+        when(this.productRepository.findAllAfter(eq(0), any(Pageable.class))).thenReturn(Collections.emptyList());
 
         // when
-        final List<ProductDto> productDtos = this.productService.findAll();
+        final List<ProductDto> productDtos = List.copyOf(this.productService.findAll(null, 100).getCollection());
 
         // then
         assertNotNull(productDtos);
         assertEquals(0, productDtos.size());
-        verify(this.productRepository, times(1)).findAll();
+        verify(this.productRepository, times(1)).findAllAfter(eq(0), any(Pageable.class));
+    }
+
+    @Test
+    void findAll_shouldReturnNextCursor_whenMoreProductsThanLimit() {
+        // given
+        final List<Product> products = List.of(
+                Product.builder().productId(4).category(this.category).build(),
+                Product.builder().productId(5).category(this.category).build(),
+                Product.builder().productId(6).category(this.category).build());
+        when(this.productRepository.findAllAfter(3, PageRequest.of(0, 3))).thenReturn(products);
+
+        // when
+        final DtoCollectionResponse<ProductDto> page = this.productService.findAll(3, 2);
+
+        // then
+        assertEquals(2, page.getCollection().size());
+        assertEquals("5", page.getNext());
+    }
+
+    @Test
+    void findAll_shouldLeaveOutNextCursor_onLastPage() {
+        // given
+        when(this.productRepository.findAllAfter(5, PageRequest.of(0, 3))).thenReturn(List.of(
+                Product.builder().productId(6).category(this.category).build()));
+
+        // when
+        final DtoCollectionResponse<ProductDto> page = this.productService.findAll(5, 2);
+
+        // then
+        assertEquals(1, page.getCollection().size());
+        assertNull(page.getNext());
+    }
+
+    @Test
+    void findAllByIds_shouldResolveAllProductsWithSingleQuery() {
+        // given
+        final List<Integer> productIds = List.of(1, 2);
+        when(this.productRepository.findAllByProductIdIn(productIds)).thenReturn(List.of(this.product));
+
+        // when
+        final List<ProductDto> productDtos = this.productService.findAllByIds(productIds);
+
+        // then
+        assertEquals(1, productDtos.size());
+        assertEquals(this.productDto.getProductId(), productDtos.get(0).getProductId());
+        verify(this.productRepository, times(1)).findAllByProductIdIn(productIds);
+    }
+
+    @Test
+    void findAllByIds_shouldSkipQuery_whenNoIdsGiven() {
+        // when
+        final List<ProductDto> productDtos = this.productService.findAllByIds(Collections.emptyList());
+
+        // then
+        assertEquals(0, productDtos.size());
+        verify(this.productRepository, never()).findAllByProductIdIn(any());
     }
 
     @Test
@@ -122,6 +188,7 @@ class ProductServiceImplTest {
         // then
         verify(this.productRepository, times(1)).findById(productId);
         verify(this.productRepository, times(1)).delete(any(Product.class));
+        verify(this.productCacheInvalidationPublisher, times(1)).publish(productId);
     }
 
 }
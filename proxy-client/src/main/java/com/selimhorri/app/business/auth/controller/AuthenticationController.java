@@ -1,19 +1,24 @@
 package com.selimhorri.app.business.auth.controller;
 
+import java.util.concurrent.CompletableFuture;
+
 import javax.validation.Valid;
 import javax.validation.constraints.NotNull;
 
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
 
 import com.selimhorri.app.business.auth.model.request.AuthenticationRequest;
 import com.selimhorri.app.business.auth.model.response.AuthenticationResponse;
 import com.selimhorri.app.business.auth.service.AuthenticationService;
+import com.selimhorri.app.config.outbound.OutboundExecutor;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -25,14 +30,15 @@ import lombok.extern.slf4j.Slf4j;
 public class AuthenticationController {
 	
 	private final AuthenticationService authenticationService;
+	private final OutboundExecutor outboundExecutor;
 	
 	@PostMapping
-	public ResponseEntity<AuthenticationResponse> authenticate(
+	public CompletableFuture<ResponseEntity<AuthenticationResponse>> authenticate(
 			@RequestBody 
 			@NotNull(message = "") 
 			@Valid final AuthenticationRequest authenticationRequest) {
 		log.info("**Authentication controller, proceed with the request*\n");
-		return ResponseEntity.ok(this.authenticationService.authenticate(authenticationRequest));
+		return this.outboundExecutor.submit(() -> ResponseEntity.ok(this.authenticationService.authenticate(authenticationRequest)));
 	}
 	
 	@GetMapping("/jwt/{jwt}")
@@ -41,6 +47,12 @@ public class AuthenticationController {
 		return ResponseEntity.ok(this.authenticationService.authenticate(jwt));
 	}
 	
+	@PostMapping("/logout")
+	public ResponseEntity<Boolean> logout(@RequestHeader(HttpHeaders.AUTHORIZATION) final String authorizationHeader) {
+		log.info("**Authentication controller, proceed with the request*\n");
+		return ResponseEntity.ok(this.authenticationService.logout(authorizationHeader.replaceFirst("^Bearer ", "")));
+	}
+	
 	
 	
 }
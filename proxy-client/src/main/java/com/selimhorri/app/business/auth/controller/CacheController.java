@@ -0,0 +1,64 @@
+package com.selimhorri.app.business.auth.controller;
+
+import java.time.Instant;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.selimhorri.app.config.cache.CacheInvalidationProperties;
+import com.selimhorri.app.jwt.service.TokenRevocationService;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Invalidation hook called by user-service after a credential is changed, disabled or removed,
+ * and by other proxy-client instances after a logout. Calls without the shared
+ * {@link CacheInvalidationProperties#HEADER} are refused, since the hook revokes tokens.
+ */
+@RestController
+@RequestMapping("/api/caches")
+@Slf4j
+@RequiredArgsConstructor
+public class CacheController {
+	
+	private final Cache<String, UserDetails> userDetailsCache;
+	private final TokenRevocationService tokenRevocationService;
+	private final CacheInvalidationProperties cacheInvalidationProperties;
+	
+	@DeleteMapping("/credentials/{username}")
+	public ResponseEntity<Boolean> evictCredential(@PathVariable("username") final String username, 
+			@RequestHeader(name = CacheInvalidationProperties.HEADER, required = false) final String token) {
+		log.info("** Boolean, controller; evict user details of username: {}*\n", username);
+		if (!this.cacheInvalidationProperties.isAuthorized(token)) {
+			return ResponseEntity.status(HttpStatus.FORBIDDEN).build();
+		}
+		this.userDetailsCache.invalidate(username.strip());
+		// self-contained tokens still carry the former authorities and account state
+		this.tokenRevocationService.revokeIssuedBefore(username.strip());
+		return ResponseEntity.ok(true);
+	}
+	
+	@DeleteMapping("/tokens/{tokenId}")
+	public ResponseEntity<Boolean> revokeToken(@PathVariable("tokenId") final String tokenId, 
+			@RequestParam("expiration") final long expiration, 
+			@RequestHeader(name = CacheInvalidationProperties.HEADER, required = false) final String token) {
+		log.info("** Boolean, controller; revoke token: {}*\n", tokenId);
+		if (!this.cacheInvalidationProperties.isAuthorized(token)) {
+			return ResponseEntity.status(HttpStatus.FORBIDDEN).build();
+		}
+		this.tokenRevocationService.revoke(tokenId.strip(), Instant.ofEpochSecond(expiration));
+		return ResponseEntity.ok(true);
+	}
+	
+	
+	
+}
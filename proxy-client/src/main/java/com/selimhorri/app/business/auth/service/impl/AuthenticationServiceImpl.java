@@ -3,6 +3,8 @@ package com.selimhorri.app.business.auth.service.impl;
 import org.springframework.security.authentication.AuthenticationManager;
 import org.springframework.security.authentication.BadCredentialsException;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.stereotype.Service;
 
@@ -10,7 +12,12 @@ import com.selimhorri.app.business.auth.model.request.AuthenticationRequest;
 import com.selimhorri.app.business.auth.model.response.AuthenticationResponse;
 import com.selimhorri.app.business.auth.service.AuthenticationService;
 import com.selimhorri.app.exception.wrapper.IllegalAuthenticationCredentialsException;
+import com.selimhorri.app.jwt.client.TokenRevocationPublisher;
+import com.selimhorri.app.jwt.model.JwtClaims;
 import com.selimhorri.app.jwt.service.JwtService;
+import com.selimhorri.app.jwt.service.TokenRevocationService;
+
+import io.jsonwebtoken.JwtException;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -23,14 +30,17 @@ public class AuthenticationServiceImpl implements AuthenticationService {
 	private final AuthenticationManager authenticationManager;
 	private final UserDetailsService userDetailsService;
 	private final JwtService jwtService;
+	private final TokenRevocationService tokenRevocationService;
+	private final TokenRevocationPublisher tokenRevocationPublisher;
 	
 	@Override
 	public AuthenticationResponse authenticate(final AuthenticationRequest authenticationRequest) {
 		
 		log.info("** AuthenticationResponse, authenticate user service*\n");
 		
+		final Authentication authentication;
 		try {
-			this.authenticationManager.authenticate(new UsernamePasswordAuthenticationToken(
+			authentication = this.authenticationManager.authenticate(new UsernamePasswordAuthenticationToken(
 					authenticationRequest.getUsername(), authenticationRequest.getPassword()));
 		}
 		catch (BadCredentialsException e) {
@@ -38,8 +48,19 @@ public class AuthenticationServiceImpl implements AuthenticationService {
 			throw new IllegalAuthenticationCredentialsException("#### Bad credentials! ####");
 		}
 		
-		return new AuthenticationResponse(this.jwtService.generateToken(this.userDetailsService
-				.loadUserByUsername(authenticationRequest.getUsername())));
+		return new AuthenticationResponse(this.jwtService.generateToken(
+				this.authenticatedUserDetails(authentication, authenticationRequest.getUsername())));
+	}
+	
+	/**
+	 * The authentication provider already loaded the user to check the password,
+	 * so its principal is reused instead of fetching the credential a second time.
+	 */
+	private UserDetails authenticatedUserDetails(final Authentication authentication, final String username) {
+		if (authentication.getPrincipal() instanceof UserDetails) {
+			return (UserDetails) authentication.getPrincipal();
+		}
+		return this.userDetailsService.loadUserByUsername(username);
 	}
 	
 	@Override
@@ -47,6 +68,24 @@ public class AuthenticationServiceImpl implements AuthenticationService {
 		return null;
 	}
 	
+	@Override
+	public Boolean logout(final String jwt) {
+		
+		log.info("** Boolean, logout user service*\n");
+		
+		final JwtClaims jwtClaims;
+		try {
+			jwtClaims = this.jwtService.parseToken(jwt);
+		}
+		catch (JwtException | IllegalArgumentException e) {
+			throw new IllegalAuthenticationCredentialsException("#### Invalid token! ####");
+		}
+		
+		this.tokenRevocationService.revoke(jwtClaims);
+		this.tokenRevocationPublisher.publish(jwtClaims);
+		return true;
+	}
+	
 	
 	
 }
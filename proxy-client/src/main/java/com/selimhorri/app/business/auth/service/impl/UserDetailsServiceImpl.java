@@ -5,6 +5,7 @@ import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.stereotype.Service;
 
+import com.github.benmanes.caffeine.cache.Cache;
 import com.selimhorri.app.business.user.model.CredentialDto;
 import com.selimhorri.app.business.user.model.UserDetailsImpl;
 import com.selimhorri.app.business.user.service.CredentialClientService;
@@ -18,9 +19,15 @@ import lombok.extern.slf4j.Slf4j;
 public class UserDetailsServiceImpl implements UserDetailsService {
 	
 	private final CredentialClientService credentialClientService;
+	private final Cache<String, UserDetails> userDetailsCache;
 	
 	@Override
 	public UserDetails loadUserByUsername(final String username) throws UsernameNotFoundException {
+		// a lookup that fails is not cached, only found users are
+		return this.userDetailsCache.get(username, this::fetchUserByUsername);
+	}
+	
+	private UserDetails fetchUserByUsername(final String username) {
 		log.info("**UserDetails, load user by username: {}*\n", username);
 		try {
 			CredentialDto credential = this.credentialClientService.findByUsername(username).getBody();
@@ -0,0 +1,42 @@
+package com.selimhorri.app.business.checkout.controller;
+
+import java.util.concurrent.CompletableFuture;
+
+import javax.validation.Valid;
+import javax.validation.constraints.NotNull;
+
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.selimhorri.app.business.checkout.model.request.CheckoutRequest;
+import com.selimhorri.app.business.checkout.model.response.CheckoutResponse;
+import com.selimhorri.app.business.checkout.service.CheckoutService;
+import com.selimhorri.app.config.outbound.OutboundExecutor;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+@RestController
+@RequestMapping("/api/checkout")
+@Slf4j
+@RequiredArgsConstructor
+public class CheckoutController {
+	
+	private final CheckoutService checkoutService;
+	private final OutboundExecutor outboundExecutor;
+	
+	@PostMapping
+	public CompletableFuture<ResponseEntity<CheckoutResponse>> checkout(
+			@RequestBody 
+			@NotNull(message = "Input must not be NULL!") 
+			@Valid final CheckoutRequest checkoutRequest) {
+		log.info("**Checkout controller, proceed with the request*\n");
+		return this.outboundExecutor.submit(() -> ResponseEntity.ok(this.checkoutService.checkout(checkoutRequest)));
+	}
+	
+	
+	
+}
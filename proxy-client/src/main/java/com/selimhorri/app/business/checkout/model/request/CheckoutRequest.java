@@ -0,0 +1,39 @@
+package com.selimhorri.app.business.checkout.model.request;
+
+import java.io.Serializable;
+import java.util.List;
+
+import javax.validation.Valid;
+import javax.validation.constraints.NotEmpty;
+import javax.validation.constraints.NotNull;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * The whole basket of one checkout. A new cart is opened for the user unless
+ * {@code cartId} names an existing one.
+ */
+@NoArgsConstructor
+@AllArgsConstructor
+@Data
+@Builder
+public class CheckoutRequest implements Serializable {
+	
+	private static final long serialVersionUID = 1L;
+	
+	private Integer cartId;
+	
+	@NotNull(message = "*User id must not be null!**")
+	private Integer userId;
+	
+	private String orderDesc;
+	private Double orderFee;
+	
+	@NotEmpty(message = "*Items must not be empty!**")
+	@Valid
+	private List<CheckoutItem> items;
+	
+}
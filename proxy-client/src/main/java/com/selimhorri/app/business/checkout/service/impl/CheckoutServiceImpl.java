@@ -0,0 +1,196 @@
+package com.selimhorri.app.business.checkout.service.impl;
+
+import java.time.LocalDateTime;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.stereotype.Service;
+
+import com.selimhorri.app.business.checkout.model.request.CheckoutItem;
+import com.selimhorri.app.business.checkout.model.request.CheckoutRequest;
+import com.selimhorri.app.business.checkout.model.response.CheckoutResponse;
+import com.selimhorri.app.business.checkout.service.CheckoutService;
+import com.selimhorri.app.business.order.model.CartDto;
+import com.selimhorri.app.business.order.model.OrderDto;
+import com.selimhorri.app.business.order.service.CartClientService;
+import com.selimhorri.app.business.order.service.OrderClientService;
+import com.selimhorri.app.business.orderItem.model.OrderItemDto;
+import com.selimhorri.app.business.orderItem.service.OrderItemClientService;
+import com.selimhorri.app.business.payment.model.PaymentDto;
+import com.selimhorri.app.business.payment.model.PaymentStatus;
+import com.selimhorri.app.business.payment.service.PaymentClientService;
+import com.selimhorri.app.config.checkout.CheckoutExecutorConfig;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Places a whole basket in three stages: the cart, then the order, then all order items
+ * together with the payment. Writes of the last stage go out in parallel, since each only
+ * needs the order id. When a write fails, the writes that succeeded are deleted again, the
+ * latest stage first, and the original failure is passed on.
+ */
+@Service
+@Slf4j
+public class CheckoutServiceImpl implements CheckoutService {
+	
+	private final CartClientService cartClientService;
+	private final OrderClientService orderClientService;
+	private final OrderItemClientService orderItemClientService;
+	private final PaymentClientService paymentClientService;
+	private final Executor executor;
+	
+	public CheckoutServiceImpl(final CartClientService cartClientService,
+			final OrderClientService orderClientService,
+			final OrderItemClientService orderItemClientService,
+			final PaymentClientService paymentClientService,
+			@Qualifier(CheckoutExecutorConfig.CHECKOUT_TASK_EXECUTOR) final Executor executor) {
+		this.cartClientService = cartClientService;
+		this.orderClientService = orderClientService;
+		this.orderItemClientService = orderItemClientService;
+		this.paymentClientService = paymentClientService;
+		this.executor = executor;
+	}
+	
+	@Override
+	public CheckoutResponse checkout(final CheckoutRequest checkoutRequest) {
+		log.info("** CheckoutResponse, checkout basket service*\n");
+		final Deque<List<Runnable>> compensations = new ArrayDeque<>();
+		try {
+			final CartDto cartDto = this.cartOf(checkoutRequest, compensations);
+			
+			final OrderDto orderDto = this.orderClientService.save(OrderDto.builder()
+					.orderDate(LocalDateTime.now())
+					.orderDesc(checkoutRequest.getOrderDesc())
+					.orderFee(checkoutRequest.getOrderFee())
+					.cartDto(CartDto.builder()
+							.cartId(cartDto.getCartId())
+							.build())
+					.build()).getBody();
+			compensations.push(List.of(() -> this.orderClientService.deleteById(String.valueOf(orderDto.getOrderId()))));
+			
+			final List<CompletableFuture<OrderItemDto>> orderItemFutures = quantitiesByProductId(checkoutRequest.getItems())
+					.entrySet().stream()
+					.map(quantity -> this.submit(() -> this.orderItemClientService.save(OrderItemDto.builder()
+							.orderId(orderDto.getOrderId())
+							.productId(quantity.getKey())
+							.orderedQuantity(quantity.getValue())
+							.build()).getBody()))
+					.collect(Collectors.toUnmodifiableList());
+			final CompletableFuture<PaymentDto> paymentFuture = this.submit(() -> this.paymentClientService.save(PaymentDto.builder()
+					.isPayed(false)
+					.paymentStatus(PaymentStatus.NOT_STARTED)
+					.orderDto(com.selimhorri.app.business.payment.model.OrderDto.builder()
+							.orderId(orderDto.getOrderId())
+							.build())
+					.build()).getBody());
+			
+			final List<CompletableFuture<?>> writes = new ArrayList<>(orderItemFutures);
+			writes.add(paymentFuture);
+			CompletableFuture.allOf(writes.toArray(CompletableFuture[]::new))
+					.exceptionally(e -> null)
+					.join();
+			
+			final List<Runnable> undoWrites = new ArrayList<>(writes.size());
+			orderItemFutures.stream()
+					.filter(future -> !future.isCompletedExceptionally())
+					.map(CompletableFuture::join)
+					.forEach(orderItemDto -> undoWrites.add(() -> this.orderItemClientService.deleteById(
+							String.valueOf(orderItemDto.getOrderId()), String.valueOf(orderItemDto.getProductId()))));
+			if (!paymentFuture.isCompletedExceptionally()) {
+				undoWrites.add(() -> this.paymentClientService.deleteById(String.valueOf(paymentFuture.join().getPaymentId())));
+			}
+			compensations.push(undoWrites);
+			rethrowFirstFailure(writes);
+			
+			return CheckoutResponse.builder()
+					.cartDto(cartDto)
+					.orderDto(orderDto)
+					.orderItemDtos(orderItemFutures.stream()
+							.map(CompletableFuture::join)
+							.collect(Collectors.toUnmodifiableList()))
+					.paymentDto(paymentFuture.join())
+					.build();
+		}
+		catch (RuntimeException e) {
+			log.error("** Checkout failed, undoing {} stage(s): {}*\n", compensations.size(), e.getMessage());
+			this.compensate(compensations);
+			throw e;
+		}
+	}
+	
+	/**
+	 * Reuses the cart named by the request, which is then left in place on failure, or opens
+	 * a new one for the user.
+	 */
+	private CartDto cartOf(final CheckoutRequest checkoutRequest, final Deque<List<Runnable>> compensations) {
+		if (checkoutRequest.getCartId() != null) {
+			return CartDto.builder()
+					.cartId(checkoutRequest.getCartId())
+					.userId(checkoutRequest.getUserId())
+					.build();
+		}
+		final CartDto cartDto = this.cartClientService.save(CartDto.builder()
+				.userId(checkoutRequest.getUserId())
+				.build()).getBody();
+		compensations.push(List.of(() -> this.cartClientService.deleteById(String.valueOf(cartDto.getCartId()))));
+		return cartDto;
+	}
+	
+	/**
+	 * Folds repeated products into one line, since order items are keyed by order and product.
+	 */
+	private static Map<Integer, Integer> quantitiesByProductId(final List<CheckoutItem> items) {
+		return items.stream()
+				.collect(Collectors.toMap(CheckoutItem::getProductId, CheckoutItem::getOrderedQuantity,
+						Integer::sum, LinkedHashMap::new));
+	}
+	
+	private <T> CompletableFuture<T> submit(final Supplier<T> write) {
+		return CompletableFuture.supplyAsync(write, this.executor);
+	}
+	
+	private static void rethrowFirstFailure(final List<CompletableFuture<?>> writes) {
+		for (final CompletableFuture<?> write : writes) {
+			try {
+				write.join();
+			}
+			catch (CompletionException e) {
+				if (e.getCause() instanceof RuntimeException) {
+					throw (RuntimeException) e.getCause();
+				}
+				throw e;
+			}
+		}
+	}
+	
+	/**
+	 * Undoes the stages latest first, the deletes of one stage in parallel. A delete that
+	 * fails is logged and skipped, so that it neither stops the others nor hides the failure
+	 * that caused the rollback.
+	 */
+	private void compensate(final Deque<List<Runnable>> compensations) {
+		while (!compensations.isEmpty()) {
+			CompletableFuture.allOf(compensations.pop().stream()
+							.map(undo -> CompletableFuture.runAsync(undo, this.executor)
+									.exceptionally(e -> {
+										log.error("** Checkout compensation failed, left for manual cleanup: {}*\n", e.getMessage());
+										return null;
+									}))
+							.toArray(CompletableFuture[]::new))
+					.join();
+		}
+	}
+	
+	
+	
+}
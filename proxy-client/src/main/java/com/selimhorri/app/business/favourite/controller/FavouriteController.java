@@ -1,5 +1,9 @@
 package com.selimhorri.app.business.favourite.controller;
 
+import java.util.concurrent.CompletableFuture;
+
+import javax.servlet.http.HttpServletResponse;
+
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
@@ -8,12 +12,15 @@ import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
 import com.selimhorri.app.business.favourite.model.FavouriteDto;
 import com.selimhorri.app.business.favourite.model.FavouriteId;
 import com.selimhorri.app.business.favourite.model.response.FavouriteFavouriteServiceCollectionDtoResponse;
 import com.selimhorri.app.business.favourite.service.FavouriteClientService;
+import com.selimhorri.app.config.outbound.OutboundExecutor;
+import com.selimhorri.app.config.passthrough.ResponsePassthrough;
 
 import lombok.RequiredArgsConstructor;
 
@@ -23,48 +30,63 @@ import lombok.RequiredArgsConstructor;
 public class FavouriteController {
 	
 	private final FavouriteClientService favouriteClientService;
+	private final ResponsePassthrough responsePassthrough;
+	private final OutboundExecutor outboundExecutor;
 	
 	@GetMapping
-	public ResponseEntity<FavouriteFavouriteServiceCollectionDtoResponse> findAll() {
-		return ResponseEntity.ok(this.favouriteClientService.findAll().getBody());
+	public CompletableFuture<ResponseEntity<FavouriteFavouriteServiceCollectionDtoResponse>> findAll(
+			@RequestParam(name = "after", required = false) final String after, 
+			@RequestParam(name = "limit", required = false) final Integer limit, 
+			final HttpServletResponse response) {
+		return this.outboundExecutor.submit(() -> {
+			if (this.responsePassthrough.isEnabled("favourites")) {
+				this.responsePassthrough.copy(this.favouriteClientService.findAllRaw(after, limit), response);
+				return null;
+			}
+			return ResponseEntity.ok(this.favouriteClientService.findAll(after, limit).getBody());
+		});
 	}
 	
 	@GetMapping("/{userId}/{productId}/{likeDate}")
-	public ResponseEntity<FavouriteDto> findById(
+	public CompletableFuture<ResponseEntity<FavouriteDto>> findById(
 			@PathVariable("userId") final String userId, 
 			@PathVariable("productId") final String productId, 
 			@PathVariable("likeDate") final String likeDate) {
-		return ResponseEntity.ok(this.favouriteClientService.findById(userId, productId, likeDate).getBody());
+		return this.outboundExecutor.submit(() -> ResponseEntity.ok(this.favouriteClientService.findById(userId, productId, likeDate).getBody()));
 	}
 	
 	@GetMapping("/find")
-	public ResponseEntity<FavouriteDto> findById(@RequestBody final FavouriteId favouriteId) {
-		return ResponseEntity.ok(this.favouriteClientService.findById(favouriteId).getBody());
+	public CompletableFuture<ResponseEntity<FavouriteDto>> findById(@RequestBody final FavouriteId favouriteId) {
+		return this.outboundExecutor.submit(() -> ResponseEntity.ok(this.favouriteClientService.findById(favouriteId).getBody()));
 	}
 	
 	@PostMapping
-	public ResponseEntity<FavouriteDto> save(@RequestBody final FavouriteDto favouriteDto) {
-		return ResponseEntity.ok(this.favouriteClientService.save(favouriteDto).getBody());
+	public CompletableFuture<ResponseEntity<FavouriteDto>> save(@RequestBody final FavouriteDto favouriteDto) {
+		return this.outboundExecutor.submit(() -> ResponseEntity.ok(this.favouriteClientService.save(favouriteDto).getBody()));
 	}
 	
 	@PutMapping
-	public ResponseEntity<FavouriteDto> update(@RequestBody final FavouriteDto favouriteDto) {
-		return ResponseEntity.ok(this.favouriteClientService.update(favouriteDto).getBody());
+	public CompletableFuture<ResponseEntity<FavouriteDto>> update(@RequestBody final FavouriteDto favouriteDto) {
+		return this.outboundExecutor.submit(() -> ResponseEntity.ok(this.favouriteClientService.update(favouriteDto).getBody()));
 	}
 	
 	@DeleteMapping("/{userId}/{productId}/{likeDate}")
-	public ResponseEntity<Boolean> deleteById(
+	public CompletableFuture<ResponseEntity<Boolean>> deleteById(
 			@PathVariable("userId") final String userId, 
 			@PathVariable("productId") final String productId, 
 			@PathVariable("likeDate") final String likeDate) {
-		this.favouriteClientService.deleteById(userId, productId, likeDate).getBody();
-		return ResponseEntity.ok(true);
+		return this.outboundExecutor.submit(() -> {
+			this.favouriteClientService.deleteById(userId, productId, likeDate).getBody();
+			return ResponseEntity.ok(true);
+		});
 	}
 	
 	@DeleteMapping("/delete")
-	public ResponseEntity<Boolean> deleteById(@RequestBody final FavouriteId favouriteId) {
-		this.favouriteClientService.deleteById(favouriteId).getBody();
-		return ResponseEntity.ok(true);
+	public CompletableFuture<ResponseEntity<Boolean>> deleteById(@RequestBody final FavouriteId favouriteId) {
+		return this.outboundExecutor.submit(() -> {
+			this.favouriteClientService.deleteById(favouriteId).getBody();
+			return ResponseEntity.ok(true);
+		});
 	}
 	
 	
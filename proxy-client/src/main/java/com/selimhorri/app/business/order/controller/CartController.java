@@ -1,5 +1,8 @@
 package com.selimhorri.app.business.order.controller;
 
+import java.util.concurrent.CompletableFuture;
+
+import javax.servlet.http.HttpServletResponse;
 import javax.validation.Valid;
 import javax.validation.constraints.NotBlank;
 import javax.validation.constraints.NotNull;
@@ -12,11 +15,14 @@ import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
 import com.selimhorri.app.business.order.model.CartDto;
 import com.selimhorri.app.business.order.model.response.CartOrderServiceDtoCollectionResponse;
 import com.selimhorri.app.business.order.service.CartClientService;
+import com.selimhorri.app.config.outbound.OutboundExecutor;
+import com.selimhorri.app.config.passthrough.ResponsePassthrough;
 
 import lombok.RequiredArgsConstructor;
 
@@ -26,51 +32,64 @@ import lombok.RequiredArgsConstructor;
 public class CartController {
 	
 	private final CartClientService cartClientService;
+	private final ResponsePassthrough responsePassthrough;
+	private final OutboundExecutor outboundExecutor;
 	
 	@GetMapping
-	public ResponseEntity<CartOrderServiceDtoCollectionResponse> findAll() {
-		return ResponseEntity.ok(this.cartClientService.findAll().getBody());
+	public CompletableFuture<ResponseEntity<CartOrderServiceDtoCollectionResponse>> findAll(
+			@RequestParam(name = "after", required = false) final String after, 
+			@RequestParam(name = "limit", required = false) final Integer limit, 
+			final HttpServletResponse response) {
+		return this.outboundExecutor.submit(() -> {
+			if (this.responsePassthrough.isEnabled("carts")) {
+				this.responsePassthrough.copy(this.cartClientService.findAllRaw(after, limit), response);
+				return null;
+			}
+			return ResponseEntity.ok(this.cartClientService.findAll(after, limit).getBody());
+		});
 	}
 	
 	@GetMapping("/{cartId}")
-	public ResponseEntity<CartDto> findById(
+	public CompletableFuture<ResponseEntity<CartDto>> findById(
 			@PathVariable("cartId") 
 			@NotBlank(message = "Input must not be blank!") 
 			@Valid final String cartId) {
-		return ResponseEntity.ok(this.cartClientService.findById(cartId).getBody());
+		return this.outboundExecutor.submit(() -> ResponseEntity.ok(this.cartClientService.findById(cartId).getBody()));
 	}
 	
 	@PostMapping
-	public ResponseEntity<CartDto> save(
+	public CompletableFuture<ResponseEntity<CartDto>> save(
 			@RequestBody 
 			@NotNull(message = "Input must not be NULL!") 
 			@Valid final CartDto cartDto) {
-		return ResponseEntity.ok(this.cartClientService.save(cartDto).getBody());
+		return this.outboundExecutor.submit(() -> ResponseEntity.ok(this.cartClientService.save(cartDto).getBody()));
 	}
 	
 	@PutMapping
-	public ResponseEntity<CartDto> update(
+	public CompletableFuture<ResponseEntity<CartDto>> update(
 			@RequestBody 
 			@NotNull(message = "Input must not be NULL!") 
 			@Valid final CartDto cartDto) {
-		return ResponseEntity.ok(this.cartClientService.update(cartDto).getBody());
+		return this.outboundExecutor.submit(() -> ResponseEntity.ok(this.cartClientService.update(cartDto).getBody()));
 	}
 	
 	@PutMapping("/{cartId}")
-	public ResponseEntity<CartDto> update(
+	public CompletableFuture<ResponseEntity<CartDto>> update(
 			@PathVariable("cartId")
 			@NotBlank(message = "Input must not be blank!")
 			@Valid final String cartId,
 			@RequestBody 
 			@NotNull(message = "Input must not be NULL!") 
 			@Valid final CartDto cartDto) {
-		return ResponseEntity.ok(this.cartClientService.update(cartId, cartDto).getBody());
+		return this.outboundExecutor.submit(() -> ResponseEntity.ok(this.cartClientService.update(cartId, cartDto).getBody()));
 	}
 	
 	@DeleteMapping("/{cartId}")
-	public ResponseEntity<Boolean> deleteById(@PathVariable("cartId") final String cartId) {
-		this.cartClientService.deleteById(cartId).getBody();
-		return ResponseEntity.ok(true);
+	public CompletableFuture<ResponseEntity<Boolean>> deleteById(@PathVariable("cartId") final String cartId) {
+		return this.outboundExecutor.submit(() -> {
+			this.cartClientService.deleteById(cartId).getBody();
+			return ResponseEntity.ok(true);
+		});
 	}
 	
 	
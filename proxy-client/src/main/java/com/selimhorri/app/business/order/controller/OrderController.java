@@ -1,5 +1,8 @@
 package com.selimhorri.app.business.order.controller;
 
+import java.util.concurrent.CompletableFuture;
+
+import javax.servlet.http.HttpServletResponse;
 import javax.validation.Valid;
 import javax.validation.constraints.NotBlank;
 import javax.validation.constraints.NotNull;
@@ -12,11 +15,14 @@ import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
 import com.selimhorri.app.business.order.model.OrderDto;
 import com.selimhorri.app.business.order.model.response.OrderOrderServiceDtoCollectionResponse;
 import com.selimhorri.app.business.order.service.OrderClientService;
+import com.selimhorri.app.config.outbound.OutboundExecutor;
+import com.selimhorri.app.config.passthrough.ResponsePassthrough;
 
 import lombok.RequiredArgsConstructor;
 
@@ -26,51 +32,64 @@ import lombok.RequiredArgsConstructor;
 public class OrderController {
 	
 	private final OrderClientService orderClientService;
+	private final ResponsePassthrough responsePassthrough;
+	private final OutboundExecutor outboundExecutor;
 	
 	@GetMapping
-	public ResponseEntity<OrderOrderServiceDtoCollectionResponse> findAll() {
-		return ResponseEntity.ok(this.orderClientService.findAll().getBody());
+	public CompletableFuture<ResponseEntity<OrderOrderServiceDtoCollectionResponse>> findAll(
+			@RequestParam(name = "after", required = false) final String after, 
+			@RequestParam(name = "limit", required = false) final Integer limit, 
+			final HttpServletResponse response) {
+		return this.outboundExecutor.submit(() -> {
+			if (this.responsePassthrough.isEnabled("orders")) {
+				this.responsePassthrough.copy(this.orderClientService.findAllRaw(after, limit), response);
+				return null;
+			}
+			return ResponseEntity.ok(this.orderClientService.findAll(after, limit).getBody());
+		});
 	}
 	
 	@GetMapping("/{orderId}")
-	public ResponseEntity<OrderDto> findById(
+	public CompletableFuture<ResponseEntity<OrderDto>> findById(
 			@PathVariable("orderId") 
 			@NotBlank(message = "Input must not be blank!") 
 			@Valid final String orderId) {
-		return ResponseEntity.ok(this.orderClientService.findById(orderId).getBody());
+		return this.outboundExecutor.submit(() -> ResponseEntity.ok(this.orderClientService.findById(orderId).getBody()));
 	}
 	
 	@PostMapping
-	public ResponseEntity<OrderDto> save(
+	public CompletableFuture<ResponseEntity<OrderDto>> save(
 			@RequestBody 
 			@NotNull(message = "Input must not be NULL!") 
 			@Valid final OrderDto orderDto) {
-		return ResponseEntity.ok(this.orderClientService.save(orderDto).getBody());
+		return this.outboundExecutor.submit(() -> ResponseEntity.ok(this.orderClientService.save(orderDto).getBody()));
 	}
 	
 	@PutMapping
-	public ResponseEntity<OrderDto> update(
+	public CompletableFuture<ResponseEntity<OrderDto>> update(
 			@RequestBody 
 			@NotNull(message = "Input must not be NULL!") 
 			@Valid final OrderDto orderDto) {
-		return ResponseEntity.ok(this.orderClientService.update(orderDto).getBody());
+		return this.outboundExecutor.submit(() -> ResponseEntity.ok(this.orderClientService.update(orderDto).getBody()));
 	}
 	
 	@PutMapping("/{orderId}")
-	public ResponseEntity<OrderDto> update(
+	public CompletableFuture<ResponseEntity<OrderDto>> update(
 			@PathVariable("orderId")
 			@NotBlank(message = "Input must not be blank!")
 			@Valid final String orderId,
 			@RequestBody 
 			@NotNull(message = "Input must not be NULL!") 
 			@Valid final OrderDto orderDto) {
-		return ResponseEntity.ok(this.orderClientService.update(orderId, orderDto).getBody());
+		return this.outboundExecutor.submit(() -> ResponseEntity.ok(this.orderClientService.update(orderId, orderDto).getBody()));
 	}
 	
 	@DeleteMapping("/{orderId}")
-	public ResponseEntity<Boolean> deleteById(@PathVariable("orderId") final String orderId) {
-		this.orderClientService.deleteById(orderId).getBody();
-		return ResponseEntity.ok(true);
+	public CompletableFuture<ResponseEntity<Boolean>> deleteById(@PathVariable("orderId") final String orderId) {
+		return this.outboundExecutor.submit(() -> {
+			this.orderClientService.deleteById(orderId).getBody();
+			return ResponseEntity.ok(true);
+		});
 	}
 	
 	
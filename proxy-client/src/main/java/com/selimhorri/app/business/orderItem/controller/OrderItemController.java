@@ -1,5 +1,9 @@
 package com.selimhorri.app.business.orderItem.controller;
 
+import java.util.concurrent.CompletableFuture;
+
+import javax.servlet.http.HttpServletResponse;
+
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
@@ -8,12 +12,15 @@ import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
 import com.selimhorri.app.business.orderItem.model.OrderItemDto;
 import com.selimhorri.app.business.orderItem.model.OrderItemId;
 import com.selimhorri.app.business.orderItem.model.response.OrderItemOrderItemServiceDtoCollectionResponse;
 import com.selimhorri.app.business.orderItem.service.OrderItemClientService;
+import com.selimhorri.app.config.outbound.OutboundExecutor;
+import com.selimhorri.app.config.passthrough.ResponsePassthrough;
 
 import lombok.RequiredArgsConstructor;
 
@@ -23,48 +30,63 @@ import lombok.RequiredArgsConstructor;
 public class OrderItemController {
 	
 	private final OrderItemClientService orderItemClientService;
+	private final ResponsePassthrough responsePassthrough;
+	private final OutboundExecutor outboundExecutor;
 	
 	@GetMapping
-	public ResponseEntity<OrderItemOrderItemServiceDtoCollectionResponse> findAll() {
-		return ResponseEntity.ok(this.orderItemClientService.findAll().getBody());
+	public CompletableFuture<ResponseEntity<OrderItemOrderItemServiceDtoCollectionResponse>> findAll(
+			@RequestParam(name = "after", required = false) final String after, 
+			@RequestParam(name = "limit", required = false) final Integer limit, 
+			final HttpServletResponse response) {
+		return this.outboundExecutor.submit(() -> {
+			if (this.responsePassthrough.isEnabled("shippings")) {
+				this.responsePassthrough.copy(this.orderItemClientService.findAllRaw(after, limit), response);
+				return null;
+			}
+			return ResponseEntity.ok(this.orderItemClientService.findAll(after, limit).getBody());
+		});
 	}
 	
 	@GetMapping("/{orderId}/{productId}")
-	public ResponseEntity<OrderItemDto> findById(
+	public CompletableFuture<ResponseEntity<OrderItemDto>> findById(
 			@PathVariable("orderId") final String orderId, 
 			@PathVariable("productId") final String productId) {
-		return ResponseEntity.ok(this.orderItemClientService.findById(new OrderItemId(Integer.parseInt(productId), 
-				Integer.parseInt(orderId))).getBody());
+		return this.outboundExecutor.submit(() -> ResponseEntity.ok(this.orderItemClientService.findById(new OrderItemId(Integer.parseInt(productId), 
+				Integer.parseInt(orderId))).getBody()));
 	}
 	
 	@GetMapping("/find")
-	public ResponseEntity<OrderItemDto> findById(@RequestBody final OrderItemId orderItemId) {
-		return ResponseEntity.ok(this.orderItemClientService.findById(orderItemId).getBody());
+	public CompletableFuture<ResponseEntity<OrderItemDto>> findById(@RequestBody final OrderItemId orderItemId) {
+		return this.outboundExecutor.submit(() -> ResponseEntity.ok(this.orderItemClientService.findById(orderItemId).getBody()));
 	}
 	
 	@PostMapping
-	public ResponseEntity<OrderItemDto> save(@RequestBody final OrderItemDto orderItemDto) {
-		return ResponseEntity.ok(this.orderItemClientService.save(orderItemDto).getBody());
+	public CompletableFuture<ResponseEntity<OrderItemDto>> save(@RequestBody final OrderItemDto orderItemDto) {
+		return this.outboundExecutor.submit(() -> ResponseEntity.ok(this.orderItemClientService.save(orderItemDto).getBody()));
 	}
 	
 	@PutMapping
-	public ResponseEntity<OrderItemDto> update(@RequestBody final OrderItemDto orderItemDto) {
-		return ResponseEntity.ok(this.orderItemClientService.update(orderItemDto).getBody());
+	public CompletableFuture<ResponseEntity<OrderItemDto>> update(@RequestBody final OrderItemDto orderItemDto) {
+		return this.outboundExecutor.submit(() -> ResponseEntity.ok(this.orderItemClientService.update(orderItemDto).getBody()));
 	}
 	
 	@DeleteMapping("/{orderId}/{productId}")
-	public ResponseEntity<Boolean> deleteById(
+	public CompletableFuture<ResponseEntity<Boolean>> deleteById(
 			@PathVariable("orderId") final String orderId, 
 			@PathVariable("productId") final String productId) {
-		this.orderItemClientService.deleteById(new OrderItemId(Integer.parseInt(orderId), 
-				Integer.parseInt(productId))).getBody();
-		return ResponseEntity.ok(true);
+		return this.outboundExecutor.submit(() -> {
+			this.orderItemClientService.deleteById(new OrderItemId(Integer.parseInt(orderId), 
+					Integer.parseInt(productId))).getBody();
+			return ResponseEntity.ok(true);
+		});
 	}
 	
 	@DeleteMapping("/delete")
-	public ResponseEntity<Boolean> deleteById(@RequestBody final OrderItemId orderItemId) {
-		this.orderItemClientService.deleteById(orderItemId).getBody();
-		return ResponseEntity.ok(true);
+	public CompletableFuture<ResponseEntity<Boolean>> deleteById(@RequestBody final OrderItemId orderItemId) {
+		return this.outboundExecutor.submit(() -> {
+			this.orderItemClientService.deleteById(orderItemId).getBody();
+			return ResponseEntity.ok(true);
+		});
 	}
 	
 	
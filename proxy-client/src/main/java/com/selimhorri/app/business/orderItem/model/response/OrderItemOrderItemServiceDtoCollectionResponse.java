@@ -3,6 +3,8 @@ package com.selimhorri.app.business.orderItem.model.response;
 import java.io.Serializable;
 import java.util.Collection;
 
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonInclude.Include;
 import com.selimhorri.app.business.orderItem.model.OrderItemDto;
 
 import lombok.AllArgsConstructor;
@@ -19,4 +21,7 @@ public class OrderItemOrderItemServiceDtoCollectionResponse implements Serializa
 	private static final long serialVersionUID = 1L;
 	private Collection<OrderItemDto> collection;
 	
+	@JsonInclude(Include.NON_NULL)
+	private String next;
+	
 }
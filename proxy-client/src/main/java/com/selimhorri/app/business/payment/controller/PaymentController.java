@@ -1,5 +1,9 @@
 package com.selimhorri.app.business.payment.controller;
 
+import java.util.concurrent.CompletableFuture;
+
+import javax.servlet.http.HttpServletResponse;
+
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
@@ -8,11 +12,14 @@ import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
 import com.selimhorri.app.business.payment.model.PaymentDto;
 import com.selimhorri.app.business.payment.model.response.PaymentPaymentServiceDtoCollectionResponse;
 import com.selimhorri.app.business.payment.service.PaymentClientService;
+import com.selimhorri.app.config.outbound.OutboundExecutor;
+import com.selimhorri.app.config.passthrough.ResponsePassthrough;
 
 import lombok.RequiredArgsConstructor;
 
@@ -22,30 +29,41 @@ import lombok.RequiredArgsConstructor;
 public class PaymentController {
 	
 	private final PaymentClientService paymentClientService;
+	private final ResponsePassthrough responsePassthrough;
+	private final OutboundExecutor outboundExecutor;
 	
 	@GetMapping
-	public ResponseEntity<PaymentPaymentServiceDtoCollectionResponse> findAll() {
-		return ResponseEntity.ok(this.paymentClientService.findAll().getBody());
+	public CompletableFuture<ResponseEntity<PaymentPaymentServiceDtoCollectionResponse>> findAll(
+			@RequestParam(name = "after", required = false) final String after, 
+			@RequestParam(name = "limit", required = false) final Integer limit, 
+			final HttpServletResponse response) {
+		return this.outboundExecutor.submit(() -> {
+			if (this.responsePassthrough.isEnabled("payments")) {
+				this.responsePassthrough.copy(this.paymentClientService.findAllRaw(after, limit), response);
+				return null;
+			}
+			return ResponseEntity.ok(this.paymentClientService.findAll(after, limit).getBody());
+		});
 	}
 	
 	@GetMapping("/{paymentId}")
-	public ResponseEntity<PaymentDto> findById(@PathVariable("paymentId") final String paymentId) {
-		return ResponseEntity.ok(this.paymentClientService.findById(paymentId).getBody());
+	public CompletableFuture<ResponseEntity<PaymentDto>> findById(@PathVariable("paymentId") final String paymentId) {
+		return this.outboundExecutor.submit(() -> ResponseEntity.ok(this.paymentClientService.findById(paymentId).getBody()));
 	}
 	
 	@PostMapping
-	public ResponseEntity<PaymentDto> save(@RequestBody final PaymentDto paymentDto) {
-		return ResponseEntity.ok(this.paymentClientService.save(paymentDto).getBody());
+	public CompletableFuture<ResponseEntity<PaymentDto>> save(@RequestBody final PaymentDto paymentDto) {
+		return this.outboundExecutor.submit(() -> ResponseEntity.ok(this.paymentClientService.save(paymentDto).getBody()));
 	}
 	
 	@PutMapping
-	public ResponseEntity<PaymentDto> update(@RequestBody final PaymentDto paymentDto) {
-		return ResponseEntity.ok(this.paymentClientService.update(paymentDto).getBody());
+	public CompletableFuture<ResponseEntity<PaymentDto>> update(@RequestBody final PaymentDto paymentDto) {
+		return this.outboundExecutor.submit(() -> ResponseEntity.ok(this.paymentClientService.update(paymentDto).getBody()));
 	}
 	
 	@DeleteMapping("/{paymentId}")
-	public ResponseEntity<Boolean> deleteById(@PathVariable("paymentId") final String paymentId) {
-		return ResponseEntity.ok(this.paymentClientService.deleteById(paymentId).getBody());
+	public CompletableFuture<ResponseEntity<Boolean>> deleteById(@PathVariable("paymentId") final String paymentId) {
+		return this.outboundExecutor.submit(() -> ResponseEntity.ok(this.paymentClientService.deleteById(paymentId).getBody()));
 	}
 	
 	
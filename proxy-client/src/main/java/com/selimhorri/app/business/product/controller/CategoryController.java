@@ -1,5 +1,9 @@
 package com.selimhorri.app.business.product.controller;
 
+import java.util.concurrent.CompletableFuture;
+
+import javax.servlet.http.HttpServletResponse;
+
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
@@ -8,11 +12,14 @@ import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
 import com.selimhorri.app.business.product.model.CategoryDto;
 import com.selimhorri.app.business.product.model.response.CategoryProductServiceCollectionDtoResponse;
 import com.selimhorri.app.business.product.service.CategoryClientService;
+import com.selimhorri.app.config.outbound.OutboundExecutor;
+import com.selimhorri.app.config.passthrough.ResponsePassthrough;
 
 import lombok.RequiredArgsConstructor;
 
@@ -22,36 +29,47 @@ import lombok.RequiredArgsConstructor;
 public class CategoryController {
 	
 	private final CategoryClientService categoryClientService;
+	private final ResponsePassthrough responsePassthrough;
+	private final OutboundExecutor outboundExecutor;
 	
 	@GetMapping
-	public ResponseEntity<CategoryProductServiceCollectionDtoResponse> findAll() {
-		return ResponseEntity.ok(this.categoryClientService.findAll().getBody());
+	public CompletableFuture<ResponseEntity<CategoryProductServiceCollectionDtoResponse>> findAll(
+			@RequestParam(name = "after", required = false) final String after, 
+			@RequestParam(name = "limit", required = false) final Integer limit, 
+			final HttpServletResponse response) {
+		return this.outboundExecutor.submit(() -> {
+			if (this.responsePassthrough.isEnabled("categories")) {
+				this.responsePassthrough.copy(this.categoryClientService.findAllRaw(after, limit), response);
+				return null;
+			}
+			return ResponseEntity.ok(this.categoryClientService.findAll(after, limit).getBody());
+		});
 	}
 	
 	@GetMapping("/{categoryId}")
-	public ResponseEntity<CategoryDto> findById(@PathVariable("categoryId") final String categoryId) {
-		return ResponseEntity.ok(this.categoryClientService.findById(categoryId).getBody());
+	public CompletableFuture<ResponseEntity<CategoryDto>> findById(@PathVariable("categoryId") final String categoryId) {
+		return this.outboundExecutor.submit(() -> ResponseEntity.ok(this.categoryClientService.findById(categoryId).getBody()));
 	}
 	
 	@PostMapping
-	public ResponseEntity<CategoryDto> save(@RequestBody final CategoryDto categoryDto) {
-		return ResponseEntity.ok(this.categoryClientService.save(categoryDto).getBody());
+	public CompletableFuture<ResponseEntity<CategoryDto>> save(@RequestBody final CategoryDto categoryDto) {
+		return this.outboundExecutor.submit(() -> ResponseEntity.ok(this.categoryClientService.save(categoryDto).getBody()));
 	}
 	
 	@PutMapping
-	public ResponseEntity<CategoryDto> update(@RequestBody final CategoryDto categoryDto) {
-		return ResponseEntity.ok(this.categoryClientService.update(categoryDto).getBody());
+	public CompletableFuture<ResponseEntity<CategoryDto>> update(@RequestBody final CategoryDto categoryDto) {
+		return this.outboundExecutor.submit(() -> ResponseEntity.ok(this.categoryClientService.update(categoryDto).getBody()));
 	}
 	
 	@PutMapping("/{categoryId}")
-	public ResponseEntity<CategoryDto> update(@PathVariable("categoryId") final String categoryId, 
+	public CompletableFuture<ResponseEntity<CategoryDto>> update(@PathVariable("categoryId") final String categoryId, 
 			@RequestBody final CategoryDto categoryDto) {
-		return ResponseEntity.ok(this.categoryClientService.update(categoryId, categoryDto).getBody());
+		return this.outboundExecutor.submit(() -> ResponseEntity.ok(this.categoryClientService.update(categoryId, categoryDto).getBody()));
 	}
 	
 	@DeleteMapping("/{categoryId}")
-	public ResponseEntity<Boolean> deleteById(@PathVariable("categoryId") final String categoryId) {
-		return ResponseEntity.ok(this.categoryClientService.deleteById(categoryId).getBody());
+	public CompletableFuture<ResponseEntity<Boolean>> deleteById(@PathVariable("categoryId") final String categoryId) {
+		return this.outboundExecutor.submit(() -> ResponseEntity.ok(this.categoryClientService.deleteById(categoryId).getBody()));
 	}
 	
 	
@@ -1,5 +1,9 @@
 package com.selimhorri.app.business.product.controller;
 
+import java.util.concurrent.CompletableFuture;
+
+import javax.servlet.http.HttpServletResponse;
+
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
@@ -8,11 +12,14 @@ import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
 import com.selimhorri.app.business.product.model.ProductDto;
 import com.selimhorri.app.business.product.model.response.ProductProductServiceCollectionDtoResponse;
 import com.selimhorri.app.business.product.service.ProductClientService;
+import com.selimhorri.app.config.outbound.OutboundExecutor;
+import com.selimhorri.app.config.passthrough.ResponsePassthrough;
 
 import lombok.RequiredArgsConstructor;
 
@@ -22,36 +29,47 @@ import lombok.RequiredArgsConstructor;
 public class ProductController {
 	
 	private final ProductClientService productClientService;
+	private final ResponsePassthrough responsePassthrough;
+	private final OutboundExecutor outboundExecutor;
 	
 	@GetMapping
-	public ResponseEntity<ProductProductServiceCollectionDtoResponse> findAll() {
-		return ResponseEntity.ok(this.productClientService.findAll().getBody());
+	public CompletableFuture<ResponseEntity<ProductProductServiceCollectionDtoResponse>> findAll(
+			@RequestParam(name = "after", required = false) final String after, 
+			@RequestParam(name = "limit", required = false) final Integer limit, 
+			final HttpServletResponse response) {
+		return this.outboundExecutor.submit(() -> {
+			if (this.responsePassthrough.isEnabled("products")) {
+				this.responsePassthrough.copy(this.productClientService.findAllRaw(after, limit), response);
+				return null;
+			}
+			return ResponseEntity.ok(this.productClientService.findAll(after, limit).getBody());
+		});
 	}
 	
 	@GetMapping("/{productId}")
-	public ResponseEntity<ProductDto> findById(@PathVariable("productId") final String productId) {
-		return ResponseEntity.ok(this.productClientService.findById(productId).getBody());
+	public CompletableFuture<ResponseEntity<ProductDto>> findById(@PathVariable("productId") final String productId) {
+		return this.outboundExecutor.submit(() -> ResponseEntity.ok(this.productClientService.findById(productId).getBody()));
 	}
 	
 	@PostMapping
-	public ResponseEntity<ProductDto> save(@RequestBody final ProductDto productDto) {
-		return ResponseEntity.ok(this.productClientService.save(productDto).getBody());
+	public CompletableFuture<ResponseEntity<ProductDto>> save(@RequestBody final ProductDto productDto) {
+		return this.outboundExecutor.submit(() -> ResponseEntity.ok(this.productClientService.save(productDto).getBody()));
 	}
 	
 	@PutMapping
-	public ResponseEntity<ProductDto> update(@RequestBody final ProductDto productDto) {
-		return ResponseEntity.ok(this.productClientService.update(productDto).getBody());
+	public CompletableFuture<ResponseEntity<ProductDto>> update(@RequestBody final ProductDto productDto) {
+		return this.outboundExecutor.submit(() -> ResponseEntity.ok(this.productClientService.update(productDto).getBody()));
 	}
 	
 	@PutMapping("/{productId}")
-	public ResponseEntity<ProductDto> update(@PathVariable("productId") final String productId, 
+	public CompletableFuture<ResponseEntity<ProductDto>> update(@PathVariable("productId") final String productId, 
 			@RequestBody final ProductDto productDto) {
-		return ResponseEntity.ok(this.productClientService.update(productId, productDto).getBody());
+		return this.outboundExecutor.submit(() -> ResponseEntity.ok(this.productClientService.update(productId, productDto).getBody()));
 	}
 	
 	@DeleteMapping("/{productId}")
-	public ResponseEntity<Boolean> deleteById(@PathVariable("productId") final String productId) {
-		return ResponseEntity.ok(this.productClientService.deleteById(productId).getBody());
+	public CompletableFuture<ResponseEntity<Boolean>> deleteById(@PathVariable("productId") final String productId) {
+		return this.outboundExecutor.submit(() -> ResponseEntity.ok(this.productClientService.deleteById(productId).getBody()));
 	}
 	
 	
@@ -1,5 +1,9 @@
 package com.selimhorri.app.business.user.controller;
 
+import java.util.concurrent.CompletableFuture;
+
+import javax.servlet.http.HttpServletResponse;
+
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
@@ -8,11 +12,14 @@ import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
 import com.selimhorri.app.business.user.model.AddressDto;
 import com.selimhorri.app.business.user.model.response.AddressUserServiceCollectionDtoResponse;
 import com.selimhorri.app.business.user.service.AddressClientService;
+import com.selimhorri.app.config.outbound.OutboundExecutor;
+import com.selimhorri.app.config.passthrough.ResponsePassthrough;
 
 import lombok.RequiredArgsConstructor;
 
@@ -22,35 +29,46 @@ import lombok.RequiredArgsConstructor;
 public class AddressController {
 	
 	private final AddressClientService addressClientService;
+	private final ResponsePassthrough responsePassthrough;
+	private final OutboundExecutor outboundExecutor;
 	
 	@GetMapping
-	public ResponseEntity<AddressUserServiceCollectionDtoResponse> findAll() {
-		return ResponseEntity.ok(this.addressClientService.findAll().getBody());
+	public CompletableFuture<ResponseEntity<AddressUserServiceCollectionDtoResponse>> findAll(
+			@RequestParam(name = "after", required = false) final String after, 
+			@RequestParam(name = "limit", required = false) final Integer limit, 
+			final HttpServletResponse response) {
+		return this.outboundExecutor.submit(() -> {
+			if (this.responsePassthrough.isEnabled("address")) {
+				this.responsePassthrough.copy(this.addressClientService.findAllRaw(after, limit), response);
+				return null;
+			}
+			return ResponseEntity.ok(this.addressClientService.findAll(after, limit).getBody());
+		});
 	}
 	
 	@GetMapping("/{addressId}")
-	public ResponseEntity<AddressDto> findById(@PathVariable("addressId") final String addressId) {
-		return ResponseEntity.ok(this.addressClientService.findById(addressId).getBody());
+	public CompletableFuture<ResponseEntity<AddressDto>> findById(@PathVariable("addressId") final String addressId) {
+		return this.outboundExecutor.submit(() -> ResponseEntity.ok(this.addressClientService.findById(addressId).getBody()));
 	}
 	
 	@PostMapping
-	public ResponseEntity<AddressDto> save(@RequestBody final AddressDto addressDto) {
-		return ResponseEntity.ok(this.addressClientService.save(addressDto).getBody());
+	public CompletableFuture<ResponseEntity<AddressDto>> save(@RequestBody final AddressDto addressDto) {
+		return this.outboundExecutor.submit(() -> ResponseEntity.ok(this.addressClientService.save(addressDto).getBody()));
 	}
 	
 	@PutMapping
-	public ResponseEntity<AddressDto> update(@RequestBody final AddressDto addressDto) {
-		return ResponseEntity.ok(this.addressClientService.update(addressDto).getBody());
+	public CompletableFuture<ResponseEntity<AddressDto>> update(@RequestBody final AddressDto addressDto) {
+		return this.outboundExecutor.submit(() -> ResponseEntity.ok(this.addressClientService.update(addressDto).getBody()));
 	}
 	
 	@PutMapping("/{addressId}")
-	public ResponseEntity<AddressDto> update(@PathVariable("addressId") final String addressId, @RequestBody final AddressDto addressDto) {
-		return ResponseEntity.ok(this.addressClientService.update(addressDto).getBody());
+	public CompletableFuture<ResponseEntity<AddressDto>> update(@PathVariable("addressId") final String addressId, @RequestBody final AddressDto addressDto) {
+		return this.outboundExecutor.submit(() -> ResponseEntity.ok(this.addressClientService.update(addressDto).getBody()));
 	}
 	
 	@DeleteMapping("/{addressId}")
-	public ResponseEntity<Boolean> deleteById(@PathVariable("addressId") final String addressId) {
-		return ResponseEntity.ok(this.addressClientService.deleteById(addressId).getBody());
+	public CompletableFuture<ResponseEntity<Boolean>> deleteById(@PathVariable("addressId") final String addressId) {
+		return this.outboundExecutor.submit(() -> ResponseEntity.ok(this.addressClientService.deleteById(addressId).getBody()));
 	}
 	
 	
@@ -1,5 +1,9 @@
 package com.selimhorri.app.business.user.controller;
 
+import java.util.concurrent.CompletableFuture;
+
+import javax.servlet.http.HttpServletResponse;
+
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
@@ -8,11 +12,14 @@ import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
 import com.selimhorri.app.business.user.model.CredentialDto;
 import com.selimhorri.app.business.user.model.response.CredentialUserServiceCollectionDtoResponse;
 import com.selimhorri.app.business.user.service.CredentialClientService;
+import com.selimhorri.app.config.outbound.OutboundExecutor;
+import com.selimhorri.app.config.passthrough.ResponsePassthrough;
 
 import lombok.RequiredArgsConstructor;
 
@@ -22,40 +29,51 @@ import lombok.RequiredArgsConstructor;
 public class CredentialController {
 	
 	private final CredentialClientService credentialClientService;
+	private final ResponsePassthrough responsePassthrough;
+	private final OutboundExecutor outboundExecutor;
 	
 	@GetMapping
-	public ResponseEntity<CredentialUserServiceCollectionDtoResponse> findAll() {
-		return ResponseEntity.ok(this.credentialClientService.findAll().getBody());
+	public CompletableFuture<ResponseEntity<CredentialUserServiceCollectionDtoResponse>> findAll(
+			@RequestParam(name = "after", required = false) final String after, 
+			@RequestParam(name = "limit", required = false) final Integer limit, 
+			final HttpServletResponse response) {
+		return this.outboundExecutor.submit(() -> {
+			if (this.responsePassthrough.isEnabled("credentials")) {
+				this.responsePassthrough.copy(this.credentialClientService.findAllRaw(after, limit), response);
+				return null;
+			}
+			return ResponseEntity.ok(this.credentialClientService.findAll(after, limit).getBody());
+		});
 	}
 	
 	@GetMapping("/{credentialId}")
-	public ResponseEntity<CredentialDto> findById(@PathVariable("credentialId") final String credentialId) {
-		return ResponseEntity.ok(this.credentialClientService.findById(credentialId).getBody());
+	public CompletableFuture<ResponseEntity<CredentialDto>> findById(@PathVariable("credentialId") final String credentialId) {
+		return this.outboundExecutor.submit(() -> ResponseEntity.ok(this.credentialClientService.findById(credentialId).getBody()));
 	}
 	
 	@GetMapping("/username/{username}")
-	public ResponseEntity<CredentialDto> findByCredentialname(@PathVariable("username") final String username) {
-		return ResponseEntity.ok(this.credentialClientService.findByUsername(username).getBody());
+	public CompletableFuture<ResponseEntity<CredentialDto>> findByCredentialname(@PathVariable("username") final String username) {
+		return this.outboundExecutor.submit(() -> ResponseEntity.ok(this.credentialClientService.findByUsername(username).getBody()));
 	}
 	
 	@PostMapping
-	public ResponseEntity<CredentialDto> save(@RequestBody final CredentialDto credentialDto) {
-		return ResponseEntity.ok(this.credentialClientService.save(credentialDto).getBody());
+	public CompletableFuture<ResponseEntity<CredentialDto>> save(@RequestBody final CredentialDto credentialDto) {
+		return this.outboundExecutor.submit(() -> ResponseEntity.ok(this.credentialClientService.save(credentialDto).getBody()));
 	}
 	
 	@PutMapping
-	public ResponseEntity<CredentialDto> update(@RequestBody final CredentialDto credentialDto) {
-		return ResponseEntity.ok(this.credentialClientService.update(credentialDto).getBody());
+	public CompletableFuture<ResponseEntity<CredentialDto>> update(@RequestBody final CredentialDto credentialDto) {
+		return this.outboundExecutor.submit(() -> ResponseEntity.ok(this.credentialClientService.update(credentialDto).getBody()));
 	}
 	
 	@PutMapping("/{credentialId}")
-	public ResponseEntity<CredentialDto> update(@PathVariable("credentialId") final String credentialId, @RequestBody final CredentialDto credentialDto) {
-		return ResponseEntity.ok(this.credentialClientService.update(credentialDto).getBody());
+	public CompletableFuture<ResponseEntity<CredentialDto>> update(@PathVariable("credentialId") final String credentialId, @RequestBody final CredentialDto credentialDto) {
+		return this.outboundExecutor.submit(() -> ResponseEntity.ok(this.credentialClientService.update(credentialDto).getBody()));
 	}
 	
 	@DeleteMapping("/{credentialId}")
-	public ResponseEntity<Boolean> deleteById(@PathVariable("credentialId") final String credentialId) {
-		return ResponseEntity.ok(this.credentialClientService.deleteById(credentialId).getBody());
+	public CompletableFuture<ResponseEntity<Boolean>> deleteById(@PathVariable("credentialId") final String credentialId) {
+		return this.outboundExecutor.submit(() -> ResponseEntity.ok(this.credentialClientService.deleteById(credentialId).getBody()));
 	}
 	
 	
@@ -1,5 +1,9 @@
 package com.selimhorri.app.business.user.controller;
 
+import java.util.concurrent.CompletableFuture;
+
+import javax.servlet.http.HttpServletResponse;
+
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
@@ -8,11 +12,14 @@ import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
 import com.selimhorri.app.business.user.model.UserDto;
 import com.selimhorri.app.business.user.model.response.UserUserServiceCollectionDtoResponse;
 import com.selimhorri.app.business.user.service.UserClientService;
+import com.selimhorri.app.config.outbound.OutboundExecutor;
+import com.selimhorri.app.config.passthrough.ResponsePassthrough;
 
 import lombok.RequiredArgsConstructor;
 
@@ -22,40 +29,51 @@ import lombok.RequiredArgsConstructor;
 public class UserController {
 	
 	private final UserClientService userClientService;
+	private final ResponsePassthrough responsePassthrough;
+	private final OutboundExecutor outboundExecutor;
 	
 	@GetMapping
-	public ResponseEntity<UserUserServiceCollectionDtoResponse> findAll() {
-		return ResponseEntity.ok(this.userClientService.findAll().getBody());
+	public CompletableFuture<ResponseEntity<UserUserServiceCollectionDtoResponse>> findAll(
+			@RequestParam(name = "after", required = false) final String after, 
+			@RequestParam(name = "limit", required = false) final Integer limit, 
+			final HttpServletResponse response) {
+		return this.outboundExecutor.submit(() -> {
+			if (this.responsePassthrough.isEnabled("users")) {
+				this.responsePassthrough.copy(this.userClientService.findAllRaw(after, limit), response);
+				return null;
+			}
+			return ResponseEntity.ok(this.userClientService.findAll(after, limit).getBody());
+		});
 	}
 	
 	@GetMapping("/{userId}")
-	public ResponseEntity<UserDto> findById(@PathVariable("userId") final String userId) {
-		return ResponseEntity.ok(this.userClientService.findById(userId).getBody());
+	public CompletableFuture<ResponseEntity<UserDto>> findById(@PathVariable("userId") final String userId) {
+		return this.outboundExecutor.submit(() -> ResponseEntity.ok(this.userClientService.findById(userId).getBody()));
 	}
 	
 	@GetMapping("/username/{username}")
-	public ResponseEntity<UserDto> findByUsername(@PathVariable("username") final String username) {
-		return ResponseEntity.ok(this.userClientService.findByUsername(username).getBody());
+	public CompletableFuture<ResponseEntity<UserDto>> findByUsername(@PathVariable("username") final String username) {
+		return this.outboundExecutor.submit(() -> ResponseEntity.ok(this.userClientService.findByUsername(username).getBody()));
 	}
 	
 	@PostMapping
-	public ResponseEntity<UserDto> save(@RequestBody final UserDto userDto) {
-		return ResponseEntity.ok(this.userClientService.save(userDto).getBody());
+	public CompletableFuture<ResponseEntity<UserDto>> save(@RequestBody final UserDto userDto) {
+		return this.outboundExecutor.submit(() -> ResponseEntity.ok(this.userClientService.save(userDto).getBody()));
 	}
 	
 	@PutMapping
-	public ResponseEntity<UserDto> update(@RequestBody final UserDto userDto) {
-		return ResponseEntity.ok(this.userClientService.update(userDto).getBody());
+	public CompletableFuture<ResponseEntity<UserDto>> update(@RequestBody final UserDto userDto) {
+		return this.outboundExecutor.submit(() -> ResponseEntity.ok(this.userClientService.update(userDto).getBody()));
 	}
 	
 	@PutMapping("/{userId}")
-	public ResponseEntity<UserDto> update(@PathVariable("userId") final String userId, @RequestBody final UserDto userDto) {
-		return ResponseEntity.ok(this.userClientService.update(userDto).getBody());
+	public CompletableFuture<ResponseEntity<UserDto>> update(@PathVariable("userId") final String userId, @RequestBody final UserDto userDto) {
+		return this.outboundExecutor.submit(() -> ResponseEntity.ok(this.userClientService.update(userDto).getBody()));
 	}
 	
 	@DeleteMapping("/{userId}")
-	public ResponseEntity<Boolean> deleteById(@PathVariable("userId") final String userId) {
-		return ResponseEntity.ok(this.userClientService.deleteById(userId).getBody());
+	public CompletableFuture<ResponseEntity<Boolean>> deleteById(@PathVariable("userId") final String userId) {
+		return this.outboundExecutor.submit(() -> ResponseEntity.ok(this.userClientService.deleteById(userId).getBody()));
 	}
 	
 	
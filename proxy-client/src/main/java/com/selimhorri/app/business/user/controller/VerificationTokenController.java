@@ -1,5 +1,9 @@
 package com.selimhorri.app.business.user.controller;
 
+import java.util.concurrent.CompletableFuture;
+
+import javax.servlet.http.HttpServletResponse;
+
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
@@ -8,11 +12,14 @@ import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
 import com.selimhorri.app.business.user.model.VerificationTokenDto;
 import com.selimhorri.app.business.user.model.response.VerificationUserTokenServiceCollectionDtoResponse;
 import com.selimhorri.app.business.user.service.VerificationTokenClientService;
+import com.selimhorri.app.config.outbound.OutboundExecutor;
+import com.selimhorri.app.config.passthrough.ResponsePassthrough;
 
 import lombok.RequiredArgsConstructor;
 
@@ -22,35 +29,46 @@ import lombok.RequiredArgsConstructor;
 public class VerificationTokenController {
 	
 	private final VerificationTokenClientService verificationTokenClientService;
+	private final ResponsePassthrough responsePassthrough;
+	private final OutboundExecutor outboundExecutor;
 	
 	@GetMapping
-	public ResponseEntity<VerificationUserTokenServiceCollectionDtoResponse> findAll() {
-		return ResponseEntity.ok(this.verificationTokenClientService.findAll().getBody());
+	public CompletableFuture<ResponseEntity<VerificationUserTokenServiceCollectionDtoResponse>> findAll(
+			@RequestParam(name = "after", required = false) final String after, 
+			@RequestParam(name = "limit", required = false) final Integer limit, 
+			final HttpServletResponse response) {
+		return this.outboundExecutor.submit(() -> {
+			if (this.responsePassthrough.isEnabled("verificationTokens")) {
+				this.responsePassthrough.copy(this.verificationTokenClientService.findAllRaw(after, limit), response);
+				return null;
+			}
+			return ResponseEntity.ok(this.verificationTokenClientService.findAll(after, limit).getBody());
+		});
 	}
 	
 	@GetMapping("/{verificationTokenId}")
-	public ResponseEntity<VerificationTokenDto> findById(@PathVariable("verificationTokenId") final String verificationTokenId) {
-		return ResponseEntity.ok(this.verificationTokenClientService.findById(verificationTokenId).getBody());
+	public CompletableFuture<ResponseEntity<VerificationTokenDto>> findById(@PathVariable("verificationTokenId") final String verificationTokenId) {
+		return this.outboundExecutor.submit(() -> ResponseEntity.ok(this.verificationTokenClientService.findById(verificationTokenId).getBody()));
 	}
 	
 	@PostMapping
-	public ResponseEntity<VerificationTokenDto> save(@RequestBody final VerificationTokenDto verificationTokenDto) {
-		return ResponseEntity.ok(this.verificationTokenClientService.save(verificationTokenDto).getBody());
+	public CompletableFuture<ResponseEntity<VerificationTokenDto>> save(@RequestBody final VerificationTokenDto verificationTokenDto) {
+		return this.outboundExecutor.submit(() -> ResponseEntity.ok(this.verificationTokenClientService.save(verificationTokenDto).getBody()));
 	}
 	
 	@PutMapping
-	public ResponseEntity<VerificationTokenDto> update(@RequestBody final VerificationTokenDto verificationTokenDto) {
-		return ResponseEntity.ok(this.verificationTokenClientService.update(verificationTokenDto).getBody());
+	public CompletableFuture<ResponseEntity<VerificationTokenDto>> update(@RequestBody final VerificationTokenDto verificationTokenDto) {
+		return this.outboundExecutor.submit(() -> ResponseEntity.ok(this.verificationTokenClientService.update(verificationTokenDto).getBody()));
 	}
 	
 	@PutMapping("/{verificationTokenId}")
-	public ResponseEntity<VerificationTokenDto> update(@PathVariable("verificationTokenId") final String verificationTokenId, @RequestBody final VerificationTokenDto verificationTokenDto) {
-		return ResponseEntity.ok(this.verificationTokenClientService.update(verificationTokenDto).getBody());
+	public CompletableFuture<ResponseEntity<VerificationTokenDto>> update(@PathVariable("verificationTokenId") final String verificationTokenId, @RequestBody final VerificationTokenDto verificationTokenDto) {
+		return this.outboundExecutor.submit(() -> ResponseEntity.ok(this.verificationTokenClientService.update(verificationTokenDto).getBody()));
 	}
 	
 	@DeleteMapping("/{verificationTokenId}")
-	public ResponseEntity<Boolean> deleteById(@PathVariable("verificationTokenId") final String verificationTokenId) {
-		return ResponseEntity.ok(this.verificationTokenClientService.deleteById(verificationTokenId).getBody());
+	public CompletableFuture<ResponseEntity<Boolean>> deleteById(@PathVariable("verificationTokenId") final String verificationTokenId) {
+		return this.outboundExecutor.submit(() -> ResponseEntity.ok(this.verificationTokenClientService.deleteById(verificationTokenId).getBody()));
 	}
 	
 	
@@ -0,0 +1,38 @@
+package com.selimhorri.app.config;
+
+import org.springframework.core.task.TaskDecorator;
+import org.springframework.security.core.context.SecurityContext;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+
+/**
+ * Runs a task with the request attributes and the security context of the thread that
+ * submitted it, so that {@link FeignClientInterceptor} still finds the incoming Authorization
+ * header on a worker thread. Both are restored once the task is done, since the pool may just
+ * as well run it on the submitting thread.
+ */
+public class RequestContextTaskDecorator implements TaskDecorator {
+	
+	@Override
+	public Runnable decorate(final Runnable runnable) {
+		final RequestAttributes callerAttributes = RequestContextHolder.getRequestAttributes();
+		final SecurityContext callerSecurityContext = SecurityContextHolder.getContext();
+		return () -> {
+			final RequestAttributes previousAttributes = RequestContextHolder.getRequestAttributes();
+			final SecurityContext previousSecurityContext = SecurityContextHolder.getContext();
+			RequestContextHolder.setRequestAttributes(callerAttributes);
+			SecurityContextHolder.setContext(callerSecurityContext);
+			try {
+				runnable.run();
+			}
+			finally {
+				RequestContextHolder.setRequestAttributes(previousAttributes);
+				SecurityContextHolder.setContext(previousSecurityContext);
+			}
+		};
+	}
+	
+	
+	
+}
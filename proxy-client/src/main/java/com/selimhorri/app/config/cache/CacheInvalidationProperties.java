@@ -0,0 +1,31 @@
+package com.selimhorri.app.config.cache;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.util.StringUtils;
+
+import lombok.Data;
+
+/**
+ * Secret shared by the services that send and receive cache invalidation calls. It travels in
+ * {@link #HEADER}, so that an eviction hook only acts on calls from another service.
+ */
+@Data
+@ConfigurationProperties(prefix = "app.cache-invalidation")
+public class CacheInvalidationProperties {
+	
+	public static final String HEADER = "X-Cache-Invalidation-Token";
+	
+	private String secret;
+	
+	/**
+	 * Compares in constant time, and refuses every token while no secret is configured.
+	 */
+	public boolean isAuthorized(final String token) {
+		return StringUtils.hasText(this.secret) && token != null 
+				&& MessageDigest.isEqual(this.secret.getBytes(StandardCharsets.UTF_8), token.getBytes(StandardCharsets.UTF_8));
+	}
+	
+}
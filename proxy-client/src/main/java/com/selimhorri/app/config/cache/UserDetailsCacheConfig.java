@@ -0,0 +1,37 @@
+package com.selimhorri.app.config.cache;
+
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.security.core.userdetails.UserDetails;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+
+/**
+ * Cache of user details by username, so that an authenticated request does not cost
+ * a round trip to user-service. Entries are dropped when user-service reports a
+ * credential change through {@link com.selimhorri.app.business.auth.controller.CacheController},
+ * and expire after the configured TTL in case such a notification is lost.
+ */
+@Configuration
+@EnableConfigurationProperties({ UserDetailsCacheProperties.class, CacheInvalidationProperties.class })
+public class UserDetailsCacheConfig {
+	
+	@Bean
+	public Cache<String, UserDetails> userDetailsCache(final UserDetailsCacheProperties userDetailsCacheProperties, 
+			final MeterRegistry meterRegistry) {
+		final Cache<String, UserDetails> cache = Caffeine.newBuilder()
+				.maximumSize(userDetailsCacheProperties.getMaximumSize())
+				.expireAfterWrite(userDetailsCacheProperties.getTimeToLive())
+				.recordStats()
+				.build();
+		return CaffeineCacheMetrics.monitor(meterRegistry, cache, "userDetails");
+	}
+	
+	
+	
+}
@@ -0,0 +1,19 @@
+package com.selimhorri.app.config.cache;
+
+import java.time.Duration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import lombok.Data;
+
+/**
+ * Bounds of the cache of user details loaded from user-service.
+ */
+@Data
+@ConfigurationProperties(prefix = "app.user-details-cache")
+public class UserDetailsCacheProperties {
+	
+	private long maximumSize = 10_000;
+	private Duration timeToLive = Duration.ofMinutes(5);
+	
+}
@@ -0,0 +1,34 @@
+package com.selimhorri.app.config.checkout;
+
+import java.util.concurrent.ThreadPoolExecutor;
+
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+import com.selimhorri.app.config.RequestContextTaskDecorator;
+
+@Configuration
+@EnableConfigurationProperties(CheckoutProperties.class)
+public class CheckoutExecutorConfig {
+	
+	public static final String CHECKOUT_TASK_EXECUTOR = "checkoutTaskExecutor";
+	
+	@Bean(name = CHECKOUT_TASK_EXECUTOR)
+	public ThreadPoolTaskExecutor checkoutTaskExecutor(final CheckoutProperties checkoutProperties) {
+		final ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+		executor.setCorePoolSize(checkoutProperties.getCorePoolSize());
+		executor.setMaxPoolSize(checkoutProperties.getMaxPoolSize());
+		executor.setQueueCapacity(checkoutProperties.getQueueCapacity());
+		executor.setThreadNamePrefix("checkout-");
+		// a saturated pool pushes the write back onto the request thread instead of failing it
+		executor.setRejectedExecutionHandler(new ThreadPoolExecutor.CallerRunsPolicy());
+		executor.setTaskDecorator(new RequestContextTaskDecorator());
+		executor.setWaitForTasksToCompleteOnShutdown(true);
+		return executor;
+	}
+	
+	
+	
+}
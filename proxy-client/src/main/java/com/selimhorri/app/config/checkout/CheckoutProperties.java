@@ -0,0 +1,18 @@
+package com.selimhorri.app.config.checkout;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import lombok.Data;
+
+/**
+ * Sizing of the executor issuing the parallel writes of a checkout.
+ */
+@Data
+@ConfigurationProperties(prefix = "app.checkout")
+public class CheckoutProperties {
+	
+	private int corePoolSize = 16;
+	private int maxPoolSize = 64;
+	private int queueCapacity = 256;
+	
+}
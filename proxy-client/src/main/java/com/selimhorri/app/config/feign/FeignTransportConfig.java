@@ -0,0 +1,42 @@
+package com.selimhorri.app.config.feign;
+
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.cloud.client.loadbalancer.LoadBalancerClient;
+import org.springframework.cloud.loadbalancer.support.LoadBalancerClientFactory;
+import org.springframework.cloud.openfeign.loadbalancer.FeignBlockingLoadBalancerClient;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import feign.Client;
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * Replaces Feign's default {@code HttpURLConnection} transport with {@link PooledFeignClient}
+ * behind the load balancer.
+ */
+@Configuration
+@EnableConfigurationProperties(FeignTransportProperties.class)
+public class FeignTransportConfig {
+	
+	/**
+	 * Kept out of autowiring, since Feign looks the transport up by the {@link Client} type
+	 * and must only find the load-balanced one.
+	 */
+	@Bean(autowireCandidate = false)
+	public PooledFeignClient pooledFeignClient(final FeignTransportProperties feignTransportProperties, 
+			final MeterRegistry meterRegistry) {
+		return new PooledFeignClient(feignTransportProperties, meterRegistry);
+	}
+	
+	@Bean
+	public Client feignClient(final FeignTransportProperties feignTransportProperties, 
+			final MeterRegistry meterRegistry, 
+			final LoadBalancerClient loadBalancerClient, 
+			final LoadBalancerClientFactory loadBalancerClientFactory) {
+		return new FeignBlockingLoadBalancerClient(pooledFeignClient(feignTransportProperties, meterRegistry), 
+				loadBalancerClient, loadBalancerClientFactory);
+	}
+	
+	
+	
+}
@@ -0,0 +1,33 @@
+package com.selimhorri.app.config.feign;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import lombok.Data;
+
+/**
+ * Connection pools of the Feign transport. Every downstream service gets its own pool,
+ * sized by {@code maxConnectionsPerService} when listed there and by {@code maxConnections}
+ * otherwise. Connect and read timeouts stay with {@code feign.client.config}.
+ */
+@Data
+@ConfigurationProperties(prefix = "app.feign")
+public class FeignTransportProperties {
+	
+	private int maxConnections = 50;
+	private int maxConnectionsPerRoute = 50;
+	private Map<String, Integer> maxConnectionsPerService = new HashMap<>();
+	private Duration connectionRequestTimeout = Duration.ofMillis(500);
+	private Duration idleTimeout = Duration.ofSeconds(30);
+	private Duration validateAfterInactivity = Duration.ofSeconds(2);
+	
+	public int maxConnectionsOf(final String serviceId) {
+		return this.maxConnectionsPerService
+				.getOrDefault(serviceId.toLowerCase(Locale.ROOT), this.maxConnections);
+	}
+	
+}
@@ -0,0 +1,104 @@
+package com.selimhorri.app.config.feign;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.util.Locale;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.http.client.config.RequestConfig;
+import org.apache.http.impl.client.CloseableHttpClient;
+import org.apache.http.impl.client.DefaultConnectionKeepAliveStrategy;
+import org.apache.http.impl.client.HttpClients;
+import org.apache.http.impl.conn.PoolingHttpClientConnectionManager;
+
+import feign.Client;
+import feign.Request;
+import feign.Response;
+import feign.httpclient.ApacheHttpClient;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.httpcomponents.PoolingHttpClientConnectionManagerMetricsBinder;
+import lombok.Value;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Feign transport keeping one pooled, keep-alive Apache HttpClient per downstream service,
+ * so that a slow service can only exhaust its own connections. The pool is picked by the
+ * name of the Feign target, which survives the load balancer rewriting the request URL.
+ * Each pool is exported as {@code httpcomponents.httpclient.pool.*} tagged
+ * {@code httpclient=feign-<service>}.
+ */
+@Slf4j
+public class PooledFeignClient implements Client, Closeable {
+	
+	static final String DEFAULT_POOL = "default";
+	
+	private final FeignTransportProperties feignTransportProperties;
+	private final MeterRegistry meterRegistry;
+	private final ConcurrentMap<String, ServicePool> servicePools = new ConcurrentHashMap<>();
+	
+	public PooledFeignClient(final FeignTransportProperties feignTransportProperties, final MeterRegistry meterRegistry) {
+		this.feignTransportProperties = feignTransportProperties;
+		this.meterRegistry = meterRegistry;
+	}
+	
+	@Override
+	public Response execute(final Request request, final Request.Options options) throws IOException {
+		return this.servicePools.computeIfAbsent(serviceIdOf(request), this::createServicePool)
+				.getClient()
+				.execute(request, options);
+	}
+	
+	@Override
+	public void close() throws IOException {
+		for (final ServicePool servicePool : this.servicePools.values()) {
+			servicePool.getHttpClient().close();
+		}
+		this.servicePools.clear();
+	}
+	
+	private static String serviceIdOf(final Request request) {
+		if (request.requestTemplate() == null || request.requestTemplate().feignTarget() == null) {
+			return DEFAULT_POOL;
+		}
+		return request.requestTemplate().feignTarget().name().toLowerCase(Locale.ROOT);
+	}
+	
+	private ServicePool createServicePool(final String serviceId) {
+		final int maxConnections = this.feignTransportProperties.maxConnectionsOf(serviceId);
+		final PoolingHttpClientConnectionManager connectionManager = new PoolingHttpClientConnectionManager();
+		connectionManager.setMaxTotal(maxConnections);
+		connectionManager.setDefaultMaxPerRoute(Math.min(maxConnections, this.feignTransportProperties.getMaxConnectionsPerRoute()));
+		connectionManager.setValidateAfterInactivity((int) this.feignTransportProperties.getValidateAfterInactivity().toMillis());
+		
+		final long idleTimeoutMillis = this.feignTransportProperties.getIdleTimeout().toMillis();
+		final CloseableHttpClient httpClient = HttpClients.custom()
+				.setConnectionManager(connectionManager)
+				.setDefaultRequestConfig(RequestConfig.custom()
+						.setConnectionRequestTimeout((int) this.feignTransportProperties.getConnectionRequestTimeout().toMillis())
+						.build())
+				.setKeepAliveStrategy((response, context) -> {
+					final long keepAliveMillis = DefaultConnectionKeepAliveStrategy.INSTANCE.getKeepAliveDuration(response, context);
+					return keepAliveMillis > 0 ? Math.min(keepAliveMillis, idleTimeoutMillis) : idleTimeoutMillis;
+				})
+				.evictExpiredConnections()
+				.evictIdleConnections(idleTimeoutMillis, TimeUnit.MILLISECONDS)
+				.disableCookieManagement()
+				.build();
+		
+		new PoolingHttpClientConnectionManagerMetricsBinder(connectionManager, "feign-" + serviceId)
+				.bindTo(this.meterRegistry);
+		log.info("*** Feign connection pool for {} opened with {} connections *", serviceId, maxConnections);
+		return new ServicePool(httpClient, new ApacheHttpClient(httpClient));
+	}
+	
+	@Value
+	private static class ServicePool {
+		CloseableHttpClient httpClient;
+		ApacheHttpClient client;
+	}
+	
+	
+	
+}
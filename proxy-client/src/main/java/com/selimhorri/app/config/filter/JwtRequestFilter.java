@@ -7,73 +7,155 @@ import javax.servlet.ServletException;
 import javax.servlet.http.HttpServletRequest;
 import javax.servlet.http.HttpServletResponse;
 
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.core.userdetails.User;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.web.authentication.WebAuthenticationDetailsSource;
+import org.springframework.security.web.util.matcher.AntPathRequestMatcher;
+import org.springframework.security.web.util.matcher.OrRequestMatcher;
+import org.springframework.security.web.util.matcher.RequestMatcher;
 import org.springframework.stereotype.Component;
 import org.springframework.web.filter.OncePerRequestFilter;
 
+import com.selimhorri.app.config.jwt.JwtProperties;
+import com.selimhorri.app.jwt.model.JwtClaims;
 import com.selimhorri.app.jwt.service.JwtService;
+import com.selimhorri.app.jwt.service.TokenRevocationService;
 
-import lombok.RequiredArgsConstructor;
+import io.jsonwebtoken.JwtException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
 import lombok.extern.slf4j.Slf4j;
 
+/**
+ * Authenticates the bearer token of each request. Public endpoints are matched against a
+ * route table compiled once at startup, and the successful path does no logging; every
+ * request is instead counted under {@code jwt.requests} by its outcome.
+ */
 @Component
 @Slf4j
-@RequiredArgsConstructor
 public class JwtRequestFilter extends OncePerRequestFilter {
 	
+	private static final String BEARER_PREFIX = "Bearer ";
+	
+	private static final RequestMatcher PUBLIC_ROUTES = new OrRequestMatcher(
+			new AntPathRequestMatcher("/api/authenticate/**"),
+			new AntPathRequestMatcher("/api/users/**", HttpMethod.POST.name()),
+			new AntPathRequestMatcher("/actuator/health/**"));
+	
 	private final UserDetailsService userDetailsService;
 	private final JwtService jwtService;
+	private final TokenRevocationService tokenRevocationService;
+	private final JwtProperties jwtProperties;
+	private final WebAuthenticationDetailsSource authenticationDetailsSource = new WebAuthenticationDetailsSource();
+	private final Counter publicRequests;
+	private final Counter authenticatedRequests;
+	private final Counter rejectedRequests;
+	private final Counter missingTokenRequests;
+	
+	public JwtRequestFilter(final UserDetailsService userDetailsService, final JwtService jwtService, 
+			final TokenRevocationService tokenRevocationService, final JwtProperties jwtProperties, 
+			final MeterRegistry meterRegistry) {
+		this.userDetailsService = userDetailsService;
+		this.jwtService = jwtService;
+		this.tokenRevocationService = tokenRevocationService;
+		this.jwtProperties = jwtProperties;
+		this.publicRequests = outcomeCounter(meterRegistry, "public");
+		this.authenticatedRequests = outcomeCounter(meterRegistry, "authenticated");
+		this.rejectedRequests = outcomeCounter(meterRegistry, "rejected");
+		this.missingTokenRequests = outcomeCounter(meterRegistry, "missing");
+	}
+	
+	private static Counter outcomeCounter(final MeterRegistry meterRegistry, final String outcome) {
+		return Counter.builder("jwt.requests")
+				.description("Requests seen by JwtRequestFilter, by outcome")
+				.tag("outcome", outcome)
+				.register(meterRegistry);
+	}
 	
 	@Override
 	protected void doFilterInternal(final HttpServletRequest request, final HttpServletResponse response, final FilterChain filterChain) 
 			throws ServletException, IOException {
+		this.authenticate(request).increment();
+		filterChain.doFilter(request, response);
+	}
+	
+	private Counter authenticate(final HttpServletRequest request) {
 		
-		log.info("**JwtRequestFilter, once per request, validating and extracting token*\n");
-		
-		// Skip JWT validation for public endpoints
-		final String requestPath = request.getRequestURI();
-		log.info("**DEBUG: Incoming request path: {} {}, headers: {}*\n", request.getMethod(), requestPath, request.getHeaderNames());
-		
-		if (requestPath.contains("/api/authenticate") || 
-		    requestPath.contains("/api/users") && "POST".equals(request.getMethod()) ||
-		    requestPath.contains("/actuator/health")) {
-			log.info("**Skipping JWT validation for public endpoint: {} {}*\n", request.getMethod(), requestPath);
-			filterChain.doFilter(request, response);
-			return;
+		if (PUBLIC_ROUTES.matches(request)) {
+			return this.publicRequests;
 		}
 		
-		final var authorizationHeader = request.getHeader("Authorization");
+		final String authorizationHeader = request.getHeader(HttpHeaders.AUTHORIZATION);
+		if (authorizationHeader == null || !authorizationHeader.startsWith(BEARER_PREFIX)) {
+			return this.missingTokenRequests;
+		}
 		
-		String username = null;
-		String jwt = null;
+		final JwtClaims jwtClaims;
+		try {
+			// signature and expiry are verified once here, the claims are reused below
+			jwtClaims = this.jwtService.parseToken(authorizationHeader.substring(BEARER_PREFIX.length()));
+		} catch (JwtException | IllegalArgumentException e) {
+			log.warn("**Rejected bearer token: {}*\n", e.getMessage());
+			return this.rejectedRequests;
+		}
 		
-		if ( authorizationHeader != null && authorizationHeader.startsWith("Bearer ") ) {
-			jwt = authorizationHeader.substring(7);
-			username = jwtService.extractUsername(jwt);
+		if (jwtClaims.getUsername() == null) {
+			return this.rejectedRequests;
+		}
+		if (SecurityContextHolder.getContext().getAuthentication() != null) {
+			return this.authenticatedRequests;
+		}
+		if (this.tokenRevocationService.isRevoked(jwtClaims)) {
+			log.warn("**Rejected revoked token of username: {}*\n", jwtClaims.getUsername());
+			return this.rejectedRequests;
 		}
 		
-		if (username != null && SecurityContextHolder.getContext().getAuthentication() == null) {
+		final boolean authenticated = this.jwtProperties.isSelfContained() && jwtClaims.isSelfContained() 
+				? this.authenticateFromClaims(jwtClaims, request) 
+				: this.authenticateFromUserDetails(jwtClaims, request);
+		return authenticated ? this.authenticatedRequests : this.rejectedRequests;
+	}
+	
+	/**
+	 * Trusts the authorities and account state signed into the token, user-service is not involved.
+	 */
+	private boolean authenticateFromClaims(final JwtClaims jwtClaims, final HttpServletRequest request) {
+		if (!Boolean.TRUE.equals(jwtClaims.getEnabled())) {
+			log.warn("**Rejected disabled token of username: {}*\n", jwtClaims.getUsername());
+			return false;
+		}
+		final UserDetails userDetails = User.withUsername(jwtClaims.getUsername())
+				.password("")
+				.authorities(jwtClaims.getAuthorities().toArray(String[]::new))
+				.build();
+		this.setAuthentication(userDetails, request);
+		return true;
+	}
+	
+	private boolean authenticateFromUserDetails(final JwtClaims jwtClaims, final HttpServletRequest request) {
+		try {
+			final UserDetails userDetails = this.userDetailsService.loadUserByUsername(jwtClaims.getUsername());
 			
-			try {
-				final UserDetails userDetails = this.userDetailsService.loadUserByUsername(username);
-				
-				if (this.jwtService.validateToken(jwt, userDetails)) {
-					final UsernamePasswordAuthenticationToken usernamePasswordAuthenticationToken = 
-							new UsernamePasswordAuthenticationToken(userDetails, null, userDetails.getAuthorities());
-					usernamePasswordAuthenticationToken.setDetails(new WebAuthenticationDetailsSource().buildDetails(request));
-					SecurityContextHolder.getContext().setAuthentication(usernamePasswordAuthenticationToken);
-				}
-			} catch (Exception e) {
-				log.error("**Error loading user details: {}*\n", e.getMessage());
+			if (this.jwtService.validateToken(jwtClaims, userDetails)) {
+				this.setAuthentication(userDetails, request);
+				return true;
 			}
+		} catch (Exception e) {
+			log.error("**Error loading user details: {}*\n", e.getMessage());
 		}
-		
-		filterChain.doFilter(request, response);
-		log.info("**Jwt request filtered!*\n");
+		return false;
+	}
+	
+	private void setAuthentication(final UserDetails userDetails, final HttpServletRequest request) {
+		final UsernamePasswordAuthenticationToken usernamePasswordAuthenticationToken = 
+				new UsernamePasswordAuthenticationToken(userDetails, null, userDetails.getAuthorities());
+		usernamePasswordAuthenticationToken.setDetails(this.authenticationDetailsSource.buildDetails(request));
+		SecurityContextHolder.getContext().setAuthentication(usernamePasswordAuthenticationToken);
 	}
 	
 	
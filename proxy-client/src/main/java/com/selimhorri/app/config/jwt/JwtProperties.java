@@ -0,0 +1,35 @@
+package com.selimhorri.app.config.jwt;
+
+import java.time.Duration;
+
+import javax.validation.constraints.NotBlank;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.validation.annotation.Validated;
+
+import lombok.Data;
+
+/**
+ * Token issuing mode. A self-contained token carries the caller's authorities and
+ * account state, so it is accepted without asking user-service; it is therefore issued
+ * with a shorter lifetime and checked against revocations instead. The signing secret has no
+ * default, the application does not start without one.
+ */
+@Data
+@Validated
+@ConfigurationProperties(prefix = "app.jwt")
+public class JwtProperties {
+	
+	@NotBlank
+	private String secret;
+	private boolean selfContained = true;
+	private Duration expiration = Duration.ofHours(10);
+	private Duration selfContainedExpiration = Duration.ofHours(1);
+	private long revocationExpectedInsertions = 100_000;
+	private double revocationFalsePositiveRate = 0.01;
+	
+	public Duration getTokenLifetime() {
+		return this.selfContained ? this.selfContainedExpiration : this.expiration;
+	}
+	
+}
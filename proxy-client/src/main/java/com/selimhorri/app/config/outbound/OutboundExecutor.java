@@ -0,0 +1,42 @@
+package com.selimhorri.app.config.outbound;
+
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.stereotype.Component;
+
+/**
+ * Runs the downstream calls of a controller on the outbound executor. A controller returns
+ * the future, so that Spring MVC starts async processing and gives the Tomcat worker thread
+ * back until the call completes. Failures reach the exception handlers as thrown by the
+ * call, without the {@link CompletionException} wrapper.
+ */
+@Component
+public class OutboundExecutor {
+	
+	private final Executor executor;
+	
+	public OutboundExecutor(@Qualifier(OutboundExecutorConfig.OUTBOUND_TASK_EXECUTOR) final Executor executor) {
+		this.executor = executor;
+	}
+	
+	public <T> CompletableFuture<T> submit(final Callable<T> call) {
+		return CompletableFuture.supplyAsync(() -> {
+			try {
+				return call.call();
+			}
+			catch (RuntimeException e) {
+				throw e;
+			}
+			catch (Exception e) {
+				throw new CompletionException(e);
+			}
+		}, this.executor);
+	}
+	
+	
+	
+}
@@ -0,0 +1,39 @@
+package com.selimhorri.app.config.outbound;
+
+import java.util.concurrent.ThreadPoolExecutor;
+
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+import com.selimhorri.app.config.RequestContextTaskDecorator;
+
+@Configuration
+@EnableConfigurationProperties(OutboundProperties.class)
+public class OutboundExecutorConfig {
+	
+	public static final String OUTBOUND_TASK_EXECUTOR = "outboundTaskExecutor";
+	
+	/**
+	 * Fixed size, since downstream calls wait rather than compute: the threads are all started
+	 * before requests queue up, and stop again after a minute idle.
+	 */
+	@Bean(name = OUTBOUND_TASK_EXECUTOR)
+	public ThreadPoolTaskExecutor outboundTaskExecutor(final OutboundProperties outboundProperties) {
+		final ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+		executor.setCorePoolSize(outboundProperties.getPoolSize());
+		executor.setMaxPoolSize(outboundProperties.getPoolSize());
+		executor.setQueueCapacity(outboundProperties.getQueueCapacity());
+		executor.setAllowCoreThreadTimeOut(true);
+		executor.setThreadNamePrefix("outbound-");
+		// a saturated pool pushes the call back onto the Tomcat thread instead of failing it
+		executor.setRejectedExecutionHandler(new ThreadPoolExecutor.CallerRunsPolicy());
+		executor.setTaskDecorator(new RequestContextTaskDecorator());
+		executor.setWaitForTasksToCompleteOnShutdown(true);
+		return executor;
+	}
+	
+	
+	
+}
@@ -0,0 +1,18 @@
+package com.selimhorri.app.config.outbound;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import lombok.Data;
+
+/**
+ * Sizing of the executor waiting on downstream services for the controllers, apart from
+ * the Tomcat worker threads.
+ */
+@Data
+@ConfigurationProperties(prefix = "app.outbound")
+public class OutboundProperties {
+	
+	private int poolSize = 100;
+	private int queueCapacity = 1000;
+	
+}
@@ -0,0 +1,18 @@
+package com.selimhorri.app.config.passthrough;
+
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+@EnableConfigurationProperties(PassthroughProperties.class)
+public class PassthroughConfig {
+	
+	@Bean
+	public ResponsePassthrough responsePassthrough(final PassthroughProperties passthroughProperties) {
+		return new ResponsePassthrough(passthroughProperties);
+	}
+	
+	
+	
+}
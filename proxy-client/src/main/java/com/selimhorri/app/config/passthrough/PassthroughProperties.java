@@ -0,0 +1,20 @@
+package com.selimhorri.app.config.passthrough;
+
+import java.util.HashSet;
+import java.util.Set;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import lombok.Data;
+
+/**
+ * Endpoints answered with the downstream response as it came. Each is named after its
+ * collection path, such as {@code orders} or {@code verificationTokens}.
+ */
+@Data
+@ConfigurationProperties(prefix = "app.passthrough")
+public class PassthroughProperties {
+	
+	private Set<String> endpoints = new HashSet<>();
+	
+}
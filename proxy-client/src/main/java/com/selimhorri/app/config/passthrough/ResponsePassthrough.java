@@ -0,0 +1,63 @@
+package com.selimhorri.app.config.passthrough;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Locale;
+import java.util.Set;
+
+import javax.servlet.http.HttpServletResponse;
+
+import org.springframework.http.HttpHeaders;
+
+import feign.Response;
+
+/**
+ * Copies an undecoded Feign response to the servlet response: status, entity headers and
+ * body bytes, without building DTOs or writing them back as JSON. Downstream errors pass
+ * through as well, with their own status and body. Hop-by-hop headers such as
+ * {@code Transfer-Encoding} are left to the servlet container.
+ */
+public class ResponsePassthrough {
+	
+	private static final Set<String> FORWARDED_HEADERS = Set.of(
+			HttpHeaders.CONTENT_TYPE.toLowerCase(Locale.ROOT),
+			HttpHeaders.CONTENT_LENGTH.toLowerCase(Locale.ROOT),
+			HttpHeaders.CONTENT_ENCODING.toLowerCase(Locale.ROOT),
+			HttpHeaders.CONTENT_LANGUAGE.toLowerCase(Locale.ROOT),
+			HttpHeaders.CACHE_CONTROL.toLowerCase(Locale.ROOT),
+			HttpHeaders.ETAG.toLowerCase(Locale.ROOT),
+			HttpHeaders.LAST_MODIFIED.toLowerCase(Locale.ROOT));
+	
+	private final PassthroughProperties passthroughProperties;
+	
+	public ResponsePassthrough(final PassthroughProperties passthroughProperties) {
+		this.passthroughProperties = passthroughProperties;
+	}
+	
+	public boolean isEnabled(final String endpoint) {
+		return this.passthroughProperties.getEndpoints().contains(endpoint);
+	}
+	
+	/**
+	 * Streams the response to the caller and closes it, which hands its connection back
+	 * to the pool.
+	 */
+	public void copy(final Response response, final HttpServletResponse servletResponse) throws IOException {
+		try (response) {
+			servletResponse.setStatus(response.status());
+			response.headers().forEach((name, values) -> {
+				if (FORWARDED_HEADERS.contains(name.toLowerCase(Locale.ROOT))) {
+					values.forEach(value -> servletResponse.addHeader(name, value));
+				}
+			});
+			if (response.body() != null) {
+				try (final InputStream inputStream = response.body().asInputStream()) {
+					inputStream.transferTo(servletResponse.getOutputStream());
+				}
+			}
+		}
+	}
+	
+	
+	
+}
@@ -0,0 +1,102 @@
+package com.selimhorri.app.jwt.client;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+import javax.annotation.PreDestroy;
+
+import org.springframework.boot.web.client.RestTemplateBuilder;
+import org.springframework.cloud.client.ServiceInstance;
+import org.springframework.cloud.client.discovery.DiscoveryClient;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+import org.springframework.web.client.RestClientException;
+import org.springframework.web.client.RestTemplate;
+
+import com.selimhorri.app.config.cache.CacheInvalidationProperties;
+import com.selimhorri.app.jwt.model.JwtClaims;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Tells every proxy-client instance and the api-gateway about a logged out token, since each
+ * of them keeps its own revocations. Delivery is best effort: an instance that misses the call
+ * keeps accepting the token until it expires.
+ */
+@Component
+@Slf4j
+public class TokenRevocationPublisher {
+	
+	/**
+	 * Subscribing services by the path their revocation hooks live under. The api-gateway only
+	 * serves its hook as an actuator endpoint, on the management port it registers.
+	 */
+	private static final Map<String, String> SUBSCRIBERS = Map.of(
+			"PROXY-CLIENT", "/api/caches", 
+			"API-GATEWAY", "/actuator/revocations");
+	private static final String MANAGEMENT_PORT = "management.port";
+	
+	private final DiscoveryClient discoveryClient;
+	private final RestTemplate restTemplate;
+	private final ThreadPoolExecutor executor;
+	
+	public TokenRevocationPublisher(final DiscoveryClient discoveryClient, 
+			final RestTemplateBuilder restTemplateBuilder, 
+			final CacheInvalidationProperties cacheInvalidationProperties) {
+		this.discoveryClient = discoveryClient;
+		// instances are addressed directly, so this template is deliberately not @LoadBalanced
+		this.restTemplate = restTemplateBuilder
+				.setConnectTimeout(Duration.ofMillis(500))
+				.setReadTimeout(Duration.ofSeconds(1))
+				.defaultHeader(CacheInvalidationProperties.HEADER, String.valueOf(cacheInvalidationProperties.getSecret()))
+				.build();
+		final CustomizableThreadFactory threadFactory = new CustomizableThreadFactory("token-revocation-");
+		threadFactory.setDaemon(true);
+		this.executor = new ThreadPoolExecutor(1, 1, 0L, TimeUnit.MILLISECONDS, 
+				new ArrayBlockingQueue<>(1_000), threadFactory, new ThreadPoolExecutor.DiscardOldestPolicy());
+	}
+	
+	public void publish(final JwtClaims jwtClaims) {
+		if (jwtClaims.getTokenId() == null || jwtClaims.getExpiration() == null) {
+			// issued before tokens carried an id, only all of them can be voided
+			this.executor.execute(() -> this.broadcast("/credentials/{username}", jwtClaims.getUsername()));
+		}
+		else {
+			this.executor.execute(() -> this.broadcast("/tokens/{tokenId}?expiration={expiration}", 
+					jwtClaims.getTokenId(), jwtClaims.getExpiration().toInstant().getEpochSecond()));
+		}
+	}
+	
+	private void broadcast(final String path, final Object... uriVariables) {
+		SUBSCRIBERS.forEach((serviceId, basePath) -> this.discoveryClient.getInstances(serviceId)
+				.forEach(instance -> this.revoke(instance, basePath + path, uriVariables)));
+	}
+	
+	private void revoke(final ServiceInstance instance, final String path, final Object... uriVariables) {
+		try {
+			this.restTemplate.delete(uriOf(instance, path), uriVariables);
+		}
+		catch (RestClientException e) {
+			log.warn("Could not revoke token on {}: {}", instance.getUri(), e.getMessage());
+		}
+	}
+	
+	private static String uriOf(final ServiceInstance instance, final String path) {
+		final String managementPort = instance.getMetadata().get(MANAGEMENT_PORT);
+		if (path.startsWith("/actuator/") && managementPort != null) {
+			return instance.getScheme() + "://" + instance.getHost() + ":" + managementPort + path;
+		}
+		return instance.getUri() + path;
+	}
+	
+	@PreDestroy
+	public void shutdown() {
+		this.executor.shutdown();
+	}
+	
+	
+	
+}
@@ -0,0 +1,34 @@
+package com.selimhorri.app.jwt.model;
+
+import java.io.Serializable;
+import java.util.Date;
+import java.util.List;
+
+import lombok.Builder;
+import lombok.Value;
+
+/**
+ * Claims of a token whose signature and expiry have already been verified.
+ * Authorities and the enabled flag are only present on self-contained tokens.
+ */
+@Value
+@Builder
+public class JwtClaims implements Serializable {
+	
+	private static final long serialVersionUID = 1L;
+	String tokenId;
+	String username;
+	Date issuedAt;
+	Date expiration;
+	List<String> authorities;
+	Boolean enabled;
+	
+	public boolean isExpired() {
+		return this.expiration != null && this.expiration.before(new Date());
+	}
+	
+	public boolean isSelfContained() {
+		return this.enabled != null && this.authorities != null && !this.authorities.isEmpty();
+	}
+	
+}
@@ -0,0 +1,14 @@
+package com.selimhorri.app.jwt.service;
+
+import java.time.Instant;
+
+import com.selimhorri.app.jwt.model.JwtClaims;
+
+public interface TokenRevocationService {
+	
+	void revokeIssuedBefore(final String username);
+	void revoke(final JwtClaims jwtClaims);
+	void revoke(final String tokenId, final Instant expiration);
+	boolean isRevoked(final JwtClaims jwtClaims);
+	
+}
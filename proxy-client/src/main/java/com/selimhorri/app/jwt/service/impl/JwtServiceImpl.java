@@ -6,6 +6,7 @@ import java.util.function.Function;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.stereotype.Service;
 
+import com.selimhorri.app.jwt.model.JwtClaims;
 import com.selimhorri.app.jwt.service.JwtService;
 import com.selimhorri.app.jwt.util.JwtUtil;
 
@@ -50,6 +51,18 @@ public class JwtServiceImpl implements JwtService {
 		return this.jwtUtil.validateToken(token, userDetails);
 	}
 	
+	@Override
+	public JwtClaims parseToken(final String token) {
+		log.debug("**JwtClaims, jwt service parse and verify given token!*");
+		return this.jwtUtil.parseToken(token);
+	}
+	
+	@Override
+	public Boolean validateToken(final JwtClaims jwtClaims, final UserDetails userDetails) {
+		log.debug("**Boolean, jwt service validate parsed claims against given userDetails!*");
+		return this.jwtUtil.validateToken(jwtClaims, userDetails);
+	}
+	
 	
 	
 }
@@ -0,0 +1,114 @@
+package com.selimhorri.app.jwt.service.impl;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+
+import org.springframework.stereotype.Service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import com.selimhorri.app.config.jwt.JwtProperties;
+import com.selimhorri.app.jwt.model.JwtClaims;
+import com.selimhorri.app.jwt.service.TokenRevocationService;
+import com.selimhorri.app.jwt.util.ExpiringBloomFilter;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Revocations are kept in two exact sets: per username, the instant before which every issued
+ * token is void, and per token id, a single logged out token until it expires. Both are fronted
+ * by a Bloom filter, so the common case of a token that was never revoked is answered with a few
+ * bit probes. An entry is only needed until the last token it voids has expired on its own,
+ * so nothing is kept longer than one token lifetime.
+ */
+@Service
+@Slf4j
+public class TokenRevocationServiceImpl implements TokenRevocationService {
+	
+	private static final String USERNAME_KEY_PREFIX = "u:";
+	private static final String TOKEN_ID_KEY_PREFIX = "t:";
+	
+	private final Cache<String, Instant> revokedBefore;
+	private final Cache<String, Instant> revokedTokens;
+	private final ExpiringBloomFilter bloomFilter;
+	
+	public TokenRevocationServiceImpl(final JwtProperties jwtProperties) {
+		this.revokedBefore = Caffeine.newBuilder()
+				.expireAfterWrite(jwtProperties.getTokenLifetime())
+				.build();
+		this.revokedTokens = Caffeine.newBuilder()
+				.expireAfter(new UntilTokenExpiry())
+				.build();
+		this.bloomFilter = new ExpiringBloomFilter(jwtProperties.getRevocationExpectedInsertions(), 
+				jwtProperties.getRevocationFalsePositiveRate(), jwtProperties.getTokenLifetime());
+	}
+	
+	@Override
+	public void revokeIssuedBefore(final String username) {
+		log.info("** Void, jwt service; revoke tokens of username: {}*\n", username);
+		// "iat" has a precision of seconds, a token issued later within the same second is kept
+		this.revokedBefore.put(username, Instant.now().truncatedTo(ChronoUnit.SECONDS));
+		this.bloomFilter.put(USERNAME_KEY_PREFIX + username);
+	}
+	
+	@Override
+	public void revoke(final JwtClaims jwtClaims) {
+		log.info("** Void, jwt service; revoke token of username: {}*\n", jwtClaims.getUsername());
+		if (jwtClaims.getTokenId() == null || jwtClaims.getExpiration() == null) {
+			// issued before tokens carried an id, only all of them can be voided
+			this.revokeIssuedBefore(jwtClaims.getUsername());
+			return;
+		}
+		this.revoke(jwtClaims.getTokenId(), jwtClaims.getExpiration().toInstant());
+	}
+	
+	@Override
+	public void revoke(final String tokenId, final Instant expiration) {
+		this.revokedTokens.put(tokenId, expiration);
+		this.bloomFilter.put(TOKEN_ID_KEY_PREFIX + tokenId);
+	}
+	
+	@Override
+	public boolean isRevoked(final JwtClaims jwtClaims) {
+		final boolean maybeUsername = this.bloomFilter.mightContain(USERNAME_KEY_PREFIX + jwtClaims.getUsername());
+		final boolean maybeTokenId = jwtClaims.getTokenId() != null 
+				&& this.bloomFilter.mightContain(TOKEN_ID_KEY_PREFIX + jwtClaims.getTokenId());
+		if (!maybeUsername && !maybeTokenId) {
+			return false;
+		}
+		return (maybeUsername && this.isRevokedByUsername(jwtClaims)) 
+				|| (maybeTokenId && this.revokedTokens.getIfPresent(jwtClaims.getTokenId()) != null);
+	}
+	
+	private boolean isRevokedByUsername(final JwtClaims jwtClaims) {
+		final Instant instant = this.revokedBefore.getIfPresent(jwtClaims.getUsername());
+		return instant != null 
+				&& (jwtClaims.getIssuedAt() == null || jwtClaims.getIssuedAt().toInstant().isBefore(instant));
+	}
+	
+	private static final class UntilTokenExpiry implements Expiry<String, Instant> {
+		
+		@Override
+		public long expireAfterCreate(final String tokenId, final Instant expiration, final long currentTime) {
+			return Math.max(0L, Duration.between(Instant.now(), expiration).toNanos());
+		}
+		
+		@Override
+		public long expireAfterUpdate(final String tokenId, final Instant expiration, final long currentTime, 
+				final long currentDuration) {
+			return this.expireAfterCreate(tokenId, expiration, currentTime);
+		}
+		
+		@Override
+		public long expireAfterRead(final String tokenId, final Instant expiration, final long currentTime, 
+				final long currentDuration) {
+			return currentDuration;
+		}
+		
+	}
+	
+	
+	
+}
@@ -0,0 +1,119 @@
+package com.selimhorri.app.jwt.util;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.function.LongSupplier;
+
+/**
+ * Thread-safe Bloom filter whose keys are forgotten after a retention period. Bits cannot be
+ * cleared one by one, so two generations are kept: new keys go to the current one, which is
+ * retired to the previous slot once per retention period and dropped on the next turn. A key
+ * is therefore reported for at least the retention period and at most twice as long.
+ * <p>
+ * {@link #mightContain(String)} never misses a retained key; it may report a key that was
+ * never put, at about the false positive rate it was sized for.
+ */
+public class ExpiringBloomFilter {
+	
+	private static final double LN2 = Math.log(2);
+	
+	private final int numBits;
+	private final int numHashes;
+	private final long retentionNanos;
+	private final LongSupplier nanoTime;
+	
+	private volatile AtomicLongArray current;
+	private volatile AtomicLongArray previous;
+	private volatile long rotatedAt;
+	
+	public ExpiringBloomFilter(final long expectedInsertions, final double falsePositiveRate, final Duration retention) {
+		this(expectedInsertions, falsePositiveRate, retention, System::nanoTime);
+	}
+	
+	ExpiringBloomFilter(final long expectedInsertions, final double falsePositiveRate, final Duration retention,
+			final LongSupplier nanoTime) {
+		final long bits = (long) Math.ceil(-expectedInsertions * Math.log(falsePositiveRate) / (LN2 * LN2));
+		this.numBits = (int) Math.min(Math.max(bits, Long.SIZE), (long) Integer.MAX_VALUE - Long.SIZE);
+		this.numHashes = (int) Math.max(1, Math.round((double) this.numBits / expectedInsertions * LN2));
+		this.retentionNanos = retention.toNanos();
+		this.nanoTime = nanoTime;
+		this.current = this.newGeneration();
+		this.previous = this.newGeneration();
+		this.rotatedAt = nanoTime.getAsLong();
+	}
+	
+	public void put(final String key) {
+		this.rotateIfDue();
+		final AtomicLongArray generation = this.current;
+		final long hash = hash(key);
+		for (int i = 0; i < this.numHashes; i++) {
+			final int bit = this.bitOf(hash, i);
+			final long mask = 1L << bit;
+			final int word = bit >>> 6;
+			long value;
+			while (((value = generation.get(word)) & mask) == 0 && !generation.compareAndSet(word, value, value | mask)) {
+				// lost the race against another writer of the same word, retry
+			}
+		}
+	}
+	
+	public boolean mightContain(final String key) {
+		this.rotateIfDue();
+		final long hash = hash(key);
+		return this.contains(this.current, hash) || this.contains(this.previous, hash);
+	}
+	
+	private boolean contains(final AtomicLongArray generation, final long hash) {
+		for (int i = 0; i < this.numHashes; i++) {
+			final int bit = this.bitOf(hash, i);
+			if ((generation.get(bit >>> 6) & (1L << bit)) == 0) {
+				return false;
+			}
+		}
+		return true;
+	}
+	
+	private void rotateIfDue() {
+		if (this.nanoTime.getAsLong() - this.rotatedAt < this.retentionNanos) {
+			return;
+		}
+		synchronized (this) {
+			final long now = this.nanoTime.getAsLong();
+			if (now - this.rotatedAt >= this.retentionNanos) {
+				this.previous = this.current;
+				this.current = this.newGeneration();
+				this.rotatedAt = now;
+			}
+		}
+	}
+	
+	private AtomicLongArray newGeneration() {
+		return new AtomicLongArray((this.numBits + Long.SIZE - 1) / Long.SIZE);
+	}
+	
+	/**
+	 * Double hashing: the i-th probe is h1 + i * h2, both halves taken from one 64-bit hash.
+	 */
+	private int bitOf(final long hash, final int i) {
+		final int combined = (int) hash + i * (int) (hash >>> 32);
+		return (combined & Integer.MAX_VALUE) % this.numBits;
+	}
+	
+	private static long hash(final String key) {
+		// FNV-1a over the chars, finished with the murmur3 mixer to spread the bits
+		long hash = 0xcbf29ce484222325L;
+		for (int i = 0; i < key.length(); i++) {
+			hash ^= key.charAt(i);
+			hash *= 0x100000001b3L;
+		}
+		hash ^= hash >>> 33;
+		hash *= 0xff51afd7ed558ccdL;
+		hash ^= hash >>> 33;
+		hash *= 0xc4ceb9fe1a85ec53L;
+		hash ^= hash >>> 33;
+		return hash;
+	}
+	
+	
+	
+}
@@ -1,23 +1,35 @@
 package com.selimhorri.app.jwt.util.impl;
 
+import java.util.Collection;
 import java.util.Date;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.UUID;
 import java.util.function.Function;
+import java.util.stream.Collectors;
 
+import org.springframework.security.core.GrantedAuthority;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.stereotype.Component;
 
+import com.selimhorri.app.config.jwt.JwtProperties;
+import com.selimhorri.app.jwt.model.JwtClaims;
 import com.selimhorri.app.jwt.util.JwtUtil;
 
 import io.jsonwebtoken.Claims;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.SignatureAlgorithm;
+import lombok.RequiredArgsConstructor;
 
 @Component
+@RequiredArgsConstructor
 public class JwtUtilImpl implements JwtUtil {
 	
-	private static final String SECRET_KEY = "secret";
+	private static final String AUTHORITIES_CLAIM = "authorities";
+	private static final String ENABLED_CLAIM = "enabled";
+	
+	private final JwtProperties jwtProperties;
 	
 	@Override
 	public String extractUsername(final String token) {
@@ -36,37 +48,78 @@ public class JwtUtilImpl implements JwtUtil {
 	}
 	
 	private Claims extractAllClaims(final String token) {
-		return Jwts.parser().setSigningKey(SECRET_KEY).parseClaimsJws(token).getBody();
-	}
-	
-	private Boolean isTokenExpired(final String token) {
-		return this.extractExpiration(token).before(new Date());
+		return Jwts.parser().setSigningKey(this.jwtProperties.getSecret()).parseClaimsJws(token).getBody();
 	}
 	
 	@Override
 	public String generateToken(final UserDetails userDetails) {
 		final Map<String, Object> claims = new HashMap<>();
+		if (this.jwtProperties.isSelfContained()) {
+			claims.put(AUTHORITIES_CLAIM, userDetails.getAuthorities().stream()
+					.map(GrantedAuthority::getAuthority)
+					.collect(Collectors.toUnmodifiableList()));
+			claims.put(ENABLED_CLAIM, userDetails.isEnabled() 
+					&& userDetails.isAccountNonExpired() 
+					&& userDetails.isAccountNonLocked() 
+					&& userDetails.isCredentialsNonExpired());
+		}
 		return this.createToken(claims, userDetails.getUsername());
 	}
 	
 	private String createToken(final Map<String, Object> claims, final String subject) {
+		final long now = System.currentTimeMillis();
 		return Jwts.builder()
 					.setClaims(claims)
+					.setId(UUID.randomUUID().toString())
 					.setSubject(subject)
-					.setIssuedAt(new Date(System.currentTimeMillis()))
-					.setExpiration(new Date(System.currentTimeMillis() + 1000 * 60 * 60 * 10))
-					.signWith(SignatureAlgorithm.HS256, SECRET_KEY)
+					.setIssuedAt(new Date(now))
+					.setExpiration(new Date(now + this.jwtProperties.getTokenLifetime().toMillis()))
+					.signWith(SignatureAlgorithm.HS256, this.jwtProperties.getSecret())
 		.compact();
 	}
 	
 	@Override
 	public Boolean validateToken(final String token, final UserDetails userDetails) {
-		final String username = this.extractUsername(token);
+		return this.validateToken(this.parseToken(token), userDetails);
+	}
+	
+	/**
+	 * Verifies the signature and expiry of the token and reads its claims, all in a single parse.
+	 * 
+	 * @throws io.jsonwebtoken.JwtException when the token is malformed, forged or expired
+	 */
+	@Override
+	public JwtClaims parseToken(final String token) {
+		final Claims claims = this.extractAllClaims(token);
+		return JwtClaims.builder()
+				.tokenId(claims.getId())
+				.username(claims.getSubject())
+				.issuedAt(claims.getIssuedAt())
+				.expiration(claims.getExpiration())
+				.authorities(extractAuthorities(claims))
+				.enabled(claims.get(ENABLED_CLAIM, Boolean.class))
+				.build();
+	}
+	
+	@Override
+	public Boolean validateToken(final JwtClaims jwtClaims, final UserDetails userDetails) {
 		return (
-			username.equals(userDetails.getUsername()) && !isTokenExpired(token)
+			jwtClaims.getUsername() != null 
+				&& jwtClaims.getUsername().equals(userDetails.getUsername()) 
+				&& !jwtClaims.isExpired()
 		);
 	}
 	
+	private static List<String> extractAuthorities(final Claims claims) {
+		final Object authorities = claims.get(AUTHORITIES_CLAIM);
+		if (!(authorities instanceof Collection)) {
+			return List.of();
+		}
+		return ((Collection<?>) authorities).stream()
+				.map(String::valueOf)
+				.collect(Collectors.toUnmodifiableList());
+	}
+	
 	
 	
 }
@@ -0,0 +1,242 @@
+package com.selimhorri.app.benchmark;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.coyote.AbstractProtocol;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.springframework.boot.autoconfigure.http.HttpMessageConverters;
+import org.springframework.boot.logging.LogLevel;
+import org.springframework.boot.logging.LoggingSystem;
+import org.springframework.boot.web.embedded.tomcat.TomcatServletWebServerFactory;
+import org.springframework.boot.web.server.WebServer;
+import org.springframework.cloud.openfeign.support.ResponseEntityDecoder;
+import org.springframework.cloud.openfeign.support.SpringDecoder;
+import org.springframework.cloud.openfeign.support.SpringMvcContract;
+import org.springframework.context.annotation.AnnotationConfigUtils;
+import org.springframework.http.ResponseEntity;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.context.support.GenericWebApplicationContext;
+import org.springframework.web.servlet.DispatcherServlet;
+import org.springframework.web.servlet.config.annotation.EnableWebMvc;
+
+import com.selimhorri.app.business.product.controller.ProductController;
+import com.selimhorri.app.business.product.model.ProductDto;
+import com.selimhorri.app.business.product.service.ProductClientService;
+import com.selimhorri.app.config.RequestContextTaskDecorator;
+import com.selimhorri.app.config.feign.FeignTransportProperties;
+import com.selimhorri.app.config.feign.PooledFeignClient;
+import com.selimhorri.app.config.outbound.OutboundExecutor;
+import com.selimhorri.app.config.passthrough.PassthroughProperties;
+import com.selimhorri.app.config.passthrough.ResponsePassthrough;
+import com.sun.net.httpserver.HttpServer;
+
+import feign.Feign;
+import feign.Request;
+import feign.Target.HardCodedTarget;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+/**
+ * Load test of {@code GET /api/products/{productId}} served by Tomcat with a small worker pool,
+ * standing in for one pod, while product-service takes {@value #DOWNSTREAM_LATENCY_MILLIS} ms
+ * to answer. {@code blocking} is the controller as it was, holding a Tomcat thread for the
+ * whole Feign call; {@code async} is {@link ProductController} returning a future from the
+ * {@link OutboundExecutor}. Requests completed per second, divided by the downstream latency,
+ * give the number of requests the pod holds in flight.
+ *
+ * Run with:
+ * <pre>
+ * mvn -pl proxy-client -am test-compile
+ * mvn -pl proxy-client dependency:build-classpath -Dmdep.outputFile=target/test-classpath.txt
+ * java -cp proxy-client/target/test-classes:proxy-client/target/classes:$(cat proxy-client/target/test-classpath.txt) \
+ *     com.selimhorri.app.benchmark.AsyncServletBenchmark
+ * </pre>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 3)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+@Threads(128)
+public class AsyncServletBenchmark {
+	
+	private static final long DOWNSTREAM_LATENCY_MILLIS = 500;
+	private static final int TOMCAT_MAX_THREADS = 16;
+	private static final int OUTBOUND_POOL_SIZE = 128;
+	private static final String PRODUCT_JSON = "{\"productId\":1,\"productTitle\":\"asus\",\"imageUrl\":\"xxx\","
+			+ "\"sku\":\"dfqejklejrkn\",\"priceUnit\":1200.0,\"quantity\":50,"
+			+ "\"category\":{\"categoryId\":1,\"categoryTitle\":\"Computer\",\"imageUrl\":null}}";
+	
+	@Param({ "blocking", "async" })
+	private String controller;
+	
+	private HttpServer downstream;
+	private ExecutorService downstreamExecutor;
+	private PooledFeignClient pooledFeignClient;
+	private ThreadPoolTaskExecutor outboundTaskExecutor;
+	private WebServer webServer;
+	private HttpClient httpClient;
+	private HttpRequest request;
+	
+	@Setup(Level.Trial)
+	public void setUp() throws IOException {
+		LoggingSystem.get(AsyncServletBenchmark.class.getClassLoader()).setLogLevel(LoggingSystem.ROOT_LOGGER_NAME, LogLevel.WARN);
+		System.setProperty("sun.net.httpserver.nodelay", "true");
+		this.downstreamExecutor = Executors.newFixedThreadPool(256);
+		this.downstream = HttpServer.create(new InetSocketAddress("localhost", 0), 1024);
+		this.downstream.createContext("/product-service/api/products", exchange -> {
+			try {
+				Thread.sleep(DOWNSTREAM_LATENCY_MILLIS);
+			}
+			catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+			}
+			final byte[] body = PRODUCT_JSON.getBytes(StandardCharsets.UTF_8);
+			exchange.getResponseHeaders().add("Content-Type", "application/json");
+			exchange.sendResponseHeaders(200, body.length);
+			try (OutputStream outputStream = exchange.getResponseBody()) {
+				outputStream.write(body);
+			}
+		});
+		this.downstream.setExecutor(this.downstreamExecutor);
+		this.downstream.start();
+		
+		final FeignTransportProperties feignTransportProperties = new FeignTransportProperties();
+		feignTransportProperties.setMaxConnections(256);
+		feignTransportProperties.setMaxConnectionsPerRoute(256);
+		feignTransportProperties.setMaxConnectionsPerService(Map.of());
+		this.pooledFeignClient = new PooledFeignClient(feignTransportProperties, new SimpleMeterRegistry());
+		final HttpMessageConverters messageConverters = new HttpMessageConverters();
+		final ProductClientService productClientService = Feign.builder()
+				.client(this.pooledFeignClient)
+				.contract(new SpringMvcContract())
+				.decoder(new ResponseEntityDecoder(new SpringDecoder(() -> messageConverters)))
+				.options(new Request.Options(1, TimeUnit.SECONDS, 5, TimeUnit.SECONDS, true))
+				.target(new HardCodedTarget<>(ProductClientService.class, "PRODUCT-SERVICE",
+						"http://localhost:" + this.downstream.getAddress().getPort() + "/product-service/api/products"));
+		
+		final GenericWebApplicationContext context = new GenericWebApplicationContext();
+		AnnotationConfigUtils.registerAnnotationConfigProcessors(context);
+		context.registerBean(WebMvcConfig.class);
+		if ("async".equals(this.controller)) {
+			this.outboundTaskExecutor = new ThreadPoolTaskExecutor();
+			this.outboundTaskExecutor.setCorePoolSize(OUTBOUND_POOL_SIZE);
+			this.outboundTaskExecutor.setMaxPoolSize(OUTBOUND_POOL_SIZE);
+			this.outboundTaskExecutor.setTaskDecorator(new RequestContextTaskDecorator());
+			this.outboundTaskExecutor.initialize();
+			context.registerBean(ProductController.class, () -> new ProductController(productClientService,
+					new ResponsePassthrough(new PassthroughProperties()), new OutboundExecutor(this.outboundTaskExecutor)));
+		}
+		else {
+			context.registerBean(BlockingProductController.class, () -> new BlockingProductController(productClientService));
+		}
+		
+		final TomcatServletWebServerFactory webServerFactory = new TomcatServletWebServerFactory(0);
+		webServerFactory.addConnectorCustomizers(connector -> {
+			final AbstractProtocol<?> protocol = (AbstractProtocol<?>) connector.getProtocolHandler();
+			protocol.setMaxThreads(TOMCAT_MAX_THREADS);
+			protocol.setMinSpareThreads(TOMCAT_MAX_THREADS);
+		});
+		this.webServer = webServerFactory.getWebServer(servletContext -> {
+			final var dispatcherServlet = servletContext.addServlet("dispatcherServlet", new DispatcherServlet(context));
+			dispatcherServlet.setAsyncSupported(true);
+			dispatcherServlet.setLoadOnStartup(1);
+			dispatcherServlet.addMapping("/");
+		});
+		this.webServer.start();
+		
+		this.httpClient = HttpClient.newBuilder()
+				.version(HttpClient.Version.HTTP_1_1)
+				.executor(Executors.newFixedThreadPool(16))
+				.build();
+		this.request = HttpRequest.newBuilder(URI.create("http://localhost:" + this.webServer.getPort() + "/api/products/1"))
+				.timeout(Duration.ofSeconds(30))
+				.build();
+	}
+	
+	@TearDown(Level.Trial)
+	public void tearDown() throws IOException {
+		this.webServer.stop();
+		if (this.outboundTaskExecutor != null) {
+			this.outboundTaskExecutor.shutdown();
+		}
+		this.pooledFeignClient.close();
+		this.downstream.stop(0);
+		this.downstreamExecutor.shutdownNow();
+	}
+	
+	@Benchmark
+	public int findById() throws IOException, InterruptedException {
+		final HttpResponse<String> response = this.httpClient.send(this.request, HttpResponse.BodyHandlers.ofString());
+		if (response.statusCode() != 200) {
+			throw new IllegalStateException("Unexpected status " + response.statusCode() + ": " + response.body());
+		}
+		return response.body().length();
+	}
+	
+	public static void main(final String[] args) throws RunnerException {
+		new Runner(new OptionsBuilder()
+				.include(AsyncServletBenchmark.class.getSimpleName())
+				.build())
+				.run();
+	}
+	
+	@EnableWebMvc
+	static class WebMvcConfig {
+	
+	}
+	
+	/**
+	 * {@link ProductController#findById(String)} before it went async. Left without a stereotype,
+	 * so that component scanning of the test classpath does not pick it up.
+	 */
+	@RequestMapping("/api/products")
+	static class BlockingProductController {
+		
+		private final ProductClientService productClientService;
+		
+		BlockingProductController(final ProductClientService productClientService) {
+			this.productClientService = productClientService;
+		}
+		
+		@GetMapping("/{productId}")
+		public ResponseEntity<ProductDto> findById(@PathVariable("productId") final String productId) {
+			return ResponseEntity.ok(this.productClientService.findById(productId).getBody());
+		}
+	
+	}
+	
+	
+	
+}
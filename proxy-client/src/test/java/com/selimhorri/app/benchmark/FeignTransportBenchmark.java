@@ -0,0 +1,135 @@
+package com.selimhorri.app.benchmark;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.springframework.boot.autoconfigure.http.HttpMessageConverters;
+import org.springframework.boot.logging.LogLevel;
+import org.springframework.boot.logging.LoggingSystem;
+import org.springframework.cloud.openfeign.support.ResponseEntityDecoder;
+import org.springframework.cloud.openfeign.support.SpringDecoder;
+import org.springframework.cloud.openfeign.support.SpringMvcContract;
+
+import com.selimhorri.app.business.product.model.ProductDto;
+import com.selimhorri.app.business.product.service.ProductClientService;
+import com.selimhorri.app.config.feign.FeignTransportProperties;
+import com.selimhorri.app.config.feign.PooledFeignClient;
+import com.sun.net.httpserver.HttpServer;
+
+import feign.Client;
+import feign.Feign;
+import feign.Request;
+import feign.Target.HardCodedTarget;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+/**
+ * Throughput of {@link ProductClientService#findById(String)} against a stubbed product-service,
+ * on Feign's default {@code HttpURLConnection} transport versus {@link PooledFeignClient}.
+ * 
+ * Run with:
+ * <pre>
+ * mvn -pl proxy-client -am test-compile
+ * mvn -pl proxy-client dependency:build-classpath -Dmdep.outputFile=target/test-classpath.txt
+ * java -cp proxy-client/target/test-classes:proxy-client/target/classes:$(cat proxy-client/target/test-classpath.txt) \
+ *     com.selimhorri.app.benchmark.FeignTransportBenchmark
+ * </pre>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 6, time = 3)
+@Measurement(iterations = 5, time = 3)
+@Fork(1)
+@Threads(16)
+public class FeignTransportBenchmark {
+	
+	private static final String PRODUCT_JSON = "{\"productId\":1,\"productTitle\":\"asus\",\"imageUrl\":\"xxx\","
+			+ "\"sku\":\"dfqejklejrkn\",\"priceUnit\":1200.0,\"quantity\":50,"
+			+ "\"category\":{\"categoryId\":1,\"categoryTitle\":\"Computer\",\"imageUrl\":null}}";
+	
+	@Param({ "url-connection", "pooled" })
+	private String transport;
+	
+	private HttpServer server;
+	private ExecutorService serverExecutor;
+	private Client client;
+	private ProductClientService productClientService;
+	
+	@Setup(Level.Trial)
+	public void setUp() throws IOException {
+		// without a logback config every request would be logged at DEBUG, wire content included
+		LoggingSystem.get(FeignTransportBenchmark.class.getClassLoader()).setLogLevel(LoggingSystem.ROOT_LOGGER_NAME, LogLevel.WARN);
+		// the JDK server otherwise leaves Nagle's algorithm on, which dominates every round trip
+		System.setProperty("sun.net.httpserver.nodelay", "true");
+		this.serverExecutor = Executors.newFixedThreadPool(32);
+		this.server = HttpServer.create(new InetSocketAddress("localhost", 0), 1024);
+		this.server.createContext("/product-service/api/products", exchange -> {
+			final byte[] body = PRODUCT_JSON.getBytes(StandardCharsets.UTF_8);
+			exchange.getResponseHeaders().add("Content-Type", "application/json");
+			exchange.sendResponseHeaders(200, body.length);
+			try (OutputStream outputStream = exchange.getResponseBody()) {
+				outputStream.write(body);
+			}
+		});
+		this.server.setExecutor(this.serverExecutor);
+		this.server.start();
+		
+		this.client = "pooled".equals(this.transport)
+				? new PooledFeignClient(new FeignTransportProperties(), new SimpleMeterRegistry())
+				: new Client.Default(null, null);
+		final HttpMessageConverters messageConverters = new HttpMessageConverters();
+		this.productClientService = Feign.builder()
+				.client(this.client)
+				.contract(new SpringMvcContract())
+				.decoder(new ResponseEntityDecoder(new SpringDecoder(() -> messageConverters)))
+				.options(new Request.Options(1, TimeUnit.SECONDS, 5, TimeUnit.SECONDS, true))
+				.target(new HardCodedTarget<>(ProductClientService.class, "PRODUCT-SERVICE", 
+						"http://localhost:" + this.server.getAddress().getPort() + "/product-service/api/products"));
+	}
+	
+	@TearDown(Level.Trial)
+	public void tearDown() throws IOException {
+		if (this.client instanceof PooledFeignClient) {
+			((PooledFeignClient) this.client).close();
+		}
+		this.server.stop(0);
+		this.serverExecutor.shutdownNow();
+	}
+	
+	@Benchmark
+	public ProductDto findById() {
+		return this.productClientService.findById("1").getBody();
+	}
+	
+	public static void main(final String[] args) throws RunnerException {
+		new Runner(new OptionsBuilder()
+				.include(FeignTransportBenchmark.class.getSimpleName())
+				.build())
+				.run();
+	}
+	
+	
+	
+}
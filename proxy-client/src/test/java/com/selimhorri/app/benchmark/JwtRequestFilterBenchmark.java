@@ -0,0 +1,212 @@
+package com.selimhorri.app.benchmark;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import javax.servlet.FilterChain;
+import javax.servlet.ServletException;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.slf4j.LoggerFactory;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.core.userdetails.User;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.security.web.authentication.WebAuthenticationDetailsSource;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import com.selimhorri.app.config.filter.JwtRequestFilter;
+import com.selimhorri.app.config.jwt.JwtProperties;
+import com.selimhorri.app.jwt.model.JwtClaims;
+import com.selimhorri.app.jwt.service.JwtService;
+import com.selimhorri.app.jwt.service.TokenRevocationService;
+import com.selimhorri.app.jwt.service.impl.JwtServiceImpl;
+import com.selimhorri.app.jwt.service.impl.TokenRevocationServiceImpl;
+import com.selimhorri.app.jwt.util.impl.JwtUtilImpl;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.LoggerContext;
+import ch.qos.logback.classic.encoder.PatternLayoutEncoder;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.core.OutputStreamAppender;
+import io.jsonwebtoken.JwtException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+/**
+ * Time and allocation of one pass through {@link JwtRequestFilter}: the former filter, which
+ * matched public endpoints with {@code String.contains} and logged three INFO lines per request,
+ * against the current one. Logging stays at INFO, as in production, but is written to a null
+ * stream so that formatting is measured and disk I/O is not.
+ *
+ * Run the same way as {@link FeignTransportBenchmark}; the allocation per request is reported
+ * by the GC profiler as {@code gc.alloc.rate.norm}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class JwtRequestFilterBenchmark {
+	
+	@Param({ "contains-matching", "route-table" })
+	private String filter;
+	
+	@Param({ "public", "authenticated" })
+	private String route;
+	
+	private OncePerRequestFilter jwtRequestFilter;
+	private MockHttpServletRequest request;
+	private HttpServletResponse response;
+	private FilterChain filterChain;
+	
+	@Setup
+	public void setUp() {
+		logToNullStream();
+		final JwtProperties jwtProperties = new JwtProperties();
+		jwtProperties.setSecret("secret");
+		final JwtUtilImpl jwtUtil = new JwtUtilImpl(jwtProperties);
+		final JwtService jwtService = new JwtServiceImpl(jwtUtil);
+		final TokenRevocationService tokenRevocationService = new TokenRevocationServiceImpl(jwtProperties);
+		this.jwtRequestFilter = "route-table".equals(this.filter)
+				? new JwtRequestFilter(null, jwtService, tokenRevocationService, jwtProperties, new SimpleMeterRegistry())
+				: new ContainsMatchingJwtRequestFilter(jwtService, tokenRevocationService);
+		
+		if ("public".equals(this.route)) {
+			this.request = new MockHttpServletRequest("POST", "/api/users");
+			this.request.setServletPath("/api/users");
+		}
+		else {
+			this.request = new MockHttpServletRequest("GET", "/api/products");
+			this.request.setServletPath("/api/products");
+			this.request.addHeader("Authorization", "Bearer " + jwtUtil.generateToken(
+					new User("selimhorri", "", List.of(new SimpleGrantedAuthority("ROLE_USER")))));
+		}
+		this.request.addHeader("Accept", "application/json");
+		this.request.addHeader("User-Agent", "Mozilla/5.0");
+		this.response = new MockHttpServletResponse();
+		this.filterChain = (request, response) -> { };
+	}
+	
+	@Benchmark
+	public void doFilter() throws ServletException, IOException {
+		this.jwtRequestFilter.doFilter(this.request, this.response, this.filterChain);
+		SecurityContextHolder.clearContext();
+	}
+	
+	/**
+	 * INFO logging as configured in production, with the console replaced by a null stream.
+	 */
+	private static void logToNullStream() {
+		final LoggerContext loggerContext = (LoggerContext) LoggerFactory.getILoggerFactory();
+		final PatternLayoutEncoder encoder = new PatternLayoutEncoder();
+		encoder.setContext(loggerContext);
+		encoder.setPattern("%d{yyyy-MM-dd HH:mm:ss.SSS} %5p [%t] %-40.40logger{39} : %m%n");
+		encoder.start();
+		final OutputStreamAppender<ILoggingEvent> appender = new OutputStreamAppender<>();
+		appender.setContext(loggerContext);
+		appender.setEncoder(encoder);
+		appender.setOutputStream(OutputStream.nullOutputStream());
+		appender.start();
+		final Logger root = loggerContext.getLogger(org.slf4j.Logger.ROOT_LOGGER_NAME);
+		root.detachAndStopAllAppenders();
+		root.addAppender(appender);
+		root.setLevel(Level.INFO);
+	}
+	
+	/**
+	 * The filter as it was before the route table: public endpoints matched by substring and
+	 * three INFO lines for every authenticated request.
+	 */
+	private static class ContainsMatchingJwtRequestFilter extends OncePerRequestFilter {
+		
+		private static final org.slf4j.Logger log = LoggerFactory.getLogger(JwtRequestFilter.class);
+		
+		private final JwtService jwtService;
+		private final TokenRevocationService tokenRevocationService;
+		
+		ContainsMatchingJwtRequestFilter(final JwtService jwtService, final TokenRevocationService tokenRevocationService) {
+			this.jwtService = jwtService;
+			this.tokenRevocationService = tokenRevocationService;
+		}
+		
+		@Override
+		protected void doFilterInternal(final HttpServletRequest request, final HttpServletResponse response,
+				final FilterChain filterChain) throws ServletException, IOException {
+			
+			log.info("**JwtRequestFilter, once per request, validating and extracting token*\n");
+			
+			final String requestPath = request.getRequestURI();
+			log.info("**DEBUG: Incoming request path: {} {}, headers: {}*\n", request.getMethod(), requestPath, request.getHeaderNames());
+			
+			if (requestPath.contains("/api/authenticate") ||
+			    requestPath.contains("/api/users") && "POST".equals(request.getMethod()) ||
+			    requestPath.contains("/actuator/health")) {
+				log.info("**Skipping JWT validation for public endpoint: {} {}*\n", request.getMethod(), requestPath);
+				filterChain.doFilter(request, response);
+				return;
+			}
+			
+			final var authorizationHeader = request.getHeader("Authorization");
+			
+			JwtClaims jwtClaims = null;
+			
+			if ( authorizationHeader != null && authorizationHeader.startsWith("Bearer ") ) {
+				try {
+					jwtClaims = this.jwtService.parseToken(authorizationHeader.substring(7));
+				} catch (JwtException | IllegalArgumentException e) {
+					log.warn("**Rejected bearer token: {}*\n", e.getMessage());
+				}
+			}
+			
+			if (jwtClaims != null && jwtClaims.getUsername() != null && SecurityContextHolder.getContext().getAuthentication() == null
+					&& !this.tokenRevocationService.isRevoked(jwtClaims) && Boolean.TRUE.equals(jwtClaims.getEnabled())) {
+				final UserDetails userDetails = User.withUsername(jwtClaims.getUsername())
+						.password("")
+						.authorities(jwtClaims.getAuthorities().toArray(String[]::new))
+						.build();
+				final UsernamePasswordAuthenticationToken authenticationToken =
+						new UsernamePasswordAuthenticationToken(userDetails, null, userDetails.getAuthorities());
+				authenticationToken.setDetails(new WebAuthenticationDetailsSource().buildDetails(request));
+				SecurityContextHolder.getContext().setAuthentication(authenticationToken);
+			}
+			
+			filterChain.doFilter(request, response);
+			log.info("**Jwt request filtered!*\n");
+		}
+	
+	}
+	
+	public static void main(final String[] args) throws RunnerException {
+		new Runner(new OptionsBuilder()
+				.include(JwtRequestFilterBenchmark.class.getSimpleName())
+				.addProfiler(GCProfiler.class)
+				.build())
+				.run();
+	}
+	
+	
+	
+}
@@ -0,0 +1,81 @@
+package com.selimhorri.app.benchmark;
+
+import java.util.Date;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.core.userdetails.User;
+import org.springframework.security.core.userdetails.UserDetails;
+
+import com.selimhorri.app.config.jwt.JwtProperties;
+import com.selimhorri.app.jwt.model.JwtClaims;
+import com.selimhorri.app.jwt.util.JwtUtil;
+import com.selimhorri.app.jwt.util.impl.JwtUtilImpl;
+
+/**
+ * Cost of validating the bearer token of one request in {@code JwtRequestFilter}:
+ * the former path, which parsed and verified the token three times, against
+ * {@link JwtUtil#parseToken(String)} followed by a check of the parsed claims.
+ * 
+ * Run the same way as {@link FeignTransportBenchmark}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class JwtValidationBenchmark {
+	
+	private JwtUtil jwtUtil;
+	private UserDetails userDetails;
+	private String token;
+	
+	@Setup
+	public void setUp() {
+		final JwtProperties jwtProperties = new JwtProperties();
+		jwtProperties.setSecret("secret");
+		this.jwtUtil = new JwtUtilImpl(jwtProperties);
+		this.userDetails = new User("selimhorri", "", List.of(new SimpleGrantedAuthority("ROLE_USER")));
+		this.token = this.jwtUtil.generateToken(this.userDetails);
+	}
+	
+	@Benchmark
+	public boolean tripleParse() {
+		// extractUsername in the filter, then extractUsername and extractExpiration in validateToken
+		final String username = this.jwtUtil.extractUsername(this.token);
+		return username != null
+				&& this.jwtUtil.extractUsername(this.token).equals(this.userDetails.getUsername())
+				&& !this.jwtUtil.extractExpiration(this.token).before(new Date());
+	}
+	
+	@Benchmark
+	public boolean singleParse() {
+		final JwtClaims jwtClaims = this.jwtUtil.parseToken(this.token);
+		return this.jwtUtil.validateToken(jwtClaims, this.userDetails);
+	}
+	
+	public static void main(final String[] args) throws RunnerException {
+		new Runner(new OptionsBuilder()
+				.include(JwtValidationBenchmark.class.getSimpleName())
+				.build())
+				.run();
+	}
+	
+	
+	
+}
@@ -0,0 +1,173 @@
+package com.selimhorri.app.benchmark;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.springframework.boot.autoconfigure.http.HttpMessageConverters;
+import org.springframework.boot.logging.LogLevel;
+import org.springframework.boot.logging.LoggingSystem;
+import org.springframework.cloud.openfeign.support.ResponseEntityDecoder;
+import org.springframework.cloud.openfeign.support.SpringDecoder;
+import org.springframework.cloud.openfeign.support.SpringMvcContract;
+import org.springframework.security.authentication.AuthenticationManager;
+import org.springframework.security.authentication.ProviderManager;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.authentication.dao.DaoAuthenticationProvider;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.security.crypto.password.NoOpPasswordEncoder;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.selimhorri.app.business.auth.model.request.AuthenticationRequest;
+import com.selimhorri.app.business.auth.service.impl.AuthenticationServiceImpl;
+import com.selimhorri.app.business.auth.service.impl.UserDetailsServiceImpl;
+import com.selimhorri.app.business.user.service.CredentialClientService;
+import com.selimhorri.app.config.feign.FeignTransportProperties;
+import com.selimhorri.app.config.feign.PooledFeignClient;
+import com.selimhorri.app.config.jwt.JwtProperties;
+import com.selimhorri.app.jwt.service.JwtService;
+import com.selimhorri.app.jwt.service.impl.JwtServiceImpl;
+import com.selimhorri.app.jwt.service.impl.TokenRevocationServiceImpl;
+import com.selimhorri.app.jwt.util.impl.JwtUtilImpl;
+import com.sun.net.httpserver.HttpServer;
+
+import feign.Feign;
+import feign.Target.HardCodedTarget;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+/**
+ * Login throughput of {@code /api/authenticate} down from {@link AuthenticationServiceImpl}
+ * against a stubbed user-service credential endpoint, with a cold user details cache as
+ * after a deploy. {@code double-lookup} replays the former flow, which fetched the credential
+ * again to generate the token; {@code single-lookup} is the current one. The credential
+ * lookups made per login are printed after each trial.
+ * 
+ * Run the same way as {@link FeignTransportBenchmark}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 6, time = 3)
+@Measurement(iterations = 5, time = 3)
+@Fork(1)
+@Threads(8)
+public class LoginBenchmark {
+	
+	private static final String CREDENTIAL_JSON = "{\"credentialId\":1,\"username\":\"selimhorri\",\"password\":\"password\","
+			+ "\"roleBasedAuthority\":\"ROLE_USER\",\"isEnabled\":true,\"isAccountNonExpired\":true,"
+			+ "\"isAccountNonLocked\":true,\"isCredentialsNonExpired\":true}";
+	
+	@Param({ "double-lookup", "single-lookup" })
+	private String flow;
+	
+	private final AtomicLong credentialLookups = new AtomicLong();
+	private final AtomicLong logins = new AtomicLong();
+	
+	private HttpServer server;
+	private ExecutorService serverExecutor;
+	private PooledFeignClient pooledFeignClient;
+	private UserDetailsServiceImpl userDetailsService;
+	private AuthenticationManager authenticationManager;
+	private JwtService jwtService;
+	private AuthenticationServiceImpl authenticationService;
+	private AuthenticationRequest authenticationRequest;
+	
+	@Setup(Level.Trial)
+	public void setUp() throws IOException {
+		LoggingSystem.get(LoginBenchmark.class.getClassLoader()).setLogLevel(LoggingSystem.ROOT_LOGGER_NAME, LogLevel.WARN);
+		System.setProperty("sun.net.httpserver.nodelay", "true");
+		this.serverExecutor = Executors.newFixedThreadPool(16);
+		this.server = HttpServer.create(new InetSocketAddress("localhost", 0), 1024);
+		this.server.createContext("/user-service/api/credentials/username", exchange -> {
+			this.credentialLookups.incrementAndGet();
+			final byte[] body = CREDENTIAL_JSON.getBytes(StandardCharsets.UTF_8);
+			exchange.getResponseHeaders().add("Content-Type", "application/json");
+			exchange.sendResponseHeaders(200, body.length);
+			try (OutputStream outputStream = exchange.getResponseBody()) {
+				outputStream.write(body);
+			}
+		});
+		this.server.setExecutor(this.serverExecutor);
+		this.server.start();
+		
+		this.pooledFeignClient = new PooledFeignClient(new FeignTransportProperties(), new SimpleMeterRegistry());
+		final HttpMessageConverters messageConverters = new HttpMessageConverters();
+		final CredentialClientService credentialClientService = Feign.builder()
+				.client(this.pooledFeignClient)
+				.contract(new SpringMvcContract())
+				.decoder(new ResponseEntityDecoder(new SpringDecoder(() -> messageConverters)))
+				.target(new HardCodedTarget<>(CredentialClientService.class, "USER-SERVICE", 
+						"http://localhost:" + this.server.getAddress().getPort() + "/user-service/api/credentials"));
+		
+		// entries expire as soon as written, so every lookup misses as right after a deploy
+		final Cache<String, UserDetails> coldCache = Caffeine.newBuilder()
+				.expireAfterWrite(Duration.ofNanos(1))
+				.build();
+		this.userDetailsService = new UserDetailsServiceImpl(credentialClientService, coldCache);
+		final DaoAuthenticationProvider authenticationProvider = new DaoAuthenticationProvider();
+		authenticationProvider.setUserDetailsService(this.userDetailsService);
+		authenticationProvider.setPasswordEncoder(NoOpPasswordEncoder.getInstance());
+		this.authenticationManager = new ProviderManager(authenticationProvider);
+		final JwtProperties jwtProperties = new JwtProperties();
+		jwtProperties.setSecret("secret");
+		this.jwtService = new JwtServiceImpl(new JwtUtilImpl(jwtProperties));
+		// only logins are measured, so revocations are never published
+		this.authenticationService = new AuthenticationServiceImpl(this.authenticationManager, this.userDetailsService, this.jwtService, 
+				new TokenRevocationServiceImpl(jwtProperties), null);
+		this.authenticationRequest = new AuthenticationRequest("selimhorri", "password");
+	}
+	
+	@TearDown(Level.Trial)
+	public void tearDown() throws IOException {
+		System.out.printf("%n%s: %.2f credential lookups per login%n", this.flow, 
+				(double) this.credentialLookups.get() / Math.max(1, this.logins.get()));
+		this.pooledFeignClient.close();
+		this.server.stop(0);
+		this.serverExecutor.shutdownNow();
+	}
+	
+	@Benchmark
+	public String login() {
+		this.logins.incrementAndGet();
+		if ("double-lookup".equals(this.flow)) {
+			this.authenticationManager.authenticate(new UsernamePasswordAuthenticationToken(
+					this.authenticationRequest.getUsername(), this.authenticationRequest.getPassword()));
+			return this.jwtService.generateToken(this.userDetailsService.loadUserByUsername(this.authenticationRequest.getUsername()));
+		}
+		return this.authenticationService.authenticate(this.authenticationRequest).getJwtToken();
+	}
+	
+	public static void main(final String[] args) throws RunnerException {
+		new Runner(new OptionsBuilder()
+				.include(LoginBenchmark.class.getSimpleName())
+				.build())
+				.run();
+	}
+	
+	
+	
+}
@@ -0,0 +1,85 @@
+package com.selimhorri.app.business.auth.controller;
+
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import java.time.Instant;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.core.userdetails.User;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.selimhorri.app.config.cache.CacheInvalidationProperties;
+import com.selimhorri.app.jwt.service.TokenRevocationService;
+
+/**
+ * Unit tests for CacheController
+ * Tests that only calls carrying the shared invalidation secret evict user details and revoke tokens
+ */
+class CacheControllerTest {
+
+    private Cache<String, UserDetails> userDetailsCache;
+    private TokenRevocationService tokenRevocationService;
+    private MockMvc mockMvc;
+
+    @BeforeEach
+    void setUp() {
+        final CacheInvalidationProperties cacheInvalidationProperties = new CacheInvalidationProperties();
+        cacheInvalidationProperties.setSecret("s3cret");
+        this.userDetailsCache = Caffeine.newBuilder().build();
+        this.userDetailsCache.put("selimhorri", User.withUsername("selimhorri").password("x").roles("USER").build());
+        this.tokenRevocationService = mock(TokenRevocationService.class);
+        this.mockMvc = MockMvcBuilders.standaloneSetup(
+                new CacheController(this.userDetailsCache, this.tokenRevocationService, cacheInvalidationProperties))
+                .build();
+    }
+
+    @Test
+    void evictCredential_shouldRefuseAnonymousCall() throws Exception {
+        // when, then
+        this.mockMvc.perform(delete("/api/caches/credentials/selimhorri"))
+                .andExpect(status().isForbidden());
+        this.mockMvc.perform(delete("/api/caches/credentials/selimhorri")
+                        .header(CacheInvalidationProperties.HEADER, "guess"))
+                .andExpect(status().isForbidden());
+        assertNotNull(this.userDetailsCache.getIfPresent("selimhorri"));
+        verify(this.tokenRevocationService, never()).revokeIssuedBefore(anyString());
+    }
+
+    @Test
+    void evictCredential_shouldEvictAndRevokeOnCallWithSecret() throws Exception {
+        // when
+        this.mockMvc.perform(delete("/api/caches/credentials/selimhorri")
+                        .header(CacheInvalidationProperties.HEADER, "s3cret"))
+                .andExpect(status().isOk());
+
+        // then
+        assertNull(this.userDetailsCache.getIfPresent("selimhorri"));
+        verify(this.tokenRevocationService).revokeIssuedBefore("selimhorri");
+    }
+
+    @Test
+    void revokeToken_shouldRevokeTokenLoggedOutOnAnotherInstance() throws Exception {
+        // when
+        this.mockMvc.perform(delete("/api/caches/tokens/token-id").param("expiration", "1700000000"))
+                .andExpect(status().isForbidden());
+        this.mockMvc.perform(delete("/api/caches/tokens/token-id").param("expiration", "1700000000")
+                        .header(CacheInvalidationProperties.HEADER, "s3cret"))
+                .andExpect(status().isOk());
+
+        // then
+        verify(this.tokenRevocationService).revoke("token-id", Instant.ofEpochSecond(1_700_000_000L));
+    }
+
+}
@@ -0,0 +1,119 @@
+package com.selimhorri.app.business.auth.service.impl;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.security.authentication.AuthenticationManager;
+import org.springframework.security.authentication.BadCredentialsException;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.core.userdetails.User;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.security.core.userdetails.UserDetailsService;
+
+import com.selimhorri.app.business.auth.model.request.AuthenticationRequest;
+import com.selimhorri.app.business.auth.model.response.AuthenticationResponse;
+import com.selimhorri.app.exception.wrapper.IllegalAuthenticationCredentialsException;
+import com.selimhorri.app.jwt.client.TokenRevocationPublisher;
+import com.selimhorri.app.jwt.model.JwtClaims;
+import com.selimhorri.app.jwt.service.JwtService;
+import com.selimhorri.app.jwt.service.TokenRevocationService;
+
+/**
+ * Unit tests for AuthenticationServiceImpl
+ * Tests that a login looks the credential up once and rejects bad credentials
+ */
+@ExtendWith(MockitoExtension.class)
+class AuthenticationServiceImplTest {
+
+    @Mock
+    private AuthenticationManager authenticationManager;
+
+    @Mock
+    private UserDetailsService userDetailsService;
+
+    @Mock
+    private JwtService jwtService;
+
+    @Mock
+    private TokenRevocationService tokenRevocationService;
+
+    @Mock
+    private TokenRevocationPublisher tokenRevocationPublisher;
+
+    @InjectMocks
+    private AuthenticationServiceImpl authenticationService;
+
+    private AuthenticationRequest authenticationRequest;
+    private UserDetails userDetails;
+
+    @BeforeEach
+    void setUp() {
+        this.authenticationRequest = new AuthenticationRequest("selimhorri", "password");
+        this.userDetails = new User("selimhorri", "password", List.of(new SimpleGrantedAuthority("ROLE_USER")));
+    }
+
+    @Test
+    void authenticate_shouldGenerateTokenFromAuthenticatedPrincipal() {
+        // given
+        final Authentication authentication = new UsernamePasswordAuthenticationToken(
+                this.userDetails, null, this.userDetails.getAuthorities());
+        when(this.authenticationManager.authenticate(any(Authentication.class)))
+                .thenReturn(authentication);
+        when(this.jwtService.generateToken(this.userDetails))
+                .thenReturn("jwt");
+
+        // when
+        final AuthenticationResponse result = this.authenticationService.authenticate(this.authenticationRequest);
+
+        // then
+        assertEquals("jwt", result.getJwtToken());
+        verify(this.userDetailsService, never()).loadUserByUsername(any());
+    }
+
+    @Test
+    void authenticate_shouldThrowException_whenCredentialsAreBad() {
+        // given
+        when(this.authenticationManager.authenticate(any(Authentication.class)))
+                .thenThrow(new BadCredentialsException("Bad credentials"));
+
+        // when, then
+        assertThrows(IllegalAuthenticationCredentialsException.class,
+                () -> this.authenticationService.authenticate(this.authenticationRequest));
+        verify(this.jwtService, never()).generateToken(any());
+    }
+
+    @Test
+    void logout_shouldRevokeTheGivenTokenOnEveryInstance() {
+        // given
+        final JwtClaims jwtClaims = JwtClaims.builder()
+                .tokenId("token-id")
+                .username("selimhorri")
+                .build();
+        when(this.jwtService.parseToken("jwt"))
+                .thenReturn(jwtClaims);
+
+        // when
+        final Boolean result = this.authenticationService.logout("jwt");
+
+        // then
+        assertTrue(result);
+        verify(this.tokenRevocationService).revoke(jwtClaims);
+        verify(this.tokenRevocationPublisher).publish(jwtClaims);
+    }
+
+}
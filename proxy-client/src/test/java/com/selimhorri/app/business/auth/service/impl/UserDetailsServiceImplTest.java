@@ -0,0 +1,96 @@
+package com.selimhorri.app.business.auth.service.impl;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.security.core.userdetails.UsernameNotFoundException;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.selimhorri.app.business.user.model.CredentialDto;
+import com.selimhorri.app.business.user.model.RoleBasedAuthority;
+import com.selimhorri.app.business.user.service.CredentialClientService;
+
+/**
+ * Unit tests for UserDetailsServiceImpl
+ * Tests that user details are cached by username and that failed lookups are not
+ */
+@ExtendWith(MockitoExtension.class)
+class UserDetailsServiceImplTest {
+
+    @Mock
+    private CredentialClientService credentialClientService;
+
+    private Cache<String, UserDetails> userDetailsCache;
+    private UserDetailsServiceImpl userDetailsService;
+    private CredentialDto credentialDto;
+
+    @BeforeEach
+    void setUp() {
+        this.userDetailsCache = Caffeine.newBuilder().build();
+        this.userDetailsService = new UserDetailsServiceImpl(this.credentialClientService, this.userDetailsCache);
+        this.credentialDto = CredentialDto.builder()
+                .credentialId(1)
+                .username("selimhorri")
+                .password("$2a$04$hashedPassword")
+                .roleBasedAuthority(RoleBasedAuthority.ROLE_USER)
+                .isEnabled(true)
+                .isAccountNonExpired(true)
+                .isAccountNonLocked(true)
+                .isCredentialsNonExpired(true)
+                .build();
+    }
+
+    @Test
+    void loadUserByUsername_shouldCallUserServiceOnce_whenCalledRepeatedly() {
+        // given
+        when(this.credentialClientService.findByUsername("selimhorri"))
+                .thenReturn(ResponseEntity.ok(this.credentialDto));
+
+        // when
+        this.userDetailsService.loadUserByUsername("selimhorri");
+        final UserDetails result = this.userDetailsService.loadUserByUsername("selimhorri");
+
+        // then
+        assertEquals("selimhorri", result.getUsername());
+        verify(this.credentialClientService, times(1)).findByUsername("selimhorri");
+    }
+
+    @Test
+    void loadUserByUsername_shouldFetchAgain_whenEntryWasInvalidated() {
+        // given
+        when(this.credentialClientService.findByUsername("selimhorri"))
+                .thenReturn(ResponseEntity.ok(this.credentialDto));
+        this.userDetailsService.loadUserByUsername("selimhorri");
+
+        // when
+        this.userDetailsCache.invalidate("selimhorri");
+        this.userDetailsService.loadUserByUsername("selimhorri");
+
+        // then
+        verify(this.credentialClientService, times(2)).findByUsername("selimhorri");
+    }
+
+    @Test
+    void loadUserByUsername_shouldNotCacheMissingUser() {
+        // given
+        when(this.credentialClientService.findByUsername("ghost"))
+                .thenReturn(ResponseEntity.ok(null));
+
+        // when, then
+        assertThrows(UsernameNotFoundException.class, () -> this.userDetailsService.loadUserByUsername("ghost"));
+        assertThrows(UsernameNotFoundException.class, () -> this.userDetailsService.loadUserByUsername("ghost"));
+        verify(this.credentialClientService, times(2)).findByUsername("ghost");
+    }
+
+}
@@ -0,0 +1,160 @@
+package com.selimhorri.app.business.checkout.service.impl;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.ResponseEntity;
+
+import com.selimhorri.app.business.checkout.model.request.CheckoutItem;
+import com.selimhorri.app.business.checkout.model.request.CheckoutRequest;
+import com.selimhorri.app.business.checkout.model.response.CheckoutResponse;
+import com.selimhorri.app.business.order.model.CartDto;
+import com.selimhorri.app.business.order.model.OrderDto;
+import com.selimhorri.app.business.order.service.CartClientService;
+import com.selimhorri.app.business.order.service.OrderClientService;
+import com.selimhorri.app.business.orderItem.model.OrderItemDto;
+import com.selimhorri.app.business.orderItem.service.OrderItemClientService;
+import com.selimhorri.app.business.payment.model.PaymentDto;
+import com.selimhorri.app.business.payment.service.PaymentClientService;
+
+import feign.FeignException;
+
+/**
+ * Unit tests for CheckoutServiceImpl
+ * Tests that a basket is written in stages and that a failed write deletes what was already written
+ */
+@ExtendWith(MockitoExtension.class)
+class CheckoutServiceImplTest {
+
+    @Mock
+    private CartClientService cartClientService;
+
+    @Mock
+    private OrderClientService orderClientService;
+
+    @Mock
+    private OrderItemClientService orderItemClientService;
+
+    @Mock
+    private PaymentClientService paymentClientService;
+
+    private ExecutorService executor;
+    private CheckoutServiceImpl checkoutService;
+    private CheckoutRequest checkoutRequest;
+
+    @BeforeEach
+    void setUp() {
+        this.executor = Executors.newFixedThreadPool(4);
+        this.checkoutService = new CheckoutServiceImpl(this.cartClientService, this.orderClientService,
+                this.orderItemClientService, this.paymentClientService, this.executor);
+        this.checkoutRequest = CheckoutRequest.builder()
+                .userId(1)
+                .orderDesc("Books")
+                .orderFee(42.0)
+                .items(List.of(
+                        new CheckoutItem(3, 2),
+                        new CheckoutItem(4, 1),
+                        new CheckoutItem(3, 1)))
+                .build();
+    }
+
+    @AfterEach
+    void tearDown() {
+        this.executor.shutdownNow();
+    }
+
+    @Test
+    void checkout_shouldWriteCartOrderItemsAndPayment() {
+        // given
+        givenCartAndOrder();
+        when(this.orderItemClientService.save(any(OrderItemDto.class)))
+                .thenAnswer(invocation -> ResponseEntity.ok(invocation.getArgument(0)));
+        when(this.paymentClientService.save(any(PaymentDto.class)))
+                .thenReturn(ResponseEntity.ok(PaymentDto.builder().paymentId(5).build()));
+
+        // when
+        final CheckoutResponse checkoutResponse = this.checkoutService.checkout(this.checkoutRequest);
+
+        // then
+        assertEquals(10, checkoutResponse.getCartDto().getCartId());
+        assertEquals(7, checkoutResponse.getOrderDto().getOrderId());
+        assertEquals(2, checkoutResponse.getOrderItemDtos().size());
+        assertEquals(3, checkoutResponse.getOrderItemDtos().get(0).getOrderedQuantity());
+        assertEquals(7, checkoutResponse.getOrderItemDtos().get(1).getOrderId());
+        assertEquals(5, checkoutResponse.getPaymentDto().getPaymentId());
+        verify(this.cartClientService, never()).deleteById(anyString());
+    }
+
+    @Test
+    void checkout_shouldDeleteWrittenRecords_whenAnOrderItemFails() {
+        // given
+        givenCartAndOrder();
+        final FeignException failure = mock(FeignException.class);
+        when(this.orderItemClientService.save(any(OrderItemDto.class)))
+                .thenAnswer(invocation -> {
+                    final OrderItemDto orderItemDto = invocation.getArgument(0);
+                    if (orderItemDto.getProductId() == 4) {
+                        throw failure;
+                    }
+                    return ResponseEntity.ok(orderItemDto);
+                });
+        when(this.paymentClientService.save(any(PaymentDto.class)))
+                .thenReturn(ResponseEntity.ok(PaymentDto.builder().paymentId(5).build()));
+
+        // when
+        final FeignException exception = assertThrows(FeignException.class,
+                () -> this.checkoutService.checkout(this.checkoutRequest));
+
+        // then
+        assertSame(failure, exception);
+        verify(this.orderItemClientService).deleteById("7", "3");
+        verify(this.orderItemClientService, never()).deleteById("7", "4");
+        verify(this.paymentClientService).deleteById("5");
+        verify(this.orderClientService).deleteById("7");
+        verify(this.cartClientService).deleteById("10");
+    }
+
+    @Test
+    void checkout_shouldLeaveAnExistingCartInPlace_whenTheOrderFails() {
+        // given
+        this.checkoutRequest.setCartId(10);
+        when(this.orderClientService.save(any(OrderDto.class))).thenThrow(mock(FeignException.class));
+
+        // when
+        assertThrows(FeignException.class, () -> this.checkoutService.checkout(this.checkoutRequest));
+
+        // then
+        verify(this.cartClientService, never()).save(any(CartDto.class));
+        verify(this.cartClientService, never()).deleteById(anyString());
+        verify(this.orderItemClientService, never()).save(any(OrderItemDto.class));
+    }
+
+    private void givenCartAndOrder() {
+        when(this.cartClientService.save(any(CartDto.class)))
+                .thenReturn(ResponseEntity.ok(CartDto.builder().cartId(10).userId(1).build()));
+        when(this.orderClientService.save(any(OrderDto.class)))
+                .thenAnswer(invocation -> {
+                    final OrderDto orderDto = invocation.getArgument(0);
+                    orderDto.setOrderId(7);
+                    return ResponseEntity.ok(orderDto);
+                });
+    }
+
+}
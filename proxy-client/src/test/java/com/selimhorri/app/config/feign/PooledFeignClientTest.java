@@ -0,0 +1,101 @@
+package com.selimhorri.app.config.feign;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import com.sun.net.httpserver.HttpServer;
+
+import feign.Request;
+import feign.RequestTemplate;
+import feign.Response;
+import feign.Target.HardCodedTarget;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+/**
+ * Unit tests for PooledFeignClient
+ * Tests per-service pool sizing, connection reuse and exported pool gauges
+ */
+class PooledFeignClientTest {
+
+    private static final Request.Options OPTIONS = new Request.Options(1, TimeUnit.SECONDS, 1, TimeUnit.SECONDS, true);
+
+    private HttpServer server;
+    private SimpleMeterRegistry meterRegistry;
+    private PooledFeignClient pooledFeignClient;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        this.server = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+        this.server.createContext("/", exchange -> {
+            final byte[] body = "ok".getBytes(StandardCharsets.UTF_8);
+            exchange.sendResponseHeaders(200, body.length);
+            try (OutputStream outputStream = exchange.getResponseBody()) {
+                outputStream.write(body);
+            }
+        });
+        this.server.start();
+
+        final FeignTransportProperties feignTransportProperties = new FeignTransportProperties();
+        feignTransportProperties.setMaxConnections(10);
+        feignTransportProperties.setMaxConnectionsPerService(Map.of("product-service", 40));
+        this.meterRegistry = new SimpleMeterRegistry();
+        this.pooledFeignClient = new PooledFeignClient(feignTransportProperties, this.meterRegistry);
+    }
+
+    @AfterEach
+    void tearDown() throws IOException {
+        this.pooledFeignClient.close();
+        this.server.stop(0);
+    }
+
+    @Test
+    void execute_shouldSizePoolPerDownstreamService() throws IOException {
+        // when
+        execute("PRODUCT-SERVICE");
+        execute("USER-SERVICE");
+
+        // then
+        assertEquals(40, this.meterRegistry.get("httpcomponents.httpclient.pool.total.max")
+                .tag("httpclient", "feign-product-service").gauge().value());
+        assertEquals(10, this.meterRegistry.get("httpcomponents.httpclient.pool.total.max")
+                .tag("httpclient", "feign-user-service").gauge().value());
+    }
+
+    @Test
+    void execute_shouldKeepConnectionAliveForNextRequest() throws IOException {
+        // when
+        execute("PRODUCT-SERVICE");
+        execute("PRODUCT-SERVICE");
+
+        // then
+        assertEquals(1, this.meterRegistry.get("httpcomponents.httpclient.pool.total.connections")
+                .tag("httpclient", "feign-product-service").tag("state", "available").gauge().value());
+        assertEquals(0, this.meterRegistry.get("httpcomponents.httpclient.pool.total.connections")
+                .tag("httpclient", "feign-product-service").tag("state", "leased").gauge().value());
+    }
+
+    private void execute(final String serviceId) throws IOException {
+        final String url = "http://localhost:" + this.server.getAddress().getPort();
+        final RequestTemplate requestTemplate = new RequestTemplate()
+                .method(Request.HttpMethod.GET)
+                .uri("/api")
+                .feignTarget(new HardCodedTarget<>(Object.class, serviceId, url))
+                .resolve(Map.of());
+        requestTemplate.target(url);
+        try (Response response = this.pooledFeignClient.execute(requestTemplate.request(), OPTIONS)) {
+            assertEquals(200, response.status());
+            response.body().asInputStream().readAllBytes();
+        }
+    }
+
+}
@@ -0,0 +1,121 @@
+package com.selimhorri.app.config.filter;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.mockito.Mockito.verifyNoInteractions;
+
+import java.util.List;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.HttpHeaders;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.core.userdetails.User;
+import org.springframework.security.core.userdetails.UserDetailsService;
+
+import com.selimhorri.app.config.jwt.JwtProperties;
+import com.selimhorri.app.jwt.service.impl.JwtServiceImpl;
+import com.selimhorri.app.jwt.service.impl.TokenRevocationServiceImpl;
+import com.selimhorri.app.jwt.util.impl.JwtUtilImpl;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+/**
+ * Unit tests for JwtRequestFilter
+ * Tests that public routes skip authentication and that every request is counted by its outcome
+ */
+@ExtendWith(MockitoExtension.class)
+class JwtRequestFilterTest {
+
+    @Mock
+    private UserDetailsService userDetailsService;
+
+    private SimpleMeterRegistry meterRegistry;
+    private JwtUtilImpl jwtUtil;
+    private JwtRequestFilter jwtRequestFilter;
+
+    @BeforeEach
+    void setUp() {
+        final JwtProperties jwtProperties = new JwtProperties();
+        jwtProperties.setSecret("secret");
+        this.meterRegistry = new SimpleMeterRegistry();
+        this.jwtUtil = new JwtUtilImpl(jwtProperties);
+        this.jwtRequestFilter = new JwtRequestFilter(this.userDetailsService, new JwtServiceImpl(this.jwtUtil),
+                new TokenRevocationServiceImpl(jwtProperties), jwtProperties, this.meterRegistry);
+    }
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    void doFilter_shouldSkipPublicRoutesOnlyForTheirMethod() throws Exception {
+        // given
+        final MockHttpServletRequest register = request("POST", "/api/users");
+        final MockHttpServletRequest listUsers = request("GET", "/api/users");
+
+        // when
+        this.jwtRequestFilter.doFilter(register, new MockHttpServletResponse(), new MockFilterChain());
+        this.jwtRequestFilter.doFilter(request("POST", "/api/authenticate"), new MockHttpServletResponse(), new MockFilterChain());
+        this.jwtRequestFilter.doFilter(listUsers, new MockHttpServletResponse(), new MockFilterChain());
+
+        // then
+        assertEquals(2.0, this.outcome("public"));
+        assertEquals(1.0, this.outcome("missing"));
+    }
+
+    @Test
+    void doFilter_shouldAuthenticateFromSelfContainedToken() throws Exception {
+        // given
+        final MockHttpServletRequest request = request("GET", "/api/products");
+        request.addHeader(HttpHeaders.AUTHORIZATION, "Bearer " + this.jwtUtil.generateToken(
+                new User("selimhorri", "", List.of(new SimpleGrantedAuthority("ROLE_USER")))));
+        final MockFilterChain chain = new MockFilterChain();
+
+        // when
+        this.jwtRequestFilter.doFilter(request, new MockHttpServletResponse(), chain);
+
+        // then
+        assertNotNull(chain.getRequest());
+        assertEquals("selimhorri", SecurityContextHolder.getContext().getAuthentication().getName());
+        assertEquals(1.0, this.outcome("authenticated"));
+        verifyNoInteractions(this.userDetailsService);
+    }
+
+    @Test
+    void doFilter_shouldCountRejectedTokenAndStillContinueTheChain() throws Exception {
+        // given
+        final MockHttpServletRequest request = request("GET", "/api/products");
+        request.addHeader(HttpHeaders.AUTHORIZATION, "Bearer not-a-token");
+        final MockFilterChain chain = new MockFilterChain();
+
+        // when
+        this.jwtRequestFilter.doFilter(request, new MockHttpServletResponse(), chain);
+
+        // then
+        assertNotNull(chain.getRequest());
+        assertNull(SecurityContextHolder.getContext().getAuthentication());
+        assertEquals(1.0, this.outcome("rejected"));
+    }
+
+    private double outcome(final String outcome) {
+        return this.meterRegistry.get("jwt.requests").tag("outcome", outcome).counter().count();
+    }
+
+    private static MockHttpServletRequest request(final String method, final String path) {
+        final MockHttpServletRequest request = new MockHttpServletRequest(method, path);
+        request.setServletPath(path);
+        return request;
+    }
+
+}
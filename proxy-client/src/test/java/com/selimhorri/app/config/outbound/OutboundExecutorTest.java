@@ -0,0 +1,108 @@
+package com.selimhorri.app.config.outbound;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.CompletionException;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+/**
+ * Unit tests for OutboundExecutor
+ * Tests that a call runs off the request thread with the caller's request attributes and security context
+ */
+class OutboundExecutorTest {
+
+    private ThreadPoolTaskExecutor outboundTaskExecutor;
+    private OutboundExecutor outboundExecutor;
+
+    @BeforeEach
+    void setUp() {
+        final OutboundProperties outboundProperties = new OutboundProperties();
+        outboundProperties.setPoolSize(2);
+        this.outboundTaskExecutor = new OutboundExecutorConfig().outboundTaskExecutor(outboundProperties);
+        this.outboundTaskExecutor.initialize();
+        this.outboundExecutor = new OutboundExecutor(this.outboundTaskExecutor);
+    }
+
+    @AfterEach
+    void tearDown() {
+        this.outboundTaskExecutor.shutdown();
+        RequestContextHolder.resetRequestAttributes();
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    void submit_shouldRunTheCallWithTheCallersAuthorizationHeaderAndAuthentication() {
+        // given
+        final MockHttpServletRequest request = new MockHttpServletRequest();
+        request.addHeader("Authorization", "Bearer token");
+        RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(request));
+        final Authentication authentication = new UsernamePasswordAuthenticationToken("selimhorri", null, List.of());
+        SecurityContextHolder.getContext().setAuthentication(authentication);
+        final Thread callerThread = Thread.currentThread();
+
+        // when
+        final List<Object> seen = this.outboundExecutor.submit(() -> List.of(
+                Thread.currentThread(),
+                ((ServletRequestAttributes) RequestContextHolder.getRequestAttributes()).getRequest().getHeader("Authorization"),
+                SecurityContextHolder.getContext().getAuthentication())).join();
+
+        // then
+        assertNotEquals(callerThread, seen.get(0));
+        assertEquals("Bearer token", seen.get(1));
+        assertSame(authentication, seen.get(2));
+    }
+
+    @Test
+    void submit_shouldLeaveTheWorkerThreadWithoutTheCallersContext() {
+        // given
+        RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(new MockHttpServletRequest()));
+        SecurityContextHolder.getContext().setAuthentication(new UsernamePasswordAuthenticationToken("selimhorri", null, List.of()));
+        this.outboundExecutor.submit(() -> true).join();
+        this.outboundExecutor.submit(() -> true).join();
+        RequestContextHolder.resetRequestAttributes();
+        SecurityContextHolder.clearContext();
+
+        // when
+        final List<String> seen = this.outboundExecutor.submit(() -> List.of(
+                String.valueOf(RequestContextHolder.getRequestAttributes()),
+                String.valueOf(SecurityContextHolder.getContext().getAuthentication()))).join();
+
+        // then
+        assertEquals(List.of("null", "null"), seen);
+        assertNull(RequestContextHolder.getRequestAttributes());
+    }
+
+    @Test
+    void submit_shouldCompleteWithTheExceptionThrownByTheCall() {
+        // given
+        final IOException failure = new IOException("Connection reset");
+
+        // when
+        final CompletionException exception = assertThrows(CompletionException.class,
+                () -> this.outboundExecutor.submit(() -> {
+                    throw failure;
+                }).join());
+
+        // then
+        assertInstanceOf(IOException.class, exception.getCause());
+        assertSame(failure, exception.getCause());
+    }
+
+}
@@ -0,0 +1,107 @@
+package com.selimhorri.app.config.passthrough;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import feign.Request;
+import feign.Request.HttpMethod;
+import feign.RequestTemplate;
+import feign.Response;
+
+/**
+ * Unit tests for ResponsePassthrough
+ * Tests that status, entity headers and body bytes are copied as they came, and that the response is closed
+ */
+class ResponsePassthroughTest {
+
+    private static final String BODY = "{\"collection\":[{\"orderId\":1}],\"next\":\"1\"}";
+
+    private ResponsePassthrough responsePassthrough;
+
+    @BeforeEach
+    void setUp() {
+        final PassthroughProperties passthroughProperties = new PassthroughProperties();
+        passthroughProperties.setEndpoints(Set.of("orders"));
+        this.responsePassthrough = new ResponsePassthrough(passthroughProperties);
+    }
+
+    @Test
+    void isEnabled_shouldOnlyHoldForListedEndpoints() {
+        // then
+        assertTrue(this.responsePassthrough.isEnabled("orders"));
+        assertFalse(this.responsePassthrough.isEnabled("products"));
+    }
+
+    @Test
+    void copy_shouldWriteStatusEntityHeadersAndBodyAsTheyCame() throws IOException {
+        // given
+        final Map<String, Collection<String>> headers = new HashMap<>();
+        headers.put("content-type", List.of("application/json"));
+        headers.put("transfer-encoding", List.of("chunked"));
+        headers.put("connection", List.of("keep-alive"));
+        final MockHttpServletResponse servletResponse = new MockHttpServletResponse();
+
+        // when
+        this.responsePassthrough.copy(response(200, headers, new ByteArrayInputStream(BODY.getBytes(StandardCharsets.UTF_8))),
+                servletResponse);
+
+        // then
+        assertEquals(200, servletResponse.getStatus());
+        assertEquals("application/json", servletResponse.getContentType());
+        assertEquals(BODY, servletResponse.getContentAsString());
+        assertNull(servletResponse.getHeader("transfer-encoding"));
+        assertNull(servletResponse.getHeader("connection"));
+    }
+
+    @Test
+    void copy_shouldPassOnADownstreamErrorAndCloseTheBody() throws IOException {
+        // given
+        final AtomicBoolean closed = new AtomicBoolean();
+        final InputStream body = new ByteArrayInputStream("{\"msg\":\"Bad request\"}".getBytes(StandardCharsets.UTF_8)) {
+            @Override
+            public void close() throws IOException {
+                closed.set(true);
+                super.close();
+            }
+        };
+        final MockHttpServletResponse servletResponse = new MockHttpServletResponse();
+
+        // when
+        this.responsePassthrough.copy(response(400, Map.of("content-type", List.of("application/json")), body),
+                servletResponse);
+
+        // then
+        assertEquals(400, servletResponse.getStatus());
+        assertEquals("{\"msg\":\"Bad request\"}", servletResponse.getContentAsString());
+        assertTrue(closed.get());
+    }
+
+    private static Response response(final int status, final Map<String, Collection<String>> headers,
+            final InputStream body) {
+        return Response.builder()
+                .status(status)
+                .headers(headers)
+                .body(body, null)
+                .request(Request.create(HttpMethod.GET, "http://ORDER-SERVICE/order-service/api/orders", Map.of(),
+                        null, StandardCharsets.UTF_8, new RequestTemplate()))
+                .build();
+    }
+
+}
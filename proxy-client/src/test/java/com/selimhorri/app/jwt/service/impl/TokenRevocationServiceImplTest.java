@@ -0,0 +1,79 @@
+package com.selimhorri.app.jwt.service.impl;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Date;
+import java.util.List;
+import java.util.UUID;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import com.selimhorri.app.config.jwt.JwtProperties;
+import com.selimhorri.app.jwt.model.JwtClaims;
+
+/**
+ * Unit tests for TokenRevocationServiceImpl
+ * Tests that tokens issued before a revocation are void and later ones are not
+ */
+class TokenRevocationServiceImplTest {
+
+    private TokenRevocationServiceImpl tokenRevocationService;
+
+    @BeforeEach
+    void setUp() {
+        this.tokenRevocationService = new TokenRevocationServiceImpl(new JwtProperties());
+    }
+
+    @Test
+    void isRevoked_shouldVoidTokenIssuedBeforeRevocation() {
+        // given
+        final JwtClaims jwtClaims = claimsIssuedAt("selimhorri", new Date(System.currentTimeMillis() - 60_000));
+
+        // when
+        this.tokenRevocationService.revokeIssuedBefore("selimhorri");
+
+        // then
+        assertTrue(this.tokenRevocationService.isRevoked(jwtClaims));
+        assertFalse(this.tokenRevocationService.isRevoked(claimsIssuedAt("someone-else", jwtClaims.getIssuedAt())));
+    }
+
+    @Test
+    void isRevoked_shouldKeepTokenIssuedAfterRevocation() {
+        // given
+        this.tokenRevocationService.revokeIssuedBefore("selimhorri");
+
+        // when
+        final JwtClaims jwtClaims = claimsIssuedAt("selimhorri", new Date(System.currentTimeMillis() + 1_000));
+
+        // then
+        assertFalse(this.tokenRevocationService.isRevoked(jwtClaims));
+    }
+
+    @Test
+    void revoke_shouldVoidOnlyTheLoggedOutToken() {
+        // given
+        final JwtClaims loggedOut = claimsIssuedAt("selimhorri", new Date());
+        final JwtClaims otherDevice = claimsIssuedAt("selimhorri", loggedOut.getIssuedAt());
+
+        // when
+        this.tokenRevocationService.revoke(loggedOut);
+
+        // then
+        assertTrue(this.tokenRevocationService.isRevoked(loggedOut));
+        assertFalse(this.tokenRevocationService.isRevoked(otherDevice));
+    }
+
+    private static JwtClaims claimsIssuedAt(final String username, final Date issuedAt) {
+        return JwtClaims.builder()
+                .tokenId(UUID.randomUUID().toString())
+                .username(username)
+                .issuedAt(issuedAt)
+                .expiration(new Date(issuedAt.getTime() + 3_600_000))
+                .authorities(List.of("ROLE_USER"))
+                .enabled(true)
+                .build();
+    }
+
+}
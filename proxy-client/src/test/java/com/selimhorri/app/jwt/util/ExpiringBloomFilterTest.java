@@ -0,0 +1,66 @@
+package com.selimhorri.app.jwt.util;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Unit tests for ExpiringBloomFilter
+ * Tests that retained keys are never missed, unknown keys are rarely reported and old keys are forgotten
+ */
+class ExpiringBloomFilterTest {
+
+    private AtomicLong nanoTime;
+    private ExpiringBloomFilter bloomFilter;
+
+    @BeforeEach
+    void setUp() {
+        this.nanoTime = new AtomicLong();
+        this.bloomFilter = new ExpiringBloomFilter(10_000, 0.01, Duration.ofHours(1), this.nanoTime::get);
+    }
+
+    @Test
+    void mightContain_shouldNeverMissPutKeysAndRarelyReportOthers() {
+        // given
+        for (int i = 0; i < 10_000; i++) {
+            this.bloomFilter.put("t:" + i);
+        }
+
+        // when
+        int falsePositives = 0;
+        for (int i = 10_000; i < 110_000; i++) {
+            if (this.bloomFilter.mightContain("t:" + i)) {
+                falsePositives++;
+            }
+        }
+
+        // then
+        for (int i = 0; i < 10_000; i++) {
+            assertTrue(this.bloomFilter.mightContain("t:" + i));
+        }
+        assertTrue(falsePositives < 2_000, "false positives: " + falsePositives);
+    }
+
+    @Test
+    void mightContain_shouldKeepKeyForRetentionAndForgetItAfterTwoRotations() {
+        // given
+        this.nanoTime.set(Duration.ofMinutes(59).toNanos());
+        this.bloomFilter.put("u:selimhorri");
+
+        // when
+        this.nanoTime.set(Duration.ofMinutes(60).toNanos());
+        final boolean afterFirstRotation = this.bloomFilter.mightContain("u:selimhorri");
+        this.nanoTime.set(Duration.ofMinutes(120).toNanos());
+        final boolean afterSecondRotation = this.bloomFilter.mightContain("u:selimhorri");
+
+        // then
+        assertTrue(afterFirstRotation);
+        assertFalse(afterSecondRotation);
+    }
+
+}
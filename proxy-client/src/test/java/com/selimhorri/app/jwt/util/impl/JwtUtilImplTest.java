@@ -0,0 +1,123 @@
+package com.selimhorri.app.jwt.util.impl;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Date;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.core.userdetails.User;
+import org.springframework.security.core.userdetails.UserDetails;
+
+import com.selimhorri.app.config.jwt.JwtProperties;
+import com.selimhorri.app.jwt.model.JwtClaims;
+
+import io.jsonwebtoken.ExpiredJwtException;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.SignatureAlgorithm;
+import io.jsonwebtoken.SignatureException;
+
+/**
+ * Unit tests for JwtUtilImpl
+ * Tests single-parse token verification, validation of the parsed claims
+ * and the authorities signed into self-contained tokens
+ */
+class JwtUtilImplTest {
+
+    private JwtUtilImpl jwtUtil;
+    private UserDetails userDetails;
+
+    @BeforeEach
+    void setUp() {
+        final JwtProperties jwtProperties = new JwtProperties();
+        jwtProperties.setSecret("secret");
+        this.jwtUtil = new JwtUtilImpl(jwtProperties);
+        this.userDetails = new User("selimhorri", "", List.of(new SimpleGrantedAuthority("ROLE_USER")));
+    }
+
+    @Test
+    void parseToken_shouldReturnVerifiedClaims() {
+        // given
+        final String token = this.jwtUtil.generateToken(this.userDetails);
+
+        // when
+        final JwtClaims jwtClaims = this.jwtUtil.parseToken(token);
+
+        // then
+        assertEquals("selimhorri", jwtClaims.getUsername());
+        assertTrue(jwtClaims.getExpiration().after(new Date()));
+        assertTrue(this.jwtUtil.validateToken(jwtClaims, this.userDetails));
+    }
+
+    @Test
+    void generateToken_shouldSignAuthoritiesAndAccountState_whenSelfContained() {
+        // when
+        final JwtClaims jwtClaims = this.jwtUtil.parseToken(this.jwtUtil.generateToken(this.userDetails));
+
+        // then
+        assertTrue(jwtClaims.isSelfContained());
+        assertEquals(List.of("ROLE_USER"), jwtClaims.getAuthorities());
+        assertTrue(jwtClaims.getEnabled());
+    }
+
+    @Test
+    void generateToken_shouldOnlySignSubject_whenNotSelfContained() {
+        // given
+        final JwtProperties jwtProperties = new JwtProperties();
+        jwtProperties.setSecret("secret");
+        jwtProperties.setSelfContained(false);
+        final JwtUtilImpl lookupJwtUtil = new JwtUtilImpl(jwtProperties);
+
+        // when
+        final JwtClaims jwtClaims = lookupJwtUtil.parseToken(lookupJwtUtil.generateToken(this.userDetails));
+
+        // then
+        assertFalse(jwtClaims.isSelfContained());
+        assertEquals("selimhorri", jwtClaims.getUsername());
+    }
+
+    @Test
+    void parseToken_shouldRejectTokenSignedWithAnotherKey() {
+        // given
+        final String token = Jwts.builder()
+                .setSubject("selimhorri")
+                .signWith(SignatureAlgorithm.HS256, "another-secret")
+                .compact();
+
+        // when & then
+        assertThrows(SignatureException.class, () -> this.jwtUtil.parseToken(token));
+    }
+
+    @Test
+    void parseToken_shouldRejectExpiredToken() {
+        // given
+        final String token = Jwts.builder()
+                .setSubject("selimhorri")
+                .setExpiration(new Date(System.currentTimeMillis() - 1_000))
+                .signWith(SignatureAlgorithm.HS256, "secret")
+                .compact();
+
+        // when & then
+        assertThrows(ExpiredJwtException.class, () -> this.jwtUtil.parseToken(token));
+    }
+
+    @Test
+    void validateToken_shouldRejectClaimsOfAnotherUser() {
+        // given
+        final JwtClaims jwtClaims = JwtClaims.builder()
+                .username("someone-else")
+                .expiration(new Date(System.currentTimeMillis() + 60_000))
+                .authorities(List.of("ROLE_USER"))
+                .enabled(true)
+                .build();
+
+        // when & then
+        assertFalse(this.jwtUtil.validateToken(jwtClaims, this.userDetails));
+    }
+
+}
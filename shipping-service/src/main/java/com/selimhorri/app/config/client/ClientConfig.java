@@ -5,6 +5,7 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.cloud.client.loadbalancer.LoadBalanced;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.http.client.ClientHttpRequestFactory;
 import org.springframework.web.client.RestTemplate;
 
 import java.util.Collections;
@@ -17,8 +18,8 @@ public class ClientConfig {
 
 	@LoadBalanced
 	@Bean
-	public RestTemplate restTemplateBean() {
-		RestTemplate restTemplate = new RestTemplate();
+	public RestTemplate restTemplateBean(final ClientHttpRequestFactory clientHttpRequestFactory) {
+		RestTemplate restTemplate = new RestTemplate(clientHttpRequestFactory);
 		restTemplate.setInterceptors(Collections.singletonList(authorizationHeaderInterceptor));
 		return restTemplate;
 	}
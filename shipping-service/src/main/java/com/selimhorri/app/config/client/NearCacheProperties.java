@@ -0,0 +1,19 @@
+package com.selimhorri.app.config.client;
+
+import java.time.Duration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import lombok.Data;
+
+/**
+ * Bounds of the in-process caches kept in front of lookups to other services.
+ */
+@Data
+@ConfigurationProperties(prefix = "app.near-cache")
+public class NearCacheProperties {
+	
+	private long maximumSize = 10_000;
+	private Duration timeToLive = Duration.ofMinutes(5);
+	
+}
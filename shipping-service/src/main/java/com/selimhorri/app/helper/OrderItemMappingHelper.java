@@ -1,6 +1,7 @@
 package com.selimhorri.app.helper;
 
 import com.selimhorri.app.domain.OrderItem;
+import com.selimhorri.app.domain.id.OrderItemId;
 import com.selimhorri.app.dto.OrderDto;
 import com.selimhorri.app.dto.OrderItemDto;
 import com.selimhorri.app.dto.ProductDto;
@@ -31,6 +32,19 @@ public interface OrderItemMappingHelper {
 				.build();
 	}
 	
+	/**
+	 * Writes the key of an order item as a page cursor, {@code productId,orderId}, in the column
+	 * order of the primary key.
+	 */
+	public static String toCursor(final OrderItemDto orderItemDto) {
+		return orderItemDto.getProductId() + "," + orderItemDto.getOrderId();
+	}
+	
+	public static OrderItemId fromCursor(final String cursor) {
+		final String[] key = cursor.split(",", 2);
+		return new OrderItemId(Integer.parseInt(key[0]), Integer.parseInt(key[1]));
+	}
+	
 	
 	
 }
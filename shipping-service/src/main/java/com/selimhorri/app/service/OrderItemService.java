@@ -4,10 +4,12 @@ import java.util.List;
 
 import com.selimhorri.app.domain.id.OrderItemId;
 import com.selimhorri.app.dto.OrderItemDto;
+import com.selimhorri.app.dto.response.collection.DtoCollectionResponse;
 
 public interface OrderItemService {
 	
-	List<OrderItemDto> findAll();
+	DtoCollectionResponse<OrderItemDto> findAll(final OrderItemId after, final int limit);
+	List<OrderItemDto> findAllByOrderId(final Integer orderId);
 	OrderItemDto findById(final OrderItemId orderItemId);
 	OrderItemDto save(final OrderItemDto orderItemDto);
 	OrderItemDto update(final OrderItemDto orderItemDto);
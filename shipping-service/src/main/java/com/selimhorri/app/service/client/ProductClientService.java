@@ -0,0 +1,105 @@
+package com.selimhorri.app.service.client;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+
+import org.springframework.core.ParameterizedTypeReference;
+import org.springframework.http.HttpMethod;
+import org.springframework.stereotype.Service;
+import org.springframework.web.client.RestTemplate;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.selimhorri.app.constant.AppConstant;
+import com.selimhorri.app.dto.ProductDto;
+import com.selimhorri.app.dto.response.collection.DtoCollectionResponse;
+import com.selimhorri.app.helper.ChunkingHelper;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Resolves products from PRODUCT-SERVICE through its multi-id endpoint,
+ * so that enriching a listing costs one call per chunk of distinct ids
+ * instead of one call per row. Chunks are fetched concurrently; ids already
+ * resolved earlier in the same request are served from {@link RequestLookupCache}
+ * and recently seen ones from the near-cache.
+ */
+@Service
+@Slf4j
+@RequiredArgsConstructor
+public class ProductClientService {
+	
+	private static final String TARGET_SERVICE = "PRODUCT-SERVICE";
+	private static final ParameterizedTypeReference<DtoCollectionResponse<ProductDto>> PRODUCT_COLLECTION_TYPE = 
+			new ParameterizedTypeReference<>() {};
+	
+	private final RestTemplate restTemplate;
+	private final EnrichmentExecutor enrichmentExecutor;
+	private final RequestLookupCache requestLookupCache;
+	private final Cache<Integer, ProductDto> productNearCache;
+	
+	public ProductDto findById(final Integer productId) {
+		log.info("*** ProductDto, client; fetch product by id *");
+		return this.productNearCache.get(productId, id -> this.restTemplate
+				.getForObject(AppConstant.DiscoveredDomainsApi.PRODUCT_SERVICE_API_URL + "/" + id, ProductDto.class));
+	}
+	
+	public Map<Integer, ProductDto> findAllByIds(final Collection<Integer> productIds) {
+		return this.enrichmentExecutor.await(this.findAllByIdsAsync(productIds));
+	}
+	
+	public CompletableFuture<Map<Integer, ProductDto>> findAllByIdsAsync(final Collection<Integer> productIds) {
+		log.info("*** ProductDto Map, client; fetch products by ids *");
+		final Collection<Integer> distinctIds = productIds.stream()
+				.filter(Objects::nonNull)
+				.collect(Collectors.toCollection(LinkedHashSet::new));
+		final RequestLookupCache.Scope lookupScope = this.requestLookupCache.forCurrentRequest();
+		final Map<Integer, ProductDto> cachedProductDtos = new HashMap<>(lookupScope.getAllPresent(TARGET_SERVICE, distinctIds));
+		cachedProductDtos.putAll(this.productNearCache.getAllPresent(distinctIds.stream()
+				.filter(id -> !cachedProductDtos.containsKey(id))
+				.collect(Collectors.toUnmodifiableList())));
+		final List<Integer> missingIds = distinctIds.stream()
+				.filter(id -> !cachedProductDtos.containsKey(id))
+				.collect(Collectors.toUnmodifiableList());
+		final List<Supplier<Collection<ProductDto>>> lookups = ChunkingHelper
+				.partition(missingIds, AppConstant.BATCH_LOOKUP_CHUNK_SIZE)
+				.stream()
+					.map(chunk -> (Supplier<Collection<ProductDto>>) () -> this.fetchChunk(chunk))
+					.collect(Collectors.toUnmodifiableList());
+		return this.enrichmentExecutor.submitAll(TARGET_SERVICE, lookups)
+				.thenApply(chunks -> {
+					final Map<Integer, ProductDto> productDtos = chunks.stream()
+							.flatMap(Collection::stream)
+							.collect(Collectors.toMap(ProductDto::getProductId, Function.identity(), (first, second) -> first, HashMap::new));
+					lookupScope.putAll(TARGET_SERVICE, productDtos);
+					this.productNearCache.putAll(productDtos);
+					productDtos.putAll(cachedProductDtos);
+					return productDtos;
+				});
+	}
+	
+	private Collection<ProductDto> fetchChunk(final Collection<Integer> productIds) {
+		final DtoCollectionResponse<ProductDto> response = this.restTemplate
+				.exchange(AppConstant.DiscoveredDomainsApi.PRODUCT_SERVICE_API_URL + "?ids={ids}", 
+						HttpMethod.GET, null, PRODUCT_COLLECTION_TYPE, joinIds(productIds))
+				.getBody();
+		return response == null || response.getCollection() == null ? List.of() : response.getCollection();
+	}
+	
+	private static String joinIds(final Collection<Integer> ids) {
+		return ids.stream()
+				.map(String::valueOf)
+				.collect(Collectors.joining(","));
+	}
+	
+	
+	
+}
@@ -1,22 +1,29 @@
 package com.selimhorri.app.service.impl;
 
+import java.util.Collections;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
 import java.util.stream.Collectors;
 
 import javax.transaction.Transactional;
 
 import org.springframework.stereotype.Service;
-import org.springframework.web.client.RestTemplate;
 
-import com.selimhorri.app.constant.AppConstant;
+import com.selimhorri.app.domain.OrderItem;
 import com.selimhorri.app.domain.id.OrderItemId;
 import com.selimhorri.app.dto.OrderDto;
 import com.selimhorri.app.dto.OrderItemDto;
 import com.selimhorri.app.dto.ProductDto;
+import com.selimhorri.app.dto.response.collection.DtoCollectionResponse;
 import com.selimhorri.app.exception.wrapper.OrderItemNotFoundException;
+import com.selimhorri.app.helper.KeysetPageHelper;
 import com.selimhorri.app.helper.OrderItemMappingHelper;
 import com.selimhorri.app.repository.OrderItemRepository;
 import com.selimhorri.app.service.OrderItemService;
+import com.selimhorri.app.service.client.EnrichmentExecutor;
+import com.selimhorri.app.service.client.OrderClientService;
+import com.selimhorri.app.service.client.ProductClientService;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -28,35 +35,75 @@ import lombok.extern.slf4j.Slf4j;
 public class OrderItemServiceImpl implements OrderItemService {
 	
 	private final OrderItemRepository orderItemRepository;
-	private final RestTemplate restTemplate;
+	private final ProductClientService productClientService;
+	private final OrderClientService orderClientService;
+	private final EnrichmentExecutor enrichmentExecutor;
 	
 	@Override
-	public List<OrderItemDto> findAll() {
+	public DtoCollectionResponse<OrderItemDto> findAll(final OrderItemId after, final int limit) {
 		log.info("*** OrderItemDto List, service; fetch all orderItems *");
-		return this.orderItemRepository.findAll()
+		final List<OrderItem> orderItems = (after == null)
+				? this.orderItemRepository.findAllFromStart(KeysetPageHelper.firstRows(limit))
+				: this.orderItemRepository.findAllAfter(after.getProductId(), after.getOrderId(), KeysetPageHelper.firstRows(limit));
+		final DtoCollectionResponse<OrderItemDto> page = KeysetPageHelper.page(orderItems
 				.stream()
 					.map(OrderItemMappingHelper::map)
+					.collect(Collectors.toUnmodifiableList()), limit, OrderItemMappingHelper::toCursor);
+		final CompletableFuture<Map<Integer, ProductDto>> productDtosFuture = this.productClientService.findAllByIdsAsync(page.getCollection()
+				.stream()
+					.map(OrderItemDto::getProductId)
+					.collect(Collectors.toSet()));
+		final CompletableFuture<Map<Integer, OrderDto>> orderDtosFuture = this.orderClientService.findAllByIdsAsync(page.getCollection()
+				.stream()
+					.map(OrderItemDto::getOrderId)
+					.collect(Collectors.toSet()));
+		final Map<Integer, ProductDto> productDtos = this.enrichmentExecutor.await(productDtosFuture);
+		final Map<Integer, OrderDto> orderDtos = this.enrichmentExecutor.await(orderDtosFuture);
+		return new DtoCollectionResponse<>(page.getCollection().stream()
 					.map(o -> {
-						o.setProductDto(this.restTemplate.getForObject(AppConstant.DiscoveredDomainsApi
-								.PRODUCT_SERVICE_API_URL + "/" + o.getProductDto().getProductId(), ProductDto.class));
-						o.setOrderDto(this.restTemplate.getForObject(AppConstant.DiscoveredDomainsApi
-								.ORDER_SERVICE_API_URL + "/" + o.getOrderDto().getOrderId(), OrderDto.class));
+						o.setProductDto(productDtos.getOrDefault(o.getProductId(), o.getProductDto()));
+						o.setOrderDto(orderDtos.getOrDefault(o.getOrderId(), o.getOrderDto()));
 						return o;
 					})
+					.collect(Collectors.toUnmodifiableList()), page.getNext());
+	}
+	
+	/**
+	 * Items of one order with their products, for callers that already hold the order: only
+	 * its id is set.
+	 */
+	@Override
+	public List<OrderItemDto> findAllByOrderId(final Integer orderId) {
+		log.info("*** OrderItemDto List, service; fetch orderItems by order id *");
+		final List<OrderItemDto> orderItemDtos = this.orderItemRepository.findAllByOrderId(orderId)
+				.stream()
+					.map(OrderItemMappingHelper::map)
 					.distinct()
 					.collect(Collectors.toUnmodifiableList());
+		final Map<Integer, ProductDto> productDtos = this.productClientService.findAllByIds(orderItemDtos
+				.stream()
+					.map(OrderItemDto::getProductId)
+					.collect(Collectors.toSet()));
+		return orderItemDtos.stream()
+					.map(o -> {
+						o.setProductDto(productDtos.getOrDefault(o.getProductId(), o.getProductDto()));
+						return o;
+					})
+					.collect(Collectors.toUnmodifiableList());
 	}
 	
 	@Override
 	public OrderItemDto findById(final OrderItemId orderItemId) {
 		log.info("*** OrderItemDto, service; fetch orderItem by id *");
-		return this.orderItemRepository.findById(null)
+		return this.orderItemRepository.findById(orderItemId)
 				.map(OrderItemMappingHelper::map)
 				.map(o -> {
-					o.setProductDto(this.restTemplate.getForObject(AppConstant.DiscoveredDomainsApi
-							.PRODUCT_SERVICE_API_URL + "/" + o.getProductDto().getProductId(), ProductDto.class));
-					o.setOrderDto(this.restTemplate.getForObject(AppConstant.DiscoveredDomainsApi
-							.ORDER_SERVICE_API_URL + "/" + o.getOrderDto().getOrderId(), OrderDto.class));
+					final CompletableFuture<ProductDto> productDtoFuture = this.enrichmentExecutor.submit("PRODUCT-SERVICE", 
+							() -> this.productClientService.findById(o.getProductDto().getProductId()));
+					final CompletableFuture<Map<Integer, OrderDto>> orderDtosFuture = this.orderClientService
+							.findAllByIdsAsync(Collections.singletonList(o.getOrderId()));
+					o.setProductDto(this.enrichmentExecutor.await(productDtoFuture));
+					o.setOrderDto(this.enrichmentExecutor.await(orderDtosFuture).getOrDefault(o.getOrderId(), o.getOrderDto()));
 					return o;
 				})
 				.orElseThrow(() -> new OrderItemNotFoundException(String.format("OrderItem with id: %s not found", orderItemId)));
@@ -1,13 +1,20 @@
 package com.selimhorri.app.repository;
 
+import java.util.List;
 import java.util.Optional;
 
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 import com.selimhorri.app.domain.Credential;
 
 public interface CredentialRepository extends JpaRepository<Credential, Integer> {
 	
+	@Query("SELECT c FROM Credential c LEFT JOIN FETCH c.user WHERE c.credentialId > :after ORDER BY c.credentialId")
+	List<Credential> findAllAfter(@Param("after") final Integer after, final Pageable pageable);
+	
 	Optional<Credential> findByUsername(final String username);
 	
 }
@@ -1,13 +1,24 @@
 package com.selimhorri.app.repository;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 import com.selimhorri.app.domain.User;
 
 public interface UserRepository extends JpaRepository<User, Integer> {
 	
+	@Query("SELECT u FROM User u LEFT JOIN FETCH u.credential WHERE u.userId > :after ORDER BY u.userId")
+	List<User> findAllAfter(@Param("after") final Integer after, final Pageable pageable);
+	
 	Optional<User> findByCredentialUsername(final String username);
 	
+	@Query("SELECT u FROM User u LEFT JOIN FETCH u.credential WHERE u.userId IN :userIds")
+	List<User> findAllByUserIdIn(@Param("userIds") final Collection<Integer> userIds);
+	
 }
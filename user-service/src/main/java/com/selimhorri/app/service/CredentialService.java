@@ -1,12 +1,11 @@
 package com.selimhorri.app.service;
 
-import java.util.List;
-
 import com.selimhorri.app.dto.CredentialDto;
+import com.selimhorri.app.dto.response.collection.DtoCollectionResponse;
 
 public interface CredentialService {
 	
-	List<CredentialDto> findAll();
+	DtoCollectionResponse<CredentialDto> findAll(final Integer after, final int limit);
 	CredentialDto findById(final Integer credentialId);
 	CredentialDto save(final CredentialDto credentialDto);
 	CredentialDto update(final CredentialDto credentialDto);
@@ -1,12 +1,15 @@
 package com.selimhorri.app.service;
 
+import java.util.Collection;
 import java.util.List;
 
 import com.selimhorri.app.dto.UserDto;
+import com.selimhorri.app.dto.response.collection.DtoCollectionResponse;
 
 public interface UserService {
 	
-	List<UserDto> findAll();
+	DtoCollectionResponse<UserDto> findAll(final Integer after, final int limit);
+	List<UserDto> findAllByIds(final Collection<Integer> userIds);
 	UserDto findById(final Integer userId);
 	UserDto save(final UserDto userDto);
 	UserDto update(final UserDto userDto);
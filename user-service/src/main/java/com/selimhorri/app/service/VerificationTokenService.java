@@ -1,12 +1,11 @@
 package com.selimhorri.app.service;
 
-import java.util.List;
-
 import com.selimhorri.app.dto.VerificationTokenDto;
+import com.selimhorri.app.dto.response.collection.DtoCollectionResponse;
 
 public interface VerificationTokenService {
 	
-	List<VerificationTokenDto> findAll();
+	DtoCollectionResponse<VerificationTokenDto> findAll(final Integer after, final int limit);
 	VerificationTokenDto findById(final Integer verificationTokenId);
 	VerificationTokenDto save(final VerificationTokenDto verificationTokenDto);
 	VerificationTokenDto update(final VerificationTokenDto verificationTokenDto);
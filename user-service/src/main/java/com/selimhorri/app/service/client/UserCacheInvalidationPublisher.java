@@ -0,0 +1,125 @@
+package com.selimhorri.app.service.client;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+import javax.annotation.PreDestroy;
+
+import org.springframework.boot.web.client.RestTemplateBuilder;
+import org.springframework.cloud.client.ServiceInstance;
+import org.springframework.cloud.client.discovery.DiscoveryClient;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.web.client.RestClientException;
+import org.springframework.web.client.RestTemplate;
+
+import com.selimhorri.app.config.client.CacheInvalidationProperties;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Tells every instance of the services that cache users or credentials to drop an entry
+ * once the change is committed. Delivery is best effort: an instance that misses
+ * the call keeps serving the old entry until its TTL expires.
+ */
+@Component
+@Slf4j
+public class UserCacheInvalidationPublisher {
+	
+	private static final String USERS_CACHE = "users";
+	private static final String CREDENTIALS_CACHE = "credentials";
+	
+	/**
+	 * Subscribing services by the path their cache endpoints live under. The api-gateway only
+	 * serves its hook as an actuator endpoint, on the management port it registers.
+	 */
+	private static final Map<String, String> USERS_SUBSCRIBERS = Map.of(
+			"FAVOURITE-SERVICE", "/favourite-service/api/caches", 
+			"ORDER-SERVICE", "/order-service/api/caches");
+	private static final Map<String, String> CREDENTIALS_SUBSCRIBERS = Map.of(
+			"PROXY-CLIENT", "/api/caches", 
+			"API-GATEWAY", "/actuator/revocations");
+	private static final String MANAGEMENT_PORT = "management.port";
+	
+	private final DiscoveryClient discoveryClient;
+	private final RestTemplate restTemplate;
+	private final ThreadPoolExecutor executor;
+	
+	public UserCacheInvalidationPublisher(final DiscoveryClient discoveryClient, 
+			final RestTemplateBuilder restTemplateBuilder, 
+			final CacheInvalidationProperties cacheInvalidationProperties) {
+		this.discoveryClient = discoveryClient;
+		// instances are addressed directly, so this template is deliberately not @LoadBalanced
+		this.restTemplate = restTemplateBuilder
+				.setConnectTimeout(Duration.ofMillis(500))
+				.setReadTimeout(Duration.ofSeconds(1))
+				.defaultHeader(CacheInvalidationProperties.HEADER, String.valueOf(cacheInvalidationProperties.getSecret()))
+				.build();
+		final CustomizableThreadFactory threadFactory = new CustomizableThreadFactory("cache-invalidation-");
+		threadFactory.setDaemon(true);
+		this.executor = new ThreadPoolExecutor(1, 1, 0L, TimeUnit.MILLISECONDS, 
+				new ArrayBlockingQueue<>(1_000), threadFactory, new ThreadPoolExecutor.DiscardOldestPolicy());
+	}
+	
+	public void publish(final Integer userId) {
+		if (userId != null) {
+			this.afterCommit(() -> this.broadcast(USERS_CACHE, USERS_SUBSCRIBERS, userId));
+		}
+	}
+	
+	public void publishCredential(final String username) {
+		if (username != null) {
+			this.afterCommit(() -> this.broadcast(CREDENTIALS_CACHE, CREDENTIALS_SUBSCRIBERS, username));
+		}
+	}
+	
+	private void afterCommit(final Runnable broadcast) {
+		if (TransactionSynchronizationManager.isSynchronizationActive()) {
+			TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+				@Override
+				public void afterCommit() {
+					executor.execute(broadcast);
+				}
+			});
+		}
+		else {
+			this.executor.execute(broadcast);
+		}
+	}
+	
+	private void broadcast(final String cacheName, final Map<String, String> subscribers, final Object key) {
+		subscribers.forEach((serviceId, basePath) -> this.discoveryClient.getInstances(serviceId)
+				.forEach(instance -> this.invalidate(cacheName, basePath, instance, key)));
+	}
+	
+	private void invalidate(final String cacheName, final String basePath, 
+			final ServiceInstance instance, final Object key) {
+		try {
+			this.restTemplate.delete(uriOf(instance, basePath) + "/" + cacheName + "/{key}", key);
+		}
+		catch (RestClientException e) {
+			log.warn("Could not invalidate {} {} on {}: {}", cacheName, key, instance.getUri(), e.getMessage());
+		}
+	}
+	
+	private static String uriOf(final ServiceInstance instance, final String path) {
+		final String managementPort = instance.getMetadata().get(MANAGEMENT_PORT);
+		if (path.startsWith("/actuator/") && managementPort != null) {
+			return instance.getScheme() + "://" + instance.getHost() + ":" + managementPort + path;
+		}
+		return instance.getUri() + path;
+	}
+	
+	@PreDestroy
+	public void shutdown() {
+		this.executor.shutdown();
+	}
+	
+	
+	
+}
@@ -1,6 +1,5 @@
 package com.selimhorri.app.service.impl;
 
-import java.util.List;
 import java.util.stream.Collectors;
 
 import javax.transaction.Transactional;
@@ -8,8 +7,10 @@ import javax.transaction.Transactional;
 import org.springframework.stereotype.Service;
 
 import com.selimhorri.app.dto.AddressDto;
+import com.selimhorri.app.dto.response.collection.DtoCollectionResponse;
 import com.selimhorri.app.exception.wrapper.AddressNotFoundException;
 import com.selimhorri.app.helper.AddressMappingHelper;
+import com.selimhorri.app.helper.KeysetPageHelper;
 import com.selimhorri.app.repository.AddressRepository;
 import com.selimhorri.app.service.AddressService;
 
@@ -25,13 +26,12 @@ public class AddressServiceImpl implements AddressService {
 	private final AddressRepository addressRepository;
 	
 	@Override
-	public List<AddressDto> findAll() {
+	public DtoCollectionResponse<AddressDto> findAll(final Integer after, final int limit) {
 		log.info("*** AddressDto List, service; fetch all addresss *");
-		return this.addressRepository.findAll()
+		return KeysetPageHelper.page(this.addressRepository.findAllAfter(after == null ? 0 : after, KeysetPageHelper.firstRows(limit))
 				.stream()
 					.map(AddressMappingHelper::map)
-					.distinct()
-					.collect(Collectors.toUnmodifiableList());
+					.collect(Collectors.toUnmodifiableList()), limit, AddressDto::getAddressId);
 	}
 	
 	@Override
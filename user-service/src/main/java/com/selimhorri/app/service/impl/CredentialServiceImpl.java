@@ -1,18 +1,21 @@
 package com.selimhorri.app.service.impl;
 
-import java.util.List;
 import java.util.stream.Collectors;
 
 import javax.transaction.Transactional;
 
 import org.springframework.stereotype.Service;
 
+import com.selimhorri.app.domain.Credential;
 import com.selimhorri.app.dto.CredentialDto;
+import com.selimhorri.app.dto.response.collection.DtoCollectionResponse;
 import com.selimhorri.app.exception.wrapper.CredentialNotFoundException;
 import com.selimhorri.app.exception.wrapper.UserObjectNotFoundException;
 import com.selimhorri.app.helper.CredentialMappingHelper;
+import com.selimhorri.app.helper.KeysetPageHelper;
 import com.selimhorri.app.repository.CredentialRepository;
 import com.selimhorri.app.service.CredentialService;
+import com.selimhorri.app.service.client.UserCacheInvalidationPublisher;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -24,15 +27,15 @@ import lombok.extern.slf4j.Slf4j;
 public class CredentialServiceImpl implements CredentialService {
 	
 	private final CredentialRepository credentialRepository;
+	private final UserCacheInvalidationPublisher userCacheInvalidationPublisher;
 	
 	@Override
-	public List<CredentialDto> findAll() {
+	public DtoCollectionResponse<CredentialDto> findAll(final Integer after, final int limit) {
 		log.info("*** CredentialDto List, service; fetch all credentials *");
-		return this.credentialRepository.findAll()
+		return KeysetPageHelper.page(this.credentialRepository.findAllAfter(after == null ? 0 : after, KeysetPageHelper.firstRows(limit))
 				.stream()
 					.map(CredentialMappingHelper::map)
-					.distinct()
-					.collect(Collectors.toUnmodifiableList());
+					.collect(Collectors.toUnmodifiableList()), limit, CredentialDto::getCredentialId);
 	}
 	
 	@Override
@@ -46,26 +49,46 @@ public class CredentialServiceImpl implements CredentialService {
 	@Override
 	public CredentialDto save(final CredentialDto credentialDto) {
 		log.info("*** CredentialDto, service; save credential *");
-		return CredentialMappingHelper.map(this.credentialRepository.save(CredentialMappingHelper.map(credentialDto)));
+		final CredentialDto savedCredentialDto = CredentialMappingHelper.map(
+				this.credentialRepository.save(CredentialMappingHelper.map(credentialDto)));
+		this.userCacheInvalidationPublisher.publishCredential(savedCredentialDto.getUsername());
+		return savedCredentialDto;
 	}
 	
 	@Override
 	public CredentialDto update(final CredentialDto credentialDto) {
 		log.info("*** CredentialDto, service; update credential *");
-		return CredentialMappingHelper.map(this.credentialRepository.save(CredentialMappingHelper.map(credentialDto)));
+		final String previousUsername = credentialDto.getCredentialId() == null ? null 
+				: this.credentialRepository.findById(credentialDto.getCredentialId())
+					.map(Credential::getUsername)
+					.orElse(null);
+		final CredentialDto updatedCredentialDto = CredentialMappingHelper.map(
+				this.credentialRepository.save(CredentialMappingHelper.map(credentialDto)));
+		this.userCacheInvalidationPublisher.publishCredential(updatedCredentialDto.getUsername());
+		if (previousUsername != null && !previousUsername.equals(updatedCredentialDto.getUsername())) {
+			// a rename would otherwise leave the old username's cached details and tokens valid
+			this.userCacheInvalidationPublisher.publishCredential(previousUsername);
+		}
+		return updatedCredentialDto;
 	}
 	
 	@Override
 	public CredentialDto update(final Integer credentialId, final CredentialDto credentialDto) {
 		log.info("*** CredentialDto, service; update credential with credentialId *");
-		return CredentialMappingHelper.map(this.credentialRepository.save(
+		final CredentialDto updatedCredentialDto = CredentialMappingHelper.map(this.credentialRepository.save(
 				CredentialMappingHelper.map(this.findById(credentialId))));
+		this.userCacheInvalidationPublisher.publishCredential(updatedCredentialDto.getUsername());
+		return updatedCredentialDto;
 	}
 	
 	@Override
 	public void deleteById(final Integer credentialId) {
 		log.info("*** Void, service; delete credential by id *");
+		final String username = this.credentialRepository.findById(credentialId)
+				.map(Credential::getUsername)
+				.orElse(null);
 		this.credentialRepository.deleteById(credentialId);
+		this.userCacheInvalidationPublisher.publishCredential(username);
 	}
 	
 	@Override
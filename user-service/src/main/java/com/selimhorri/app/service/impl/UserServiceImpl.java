@@ -1,5 +1,6 @@
 package com.selimhorri.app.service.impl;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.stream.Collectors;
 
@@ -8,13 +9,17 @@ import javax.transaction.Transactional;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 
+import com.selimhorri.app.domain.Credential;
 import com.selimhorri.app.domain.User;
 import com.selimhorri.app.dto.UserDto;
+import com.selimhorri.app.dto.response.collection.DtoCollectionResponse;
 import com.selimhorri.app.exception.wrapper.UserObjectNotFoundException;
+import com.selimhorri.app.helper.KeysetPageHelper;
 import com.selimhorri.app.helper.UserMappingHelper;
 import com.selimhorri.app.repository.CredentialRepository;
 import com.selimhorri.app.repository.UserRepository;
 import com.selimhorri.app.service.UserService;
+import com.selimhorri.app.service.client.UserCacheInvalidationPublisher;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -28,11 +33,24 @@ public class UserServiceImpl implements UserService {
 	private final UserRepository userRepository;
 	private final CredentialRepository credentialRepository;
 	private final PasswordEncoder passwordEncoder;
+	private final UserCacheInvalidationPublisher userCacheInvalidationPublisher;
 	
 	@Override
-	public List<UserDto> findAll() {
+	public DtoCollectionResponse<UserDto> findAll(final Integer after, final int limit) {
 		log.info("*** UserDto List, service; fetch all users *");
-		return this.userRepository.findAll()
+		return KeysetPageHelper.page(this.userRepository.findAllAfter(after == null ? 0 : after, KeysetPageHelper.firstRows(limit))
+				.stream()
+					.map(UserMappingHelper::map)
+					.collect(Collectors.toUnmodifiableList()), limit, UserDto::getUserId);
+	}
+	
+	@Override
+	public List<UserDto> findAllByIds(final Collection<Integer> userIds) {
+		log.info("*** UserDto List, service; fetch users by ids *");
+		if (userIds == null || userIds.isEmpty()) {
+			return List.of();
+		}
+		return this.userRepository.findAllByUserIdIn(userIds)
 				.stream()
 					.map(UserMappingHelper::map)
 					.distinct()
@@ -73,26 +91,37 @@ public class UserServiceImpl implements UserService {
 		// Set credential back for the return mapping
 		savedUser.setCredential(credential);
 		
+		this.userCacheInvalidationPublisher.publish(savedUser.getUserId());
 		return UserMappingHelper.map(savedUser);
 	}
 	
 	@Override
 	public UserDto update(final UserDto userDto) {
 		log.info("*** UserDto, service; update user *");
-		return UserMappingHelper.map(this.userRepository.save(UserMappingHelper.map(userDto)));
+		final UserDto updatedUserDto = UserMappingHelper.map(this.userRepository.save(UserMappingHelper.map(userDto)));
+		this.userCacheInvalidationPublisher.publish(updatedUserDto.getUserId());
+		return updatedUserDto;
 	}
 	
 	@Override
 	public UserDto update(final Integer userId, final UserDto userDto) {
 		log.info("*** UserDto, service; update user with userId *");
-		return UserMappingHelper.map(this.userRepository.save(
+		final UserDto updatedUserDto = UserMappingHelper.map(this.userRepository.save(
 				UserMappingHelper.map(this.findById(userId))));
+		this.userCacheInvalidationPublisher.publish(userId);
+		return updatedUserDto;
 	}
 	
 	@Override
 	public void deleteById(final Integer userId) {
 		log.info("*** Void, service; delete user by id *");
+		final String username = this.userRepository.findById(userId)
+				.map(User::getCredential)
+				.map(Credential::getUsername)
+				.orElse(null);
 		this.userRepository.deleteById(userId);
+		this.userCacheInvalidationPublisher.publish(userId);
+		this.userCacheInvalidationPublisher.publishCredential(username);
 	}
 	
 	@Override
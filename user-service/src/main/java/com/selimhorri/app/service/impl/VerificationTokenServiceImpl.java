@@ -1,6 +1,5 @@
 package com.selimhorri.app.service.impl;
 
-import java.util.List;
 import java.util.stream.Collectors;
 
 import javax.transaction.Transactional;
@@ -8,7 +7,9 @@ import javax.transaction.Transactional;
 import org.springframework.stereotype.Service;
 
 import com.selimhorri.app.dto.VerificationTokenDto;
+import com.selimhorri.app.dto.response.collection.DtoCollectionResponse;
 import com.selimhorri.app.exception.wrapper.VerificationTokenNotFoundException;
+import com.selimhorri.app.helper.KeysetPageHelper;
 import com.selimhorri.app.helper.VerificationTokenMappingHelper;
 import com.selimhorri.app.repository.VerificationTokenRepository;
 import com.selimhorri.app.service.VerificationTokenService;
@@ -25,13 +26,12 @@ public class VerificationTokenServiceImpl implements VerificationTokenService {
 	private final VerificationTokenRepository verificationTokenRepository;
 	
 	@Override
-	public List<VerificationTokenDto> findAll() {
+	public DtoCollectionResponse<VerificationTokenDto> findAll(final Integer after, final int limit) {
 		log.info("*** VerificationTokenDto List, service; fetch all verificationTokens *");
-		return this.verificationTokenRepository.findAll()
+		return KeysetPageHelper.page(this.verificationTokenRepository.findAllAfter(after == null ? 0 : after, KeysetPageHelper.firstRows(limit))
 				.stream()
 					.map(VerificationTokenMappingHelper::map)
-					.distinct()
-					.collect(Collectors.toUnmodifiableList());
+					.collect(Collectors.toUnmodifiableList()), limit, VerificationTokenDto::getVerificationTokenId);
 	}
 	
 	@Override
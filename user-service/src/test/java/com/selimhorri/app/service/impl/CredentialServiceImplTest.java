@@ -24,6 +24,7 @@ import com.selimhorri.app.dto.CredentialDto;
 import com.selimhorri.app.exception.wrapper.CredentialNotFoundException;
 import com.selimhorri.app.helper.CredentialMappingHelper;
 import com.selimhorri.app.repository.CredentialRepository;
+import com.selimhorri.app.service.client.UserCacheInvalidationPublisher;
 
 /**
  * Unit tests for CredentialServiceImpl
@@ -36,6 +37,9 @@ class CredentialServiceImplTest {
     @Mock
     private CredentialRepository credentialRepository;
 
+    @Mock
+    private UserCacheInvalidationPublisher userCacheInvalidationPublisher;
+
     @InjectMocks
     private CredentialServiceImpl credentialService;
 
@@ -128,6 +132,26 @@ class CredentialServiceImplTest {
         assertNotNull(result);
         assertEquals(false, result.getIsEnabled());
         verify(this.credentialRepository, times(1)).save(any(Credential.class));
+        verify(this.userCacheInvalidationPublisher, times(1)).publishCredential("johndoe");
+    }
+
+    @Test
+    void update_shouldPublishOldAndNewUsername_whenUsernameChanges() {
+        // given
+        final CredentialDto renamedDto = CredentialMappingHelper.map(this.credential);
+        renamedDto.setUsername("jdoe");
+        when(this.credentialRepository.findById(1))
+                .thenReturn(Optional.of(this.credential));
+        when(this.credentialRepository.save(any(Credential.class)))
+                .thenReturn(CredentialMappingHelper.map(renamedDto));
+
+        // when
+        final CredentialDto result = this.credentialService.update(renamedDto);
+
+        // then
+        assertEquals("jdoe", result.getUsername());
+        verify(this.userCacheInvalidationPublisher, times(1)).publishCredential("jdoe");
+        verify(this.userCacheInvalidationPublisher, times(1)).publishCredential("johndoe");
     }
 
     @Test